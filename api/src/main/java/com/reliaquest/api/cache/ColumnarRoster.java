@@ -0,0 +1,699 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Immutable roster stored column by column in primitive arrays instead of one {@link Employee} object per row.
+ * <p>
+ * Salaries and ages are {@code int[]}; titles are dictionary-encoded; ids that are canonical UUID strings (all of the
+ * mock server's are) are packed into two {@code long}s; names and emails share one UTF-8 byte arena. A row costs
+ * roughly a tenth of the heap of the object graph Jackson produces for it, at the price of an {@link Employee} being
+ * created whenever one is read. Aggregates and name search run on the columns directly: the highest salary is kept
+ * from the build, top earners come from a bounded heap over {@code salaries} and search compares arena bytes, falling
+ * back to {@link String#toLowerCase(Locale)} only for names outside ASCII.
+ * <p>
+ * A write derives a roster that shares the columns and keeps what was written since they were built in a small
+ * overlay: the rewritten rows, each with its new employee or none once deleted, and the employees appended after the
+ * last row. Reads merge the overlay in roster order. The overlay is copied per write, so once it holds more than 64
+ * writes, or the square root of the row count if larger, the next write builds new columns instead, copying the
+ * unchanged rows' bytes without decoding them; a refresh from the upstream builds new columns anyway.
+ */
+public final class ColumnarRoster {
+
+    private static final byte NAME_NULL = 1;
+    private static final byte EMAIL_NULL = 2;
+    private static final byte NAME_NON_ASCII = 4;
+    private static final byte ID_UNPACKED = 8;
+    private static final int MIN_WRITES_TO_REBUILD = 64;
+    private static final Comparator<Written> BY_RANK = Comparator.comparingInt((Written written) -> written.salary())
+            .reversed()
+            .thenComparingInt(Written::position);
+
+    private final int rows;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final String[] unpackedIds;
+    private final byte[] text;
+    private final int[] textStart;
+    private final int[] emailStart;
+    private final byte[] flags;
+    private final int[] idSlots;
+    private final Map<String, Integer> unpackedRows;
+    private final int columnsHighestSalary;
+    /* The overlay: rewritten rows ascending, their employees (null once deleted), and the employees appended. */
+    private final int[] rewrittenRows;
+    private final Employee[] rewrittenTo;
+    private final int[] deletedRows;
+    private final Employee[] appended;
+    private final Map<String, Integer> appendedById;
+    private final Written[] writtenRanked;
+    private final int size;
+    private final int highestSalary;
+
+    private ColumnarRoster(Builder builder) {
+        rows = builder.size;
+        salaries = Arrays.copyOf(builder.salaries, rows);
+        ages = Arrays.copyOf(builder.ages, rows);
+        titleCodes = Arrays.copyOf(builder.titleCodes, rows);
+        titles = builder.titles.toArray(new String[0]);
+        idHigh = Arrays.copyOf(builder.idHigh, rows);
+        idLow = Arrays.copyOf(builder.idLow, rows);
+        unpackedIds = builder.unpackedIds == null ? null : Arrays.copyOf(builder.unpackedIds, rows);
+        text = Arrays.copyOf(builder.text, builder.textLength);
+        textStart = Arrays.copyOf(builder.textStart, rows + 1);
+        emailStart = Arrays.copyOf(builder.emailStart, rows);
+        flags = Arrays.copyOf(builder.flags, rows);
+        idSlots = new int[Integer.highestOneBit(Math.max(2, rows) * 2 - 1) << 1];
+        unpackedRows = new HashMap<>();
+        int highest = 0;
+        for (int row = 0; row < rows; row++) {
+            highest = row == 0 ? salaries[row] : Math.max(highest, salaries[row]);
+            if ((flags[row] & ID_UNPACKED) == 0) {
+                int slot = slot(idHigh[row], idLow[row]);
+                while (idSlots[slot] != 0) {
+                    slot = (slot + 1) & (idSlots.length - 1);
+                }
+                idSlots[slot] = row + 1;
+            } else if (unpackedIds[row] != null) {
+                unpackedRows.put(unpackedIds[row], row);
+            }
+        }
+        columnsHighestSalary = highest;
+        rewrittenRows = new int[0];
+        rewrittenTo = new Employee[0];
+        deletedRows = rewrittenRows;
+        appended = rewrittenTo;
+        appendedById = Map.of();
+        writtenRanked = new Written[0];
+        size = rows;
+        highestSalary = highest;
+    }
+
+    /* Shares the columns of {@code columns} under a new overlay. */
+    private ColumnarRoster(ColumnarRoster columns, int[] rewrittenRows, Employee[] rewrittenTo, Employee[] appended) {
+        rows = columns.rows;
+        salaries = columns.salaries;
+        ages = columns.ages;
+        titleCodes = columns.titleCodes;
+        titles = columns.titles;
+        idHigh = columns.idHigh;
+        idLow = columns.idLow;
+        unpackedIds = columns.unpackedIds;
+        text = columns.text;
+        textStart = columns.textStart;
+        emailStart = columns.emailStart;
+        flags = columns.flags;
+        idSlots = columns.idSlots;
+        unpackedRows = columns.unpackedRows;
+        columnsHighestSalary = columns.columnsHighestSalary;
+        this.rewrittenRows = rewrittenRows;
+        this.rewrittenTo = rewrittenTo;
+        this.appended = appended;
+        List<Written> written = new ArrayList<>(rewrittenRows.length + appended.length);
+        int deleted = 0;
+        for (int i = 0; i < rewrittenRows.length; i++) {
+            if (rewrittenTo[i] == null) {
+                deleted++;
+            } else {
+                written.add(new Written(rewrittenRows[i], rewrittenTo[i]));
+            }
+        }
+        deletedRows = new int[deleted];
+        for (int i = 0, d = 0; i < rewrittenRows.length; i++) {
+            if (rewrittenTo[i] == null) {
+                deletedRows[d++] = rewrittenRows[i];
+            }
+        }
+        appendedById = new HashMap<>();
+        for (int i = 0; i < appended.length; i++) {
+            written.add(new Written(rows + i, appended[i]));
+            if (appended[i].getId() != null) {
+                appendedById.put(appended[i].getId(), i);
+            }
+        }
+        written.sort(BY_RANK);
+        writtenRanked = written.toArray(new Written[0]);
+        size = rows - deleted + appended.length;
+        highestSalary = overlaidHighestSalary();
+    }
+
+    public static ColumnarRoster of(Collection<Employee> employees) {
+        Builder builder = new Builder(employees.size(), Math.max(16, employees.size() * 40));
+        employees.forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** The employee at {@code index} in roster order; one held in the columns is created as it is read. */
+    public Employee get(int index) {
+        int live = size - appended.length;
+        if (index >= live) {
+            return appended[index - live];
+        }
+        int row = rowAt(index);
+        int rewritten = rewrittenRows.length == 0 ? -1 : Arrays.binarySearch(rewrittenRows, row);
+        return rewritten >= 0 ? rewrittenTo[rewritten] : employeeAt(row);
+    }
+
+    /** A read-only view creating each {@link Employee} as it is read; nothing is retained. */
+    public List<Employee> asList() {
+        return new RowList();
+    }
+
+    public Optional<Employee> findById(String id) {
+        Integer at = id == null ? null : appendedById.get(id);
+        if (at != null) {
+            return Optional.of(appended[at]);
+        }
+        int row = rowOf(id);
+        if (row < 0) {
+            return Optional.empty();
+        }
+        int rewritten = rewrittenRows.length == 0 ? -1 : Arrays.binarySearch(rewrittenRows, row);
+        return Optional.ofNullable(rewritten >= 0 ? rewrittenTo[rewritten] : employeeAt(row));
+    }
+
+    /** Highest salary in the roster, or {@code 0} when it is empty. */
+    public int highestSalary() {
+        return highestSalary;
+    }
+
+    /** Names of the {@code limit} best paid employees, highest salary first, ties in row order as in SalaryIndex. */
+    public List<String> topEarnerNames(int limit) {
+        int[] heap = new int[Math.min(limit, rows)];
+        int count = 0;
+        int next = 0;
+        for (int row = 0; row < rows && heap.length > 0; row++) {
+            if (next < rewrittenRows.length && rewrittenRows[next] == row) {
+                next++;
+            } else if (count < heap.length) {
+                heap[count] = row;
+                siftUp(heap, count++);
+            } else if (ranksBefore(row, heap[0])) {
+                heap[0] = row;
+                siftDown(heap, count);
+            }
+        }
+        int[] ranked = new int[count];
+        while (count > 0) {
+            ranked[--count] = heap[0];
+            heap[0] = heap[count];
+            siftDown(heap, count);
+        }
+        List<String> names = new ArrayList<>(Math.min(limit, ranked.length + writtenRanked.length));
+        int i = 0;
+        int j = 0;
+        while (names.size() < limit && (i < ranked.length || j < writtenRanked.length)) {
+            if (j == writtenRanked.length || i < ranked.length && ranksBefore(ranked[i], writtenRanked[j])) {
+                names.add(name(ranked[i++]));
+            } else {
+                names.add(writtenRanked[j++].employee().getName());
+            }
+        }
+        return names;
+    }
+
+    /** Employees whose name contains {@code searchString}, ignoring case, in roster order. */
+    public List<Employee> search(String searchString) {
+        String query = searchString.toLowerCase(Locale.ROOT);
+        byte[] ascii = asciiBytes(query);
+        List<Employee> matches = new ArrayList<>();
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < rewrittenRows.length && rewrittenRows[next] == row) {
+                Employee rewritten = rewrittenTo[next++];
+                if (rewritten != null && nameContains(rewritten, query)) {
+                    matches.add(rewritten);
+                }
+                continue;
+            }
+            byte rowFlags = flags[row];
+            if ((rowFlags & NAME_NULL) != 0) {
+                continue;
+            }
+            boolean match = (rowFlags & NAME_NON_ASCII) != 0
+                    ? name(row).toLowerCase(Locale.ROOT).contains(query)
+                    : ascii != null && containsIgnoreCase(textStart[row], emailStart[row], ascii);
+            if (match) {
+                matches.add(employeeAt(row));
+            }
+        }
+        for (Employee employee : appended) {
+            if (nameContains(employee, query)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A roster with {@code latest} applied: an id mapped to an employee replaces its row in place or is appended, an
+     * id mapped to {@code null} loses its row.
+     */
+    ColumnarRoster withChanges(Map<String, Employee> latest) {
+        SortedMap<Integer, Employee> rewritten = rewritten();
+        List<Employee> appended = new ArrayList<>(Arrays.asList(this.appended));
+        for (Map.Entry<String, Employee> change : latest.entrySet()) {
+            int at = indexOf(appended, change.getKey());
+            int row = rowOf(change.getKey());
+            if (at >= 0) {
+                if (change.getValue() == null) {
+                    appended.remove(at);
+                } else {
+                    appended.set(at, change.getValue());
+                }
+            } else if (row >= 0 && (!rewritten.containsKey(row) || rewritten.get(row) != null)) {
+                rewritten.put(row, change.getValue());
+            } else if (change.getValue() != null) {
+                appended.add(change.getValue());
+            }
+        }
+        return overlaid(rewritten, appended);
+    }
+
+    /** A roster with {@code employee} appended, whatever its id. */
+    ColumnarRoster withAppended(Employee employee) {
+        List<Employee> appended = new ArrayList<>(Arrays.asList(this.appended));
+        appended.add(employee);
+        return overlaid(rewritten(), appended);
+    }
+
+    private SortedMap<Integer, Employee> rewritten() {
+        SortedMap<Integer, Employee> rewritten = new TreeMap<>();
+        for (int i = 0; i < rewrittenRows.length; i++) {
+            rewritten.put(rewrittenRows[i], rewrittenTo[i]);
+        }
+        return rewritten;
+    }
+
+    /* These columns under the given overlay, or new columns once the overlay outgrows a copy per write. */
+    private ColumnarRoster overlaid(SortedMap<Integer, Employee> rewritten, List<Employee> appended) {
+        int[] changedRows = new int[rewritten.size()];
+        Employee[] changedTo = new Employee[changedRows.length];
+        int i = 0;
+        for (Map.Entry<Integer, Employee> change : rewritten.entrySet()) {
+            changedRows[i] = change.getKey();
+            changedTo[i++] = change.getValue();
+        }
+        if (changedRows.length + appended.size() <= Math.max(MIN_WRITES_TO_REBUILD, (int) Math.sqrt(rows))) {
+            return new ColumnarRoster(this, changedRows, changedTo, appended.toArray(new Employee[0]));
+        }
+        Builder builder = new Builder(rows + appended.size(), text.length + appended.size() * 64);
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < changedRows.length && changedRows[next] == row) {
+                if (changedTo[next] != null) {
+                    builder.add(changedTo[next]);
+                }
+                next++;
+            } else {
+                builder.copy(this, row);
+            }
+        }
+        appended.forEach(builder::add);
+        return builder.build();
+    }
+
+    /* The columns' highest salary holds unless a row holding it was rewritten; then the live rows are scanned. */
+    private int overlaidHighestSalary() {
+        boolean rescan = false;
+        for (int row : rewrittenRows) {
+            rescan |= salaries[row] == columnsHighestSalary;
+        }
+        boolean any = !rescan && rows > 0;
+        int highest = columnsHighestSalary;
+        if (rescan) {
+            int next = 0;
+            for (int row = 0; row < rows; row++) {
+                if (next < rewrittenRows.length && rewrittenRows[next] == row) {
+                    next++;
+                } else {
+                    highest = any ? Math.max(highest, salaries[row]) : salaries[row];
+                    any = true;
+                }
+            }
+        }
+        if (writtenRanked.length > 0) {
+            highest = any ? Math.max(highest, writtenRanked[0].salary()) : writtenRanked[0].salary();
+            any = true;
+        }
+        return any ? highest : 0;
+    }
+
+    /* The row of the index-th employee in the columns: every deleted row at or before it shifts it one row on. */
+    private int rowAt(int index) {
+        int low = 0;
+        int high = deletedRows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (deletedRows[mid] - mid <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return index + low;
+    }
+
+    private Employee employeeAt(int row) {
+        return new Employee(id(row), name(row), salaries[row], ages[row], title(row), email(row));
+    }
+
+    private String id(int row) {
+        return (flags[row] & ID_UNPACKED) != 0 ? unpackedIds[row] : new UUID(idHigh[row], idLow[row]).toString();
+    }
+
+    private String name(int row) {
+        return (flags[row] & NAME_NULL) != 0 ? null : decode(textStart[row], emailStart[row]);
+    }
+
+    private String email(int row) {
+        return (flags[row] & EMAIL_NULL) != 0 ? null : decode(emailStart[row], textStart[row + 1]);
+    }
+
+    private String title(int row) {
+        return titleCodes[row] < 0 ? null : titles[titleCodes[row]];
+    }
+
+    private String decode(int from, int to) {
+        return new String(text, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private int rowOf(String id) {
+        if (id == null) {
+            return -1;
+        }
+        if (!isPackable(id)) {
+            Integer row = unpackedRows.get(id);
+            return row == null ? -1 : row;
+        }
+        long high = hex(id, 0, 8) << 32 | hex(id, 9, 13) << 16 | hex(id, 14, 18);
+        long low = hex(id, 19, 23) << 48 | hex(id, 24, 36);
+        for (int slot = slot(high, low); idSlots[slot] != 0; slot = (slot + 1) & (idSlots.length - 1)) {
+            int row = idSlots[slot] - 1;
+            if (idHigh[row] == high && idLow[row] == low) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(long high, long low) {
+        long mixed = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 40) & (idSlots.length - 1);
+    }
+
+    /* Higher salary first; equal salaries in row order, which is roster order, as SalaryIndex orders them. */
+    private boolean ranksBefore(int row, int other) {
+        return salaries[row] != salaries[other] ? salaries[row] > salaries[other] : row < other;
+    }
+
+    private boolean ranksBefore(int row, Written written) {
+        return salaries[row] != written.salary() ? salaries[row] > written.salary() : row < written.position();
+    }
+
+    /* A min-heap by rank: its root is the lowest ranked of the rows kept so far. */
+    private void siftUp(int[] heap, int index) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], row)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private void siftDown(int[] heap, int count) {
+        int index = 0;
+        int row = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= count) {
+                break;
+            }
+            if (child + 1 < count && ranksBefore(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksBefore(row, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    private boolean containsIgnoreCase(int from, int to, byte[] query) {
+        int last = to - query.length;
+        outer:
+        for (int start = from; start <= last; start++) {
+            for (int i = 0; i < query.length; i++) {
+                byte b = text[start + i];
+                if ((b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b) != query[i]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean nameContains(Employee employee, String query) {
+        return employee.getName() != null
+                && employee.getName().toLowerCase(Locale.ROOT).contains(query);
+    }
+
+    private static int indexOf(List<Employee> employees, String id) {
+        for (int i = 0; id != null && i < employees.size(); i++) {
+            if (id.equals(employees.get(i).getId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* The query's bytes if it is ASCII; an ASCII name can only contain an ASCII query. */
+    private static byte[] asciiBytes(String query) {
+        byte[] bytes = new byte[query.length()];
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            bytes[i] = (byte) c;
+        }
+        return bytes;
+    }
+
+    /* Canonical lower-case UUID text, which round-trips through UUID.toString() unchanged. */
+    static boolean isPackable(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : !((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* The hex digits of text[from, to) as one number; dashes are skipped. */
+    static long hex(String text, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c != '-') {
+                value = value << 4 | (c <= '9' ? c - '0' : c - 'a' + 10);
+            }
+        }
+        return value;
+    }
+
+    private final class RowList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return ColumnarRoster.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /* An overlay employee ranked among the rows: a rewritten one at its row, an appended one after the last row. */
+    private record Written(int position, Employee employee) {
+        int salary() {
+            return employee.getSalary();
+        }
+    }
+
+    /* Appends rows; titles already seen reuse their code. */
+    private static final class Builder {
+        private int size;
+        private int[] salaries;
+        private int[] ages;
+        private int[] titleCodes;
+        private final List<String> titles = new ArrayList<>();
+        private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+        private long[] idHigh;
+        private long[] idLow;
+        private String[] unpackedIds;
+        private byte[] text;
+        private int textLength;
+        private int[] textStart;
+        private int[] emailStart;
+        private byte[] flags;
+
+        Builder(int rows, int textBytes) {
+            salaries = new int[rows];
+            ages = new int[rows];
+            titleCodes = new int[rows];
+            idHigh = new long[rows];
+            idLow = new long[rows];
+            textStart = new int[rows + 1];
+            emailStart = new int[rows];
+            flags = new byte[rows];
+            text = new byte[textBytes];
+        }
+
+        void add(Employee employee) {
+            int row = nextRow();
+            salaries[row] = employee.getSalary();
+            ages[row] = employee.getAge();
+            titleCodes[row] = titleCode(employee.getTitle());
+            byte rowFlags = 0;
+            String id = employee.getId();
+            if (id != null && isPackable(id)) {
+                idHigh[row] = hex(id, 0, 8) << 32 | hex(id, 9, 13) << 16 | hex(id, 14, 18);
+                idLow[row] = hex(id, 19, 23) << 48 | hex(id, 24, 36);
+            } else {
+                rowFlags |= ID_UNPACKED;
+                unpackedIds()[row] = id;
+            }
+            textStart[row] = textLength;
+            if (employee.getName() == null) {
+                rowFlags |= NAME_NULL;
+            } else {
+                byte[] name = employee.getName().getBytes(StandardCharsets.UTF_8);
+                append(name);
+                if (name.length != employee.getName().length()) {
+                    rowFlags |= NAME_NON_ASCII;
+                }
+            }
+            emailStart[row] = textLength;
+            if (employee.getEmail() == null) {
+                rowFlags |= EMAIL_NULL;
+            } else {
+                append(employee.getEmail().getBytes(StandardCharsets.UTF_8));
+            }
+            flags[row] = rowFlags;
+            textStart[row + 1] = textLength;
+        }
+
+        /* Copies a row without decoding it; only its title code is translated into this builder's dictionary. */
+        void copy(ColumnarRoster from, int sourceRow) {
+            int row = nextRow();
+            salaries[row] = from.salaries[sourceRow];
+            ages[row] = from.ages[sourceRow];
+            titleCodes[row] = titleCode(from.title(sourceRow));
+            idHigh[row] = from.idHigh[sourceRow];
+            idLow[row] = from.idLow[sourceRow];
+            flags[row] = from.flags[sourceRow];
+            if ((from.flags[sourceRow] & ID_UNPACKED) != 0) {
+                unpackedIds()[row] = from.unpackedIds[sourceRow];
+            }
+            int start = from.textStart[sourceRow];
+            textStart[row] = textLength;
+            emailStart[row] = textLength + from.emailStart[sourceRow] - start;
+            int length = from.textStart[sourceRow + 1] - start;
+            ensureText(length);
+            System.arraycopy(from.text, start, text, textLength, length);
+            textLength += length;
+            textStart[row + 1] = textLength;
+        }
+
+        ColumnarRoster build() {
+            return new ColumnarRoster(this);
+        }
+
+        private int nextRow() {
+            if (size == salaries.length) {
+                int capacity = Math.max(16, size * 2);
+                salaries = Arrays.copyOf(salaries, capacity);
+                ages = Arrays.copyOf(ages, capacity);
+                titleCodes = Arrays.copyOf(titleCodes, capacity);
+                idHigh = Arrays.copyOf(idHigh, capacity);
+                idLow = Arrays.copyOf(idLow, capacity);
+                textStart = Arrays.copyOf(textStart, capacity + 1);
+                emailStart = Arrays.copyOf(emailStart, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                if (unpackedIds != null) {
+                    unpackedIds = Arrays.copyOf(unpackedIds, capacity);
+                }
+            }
+            return size++;
+        }
+
+        private String[] unpackedIds() {
+            if (unpackedIds == null) {
+                unpackedIds = new String[salaries.length];
+            }
+            return unpackedIds;
+        }
+
+        private int titleCode(String title) {
+            if (title == null) {
+                return -1;
+            }
+            return titleCodesByTitle.computeIfAbsent(title, key -> {
+                titles.add(key);
+                return titles.size() - 1;
+            });
+        }
+
+        private void append(byte[] bytes) {
+            ensureText(bytes.length);
+            System.arraycopy(bytes, 0, text, textLength, bytes.length);
+            textLength += bytes.length;
+        }
+
+        private void ensureText(int length) {
+            if (textLength + length > text.length) {
+                text = Arrays.copyOf(text, Math.max(textLength + length, text.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Case-insensitive substring index over employee names built from trigram postings.
+ * <p>
+ * Every indexed employee gets an ordinal in roster order. Each trigram of the lower-cased name maps to the ascending
+ * list of ordinals containing it, so a query of three or more characters only verifies the ordinals of its rarest
+ * trigram, and matches come back in roster order without sorting. Shorter queries fall back to scanning the
+ * pre-lower-cased names.
+ * <p>
+ * An index never changes once built. {@link #withChanges} and {@link #withAppended} derive a successor that shares
+ * the postings and keeps the writes in a small overlay, copied per derivation: an employee written again under a
+ * known id keeps its ordinal, as it keeps its place in the roster, and a new one is ordered after everyone indexed so
+ * far. {@link RosterSnapshot} rebuilds the index from its list once the overlay grows too large.
+ */
+public final class NameIndex {
+
+    private static final int GRAM = 3;
+
+    private final Entry[] entries;
+    private final Map<Long, int[]> postings;
+    private final Map<String, Integer> ordinalsById;
+    /* Written since the postings were built: the entry by id, null once deleted, and the live entries by ordinal. */
+    private final Map<String, Entry> changed;
+    private final NavigableMap<Integer, Entry> overlay;
+    private final int nextOrdinal;
+
+    NameIndex(Collection<Employee> roster) {
+        entries = new Entry[roster.size()];
+        ordinalsById = new HashMap<>(roster.size());
+        Map<Long, Postings> building = new HashMap<>();
+        int ordinal = 0;
+        for (Employee employee : roster) {
+            Entry entry = entry(ordinal, employee);
+            entries[ordinal] = entry;
+            if (employee.getId() != null) {
+                ordinalsById.put(employee.getId(), ordinal);
+            }
+            if (entry.lowerName() != null) {
+                for (int i = 0; i + GRAM <= entry.lowerName().length(); i++) {
+                    building.computeIfAbsent(trigram(entry.lowerName(), i), key -> new Postings())
+                            .append(ordinal);
+                }
+            }
+            ordinal++;
+        }
+        postings = new HashMap<>(building.size());
+        building.forEach((trigram, list) -> postings.put(trigram, list.toArray()));
+        changed = Map.of();
+        overlay = Collections.emptyNavigableMap();
+        nextOrdinal = ordinal;
+    }
+
+    private NameIndex(NameIndex base, Map<String, Entry> changed, NavigableMap<Integer, Entry> overlay, int next) {
+        this.entries = base.entries;
+        this.postings = base.postings;
+        this.ordinalsById = base.ordinalsById;
+        this.changed = changed;
+        this.overlay = overlay;
+        this.nextOrdinal = next;
+    }
+
+    /** Employees whose name contains {@code searchString}, ignoring case, in roster order. */
+    public List<Employee> search(String searchString) {
+        String query = searchString.toLowerCase(Locale.ROOT);
+        List<Entry> written = new ArrayList<>();
+        for (Entry entry : overlay.values()) {
+            if (entry.matches(query)) {
+                written.add(entry);
+            }
+        }
+        int[] candidates = query.length() < GRAM ? null : rarestPostings(query);
+        int count = candidates == null ? entries.length : candidates.length;
+        List<Employee> matches = new ArrayList<>();
+        int w = 0;
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries[candidates == null ? i : candidates[i]];
+            if (!entry.matches(query) || isChanged(entry)) {
+                continue;
+            }
+            while (w < written.size() && written.get(w).ordinal() < entry.ordinal()) {
+                matches.add(written.get(w++).employee());
+            }
+            matches.add(entry.employee());
+        }
+        while (w < written.size()) {
+            matches.add(written.get(w++).employee());
+        }
+        return matches;
+    }
+
+    /**
+     * An index with {@code latest} applied: an id mapped to an employee replaces the employee with that id in place,
+     * or appends it, and an id mapped to {@code null} is removed.
+     */
+    NameIndex withChanges(Map<String, Employee> latest) {
+        Map<String, Entry> changed = new HashMap<>(this.changed);
+        NavigableMap<Integer, Entry> overlay = new TreeMap<>(this.overlay);
+        int next = nextOrdinal;
+        for (Map.Entry<String, Employee> change : latest.entrySet()) {
+            Integer previous = ordinal(change.getKey());
+            if (previous != null) {
+                overlay.remove(previous);
+            }
+            Entry entry = null;
+            if (change.getValue() != null) {
+                entry = entry(previous == null ? next++ : previous, change.getValue());
+                overlay.put(entry.ordinal(), entry);
+            }
+            changed.put(change.getKey(), entry);
+        }
+        return new NameIndex(this, changed, overlay, next);
+    }
+
+    /** An index with {@code employee}, which has no id, appended after everyone indexed so far. */
+    NameIndex withAppended(Employee employee) {
+        NavigableMap<Integer, Entry> overlay = new TreeMap<>(this.overlay);
+        overlay.put(nextOrdinal, entry(nextOrdinal, employee));
+        return new NameIndex(this, changed, overlay, nextOrdinal + 1);
+    }
+
+    /* The ordinal the employee with this id holds, or null if it is not indexed. */
+    private Integer ordinal(String id) {
+        if (changed.containsKey(id)) {
+            Entry entry = changed.get(id);
+            return entry == null ? null : entry.ordinal();
+        }
+        return ordinalsById.get(id);
+    }
+
+    /* The postings of the query's rarest trigram; empty when one of its trigrams occurs in no name. */
+    private int[] rarestPostings(String query) {
+        int[] rarest = null;
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            int[] candidate = postings.get(trigram(query, i));
+            if (candidate == null) {
+                return new int[0];
+            }
+            if (rarest == null || candidate.length < rarest.length) {
+                rarest = candidate;
+            }
+        }
+        return rarest;
+    }
+
+    private boolean isChanged(Entry entry) {
+        String id = entry.employee().getId();
+        return id != null && changed.containsKey(id);
+    }
+
+    private static Entry entry(int ordinal, Employee employee) {
+        String lowerName =
+                employee.getName() == null ? null : employee.getName().toLowerCase(Locale.ROOT);
+        return new Entry(ordinal, lowerName, employee);
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private record Entry(int ordinal, String lowerName, Employee employee) {
+        boolean matches(String query) {
+            return lowerName != null && lowerName.contains(query);
+        }
+    }
+
+    /* Ascending ordinals gathered while building; a name repeating a trigram lists its ordinal once. */
+    private static final class Postings {
+        private int[] ordinals = new int[2];
+        private int size;
+
+        void append(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size + (size >> 1) + 1);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
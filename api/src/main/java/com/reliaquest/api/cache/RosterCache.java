@@ -0,0 +1,671 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the upstream roster as a {@link RosterSnapshot} and serves it stale while a single background refresh runs.
+ * <p>
+ * Only the very first read (or a read after {@link #invalidate()}) waits for the upstream. Successful creates and
+ * deletes are folded into the cached snapshot so callers read their own writes without another full fetch; one made
+ * while a cold load is in flight is held back and applied to the roster that load installs, which may predate it.
+ * Ids the upstream answered with NOT_FOUND are remembered for a short while so repeated lookups of them stay local
+ * too.
+ * <p>
+ * A refresh whose loader hands back the very list the current snapshot was built from (a conditional GET answered
+ * 304) only renews the snapshot's age; its indexes are kept. Reads through a {@link RosterFeed} refresh by applying
+ * the upstream's changes since the snapshot's feed position, falling back to a full load when the feed cannot
+ * reach back that far.
+ * <p>
+ * With a snapshot file, every new roster version is also written to disk in the background, one write at a time and
+ * skipping versions superseded meanwhile. A new cache starts from that file, so a restarted api serves its last known
+ * roster at once (stale, so the first read refreshes it), and {@link #lastKnownGood()} lets fallbacks keep answering
+ * while the upstream is unreachable.
+ * <p>
+ * A snapshot is only served stale up to its max-stale age. Past that, a read waits for a refresh as a cold read does,
+ * and a refresh that fails reaches the caller, whose fallback can still answer from {@link #lastKnownGood()} while
+ * telling how old that answer is.
+ */
+@Component
+public class RosterCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterCache.class);
+    private static final int MAX_NOT_FOUND_IDS = 10_000;
+    static final Duration DEFAULT_MAX_STALE = Duration.ofMinutes(10);
+
+    /** How a snapshot holds the roster; see {@link RosterSnapshot}. */
+    public enum Representation {
+        /** The employee list plus id, salary and name indexes; the fastest search. */
+        INDEXED,
+        /** A {@link ColumnarRoster}; a fraction of the heap, with search as a scan over the name bytes. */
+        COLUMNAR
+    }
+
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final Duration notFoundTtl;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor;
+    private final boolean columnar;
+    private final Path snapshotFile;
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<RosterSnapshot>> coldLoad = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<RosterSnapshot>> staleReload = new AtomicReference<>();
+    private final Map<String, Instant> notFoundUntil = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicBoolean persisting = new AtomicBoolean();
+    private volatile long persistedVersion = -1;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /* Local writes made while the cache was empty and a cold load in flight; guarded by writeLock. */
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    private long writeSequence;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder refreshesDiscarded = new LongAdder();
+    private final LongAdder notFoundHits = new LongAdder();
+    private final LongAdder changesApplied = new LongAdder();
+
+    public RosterCache(Duration ttl, Duration notFoundTtl) {
+        this(ttl, notFoundTtl, Representation.INDEXED);
+    }
+
+    public RosterCache(Duration ttl, Duration notFoundTtl, Representation representation) {
+        this(ttl, DEFAULT_MAX_STALE, notFoundTtl, representation, "");
+    }
+
+    /**
+     * @param maxStale age after which a snapshot is no longer served while it is refreshed; never less than the TTL
+     * @param snapshotFile where the last known roster is kept across restarts; blank to keep it only in memory
+     */
+    @Autowired
+    public RosterCache(
+            @Value("${employee.cache.ttl:30s}") Duration ttl,
+            @Value("${employee.cache.max-stale:10m}") Duration maxStale,
+            @Value("${employee.cache.not-found-ttl:5s}") Duration notFoundTtl,
+            @Value("${employee.cache.representation:indexed}") Representation representation,
+            @Value("${employee.cache.snapshot-file:}") String snapshotFile) {
+        this(
+                ttl,
+                maxStale,
+                notFoundTtl,
+                Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "roster-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                representation,
+                snapshotFile.isBlank() ? null : Path.of(snapshotFile));
+    }
+
+    RosterCache(Duration ttl, Duration notFoundTtl, Clock clock, ExecutorService refreshExecutor) {
+        this(ttl, notFoundTtl, clock, refreshExecutor, Representation.INDEXED);
+    }
+
+    RosterCache(
+            Duration ttl,
+            Duration notFoundTtl,
+            Clock clock,
+            ExecutorService refreshExecutor,
+            Representation representation) {
+        this(ttl, notFoundTtl, clock, refreshExecutor, representation, null);
+    }
+
+    RosterCache(
+            Duration ttl,
+            Duration notFoundTtl,
+            Clock clock,
+            ExecutorService refreshExecutor,
+            Representation representation,
+            Path snapshotFile) {
+        this(ttl, DEFAULT_MAX_STALE, notFoundTtl, clock, refreshExecutor, representation, snapshotFile);
+    }
+
+    RosterCache(
+            Duration ttl,
+            Duration maxStale,
+            Duration notFoundTtl,
+            Clock clock,
+            ExecutorService refreshExecutor,
+            Representation representation,
+            Path snapshotFile) {
+        this.ttl = ttl;
+        this.maxStale = maxStale.compareTo(ttl) < 0 ? ttl : maxStale;
+        this.notFoundTtl = notFoundTtl;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.columnar = representation == Representation.COLUMNAR;
+        this.snapshotFile = snapshotFile;
+        if (snapshotFile != null) {
+            warmFrom(snapshotFile);
+        }
+    }
+
+    /**
+     * Returns the cached snapshot, loading it through {@code loader} when nothing is cached yet. A snapshot older than
+     * the TTL is still returned, but schedules a background refresh through the same loader; one older than max-stale
+     * is refreshed first.
+     */
+    public RosterSnapshot get(Supplier<List<Employee>> loader) {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return loadBlocking(() -> newSnapshot(loader.get()));
+        }
+        if (isTooStale(snapshot)) {
+            return refreshBlocking(() -> newSnapshot(loader.get()), base -> install(base, loader.get()));
+        }
+        hits.increment();
+        if (isExpired(snapshot)) {
+            staleHits.increment();
+            refreshAsync(snapshot, base -> install(base, loader.get()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Like {@link #get(Supplier)}, but a stale snapshot is brought up to date with the changes {@code feed} reports
+     * since its position instead of a full load.
+     */
+    public RosterSnapshot get(RosterFeed feed) {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return loadBlocking(() -> newSnapshot(feed.loadAll()));
+        }
+        if (isTooStale(snapshot)) {
+            return refreshBlocking(() -> newSnapshot(feed.loadAll()), base -> sync(base, feed));
+        }
+        hits.increment();
+        if (isExpired(snapshot)) {
+            staleHits.increment();
+            refreshAsync(snapshot, base -> sync(base, feed));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(Supplier)}. A cached snapshot completes immediately (scheduling a background
+     * refresh when expired). On a cold cache concurrent callers share a single load through {@code loader}, and past
+     * max-stale they likewise share a single refresh and complete once it has. The snapshot and its indexes are built
+     * on the refresh executor, never on the thread that completes the loader.
+     */
+    public CompletableFuture<RosterSnapshot> getAsync(Supplier<CompletableFuture<List<Employee>>> loader) {
+        RosterSnapshot snapshot = current.get();
+        if (snapshot != null && isTooStale(snapshot)) {
+            return shared(staleReload, () -> loader.get()
+                    .thenApplyAsync(
+                            loaded -> {
+                                install(snapshot, loaded);
+                                return current.get();
+                            },
+                            refreshExecutor)
+                    .whenComplete((refreshed, error) -> {
+                        if (error != null) {
+                            refreshFailures.increment();
+                        }
+                    }));
+        }
+        if (snapshot != null) {
+            hits.increment();
+            if (isExpired(snapshot)) {
+                staleHits.increment();
+                refreshAsync(snapshot, base -> install(base, loader.get().join()));
+            }
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        return shared(coldLoad, () -> {
+            long since = writeSequence();
+            return loader.get()
+                    .thenApplyAsync(this::newSnapshot, refreshExecutor)
+                    .thenApply(loaded -> installIfEmpty(loaded, since));
+        });
+    }
+
+    /**
+     * Looks an employee up in the cached snapshot without loading or refreshing it. Ids only the upstream knows about
+     * (for example ones created by another client since the last fetch) are not found here, and neither is anything
+     * once the snapshot is older than max-stale.
+     */
+    public Optional<Employee> findById(String id) {
+        RosterSnapshot snapshot = current.get();
+        return snapshot == null || isTooStale(snapshot) ? Optional.empty() : snapshot.findById(id);
+    }
+
+    /**
+     * The cached snapshot, however old, without loading or refreshing it; after a restart, the one read from the
+     * snapshot file. Empty only if the roster was never fetched.
+     */
+    public Optional<RosterSnapshot> lastKnownGood() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /** Whether the upstream reported {@code id} as NOT_FOUND within the negative-cache TTL. */
+    public boolean isKnownMissing(String id) {
+        Instant until = notFoundUntil.get(id);
+        if (until == null) {
+            return false;
+        }
+        if (until.isBefore(clock.instant())) {
+            notFoundUntil.remove(id, until);
+            return false;
+        }
+        notFoundHits.increment();
+        return true;
+    }
+
+    /** Remembers that the upstream answered NOT_FOUND for {@code id}. */
+    public void recordNotFound(String id) {
+        if (notFoundUntil.size() >= MAX_NOT_FOUND_IDS) {
+            Instant now = clock.instant();
+            notFoundUntil.values().removeIf(until -> until.isBefore(now));
+            if (notFoundUntil.size() >= MAX_NOT_FOUND_IDS) {
+                notFoundUntil.clear();
+            }
+        }
+        notFoundUntil.put(id, clock.instant().plus(notFoundTtl));
+    }
+
+    /** Folds an employee created upstream into the cached snapshot, or into the one a cold load in flight installs. */
+    public void recordCreated(Employee employee) {
+        if (employee.getId() != null) {
+            notFoundUntil.remove(employee.getId());
+        }
+        write(snapshot -> snapshot.withCreated(versions.incrementAndGet(), employee));
+    }
+
+    /**
+     * Folds employees created upstream together into the cached snapshot, as {@link #recordCreated(Employee)} does:
+     * one new version and one pass over the roster and its indexes, however many there are. They are applied by id,
+     * like feed changes.
+     */
+    public void recordCreated(List<Employee> employees) {
+        List<RosterFeed.Change> changes = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (employee.getId() != null) {
+                notFoundUntil.remove(employee.getId());
+            }
+            changes.add(new RosterFeed.Change(false, employee));
+        }
+        applyLocalChanges(changes);
+    }
+
+    /**
+     * Removes an employee deleted upstream from the cached snapshot, or from the one a cold load in flight installs,
+     * and remembers the id as missing.
+     */
+    public void recordDeleted(String id) {
+        recordNotFound(id);
+        write(snapshot -> snapshot.withDeleted(versions.incrementAndGet(), id));
+    }
+
+    /**
+     * Removes employees deleted upstream from the cached snapshot, as {@link #recordDeleted(String)} does, in one
+     * version and one pass, and remembers their ids as missing.
+     */
+    public void recordDeleted(List<String> ids) {
+        List<RosterFeed.Change> changes = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            recordNotFound(id);
+            Employee deleted = new Employee();
+            deleted.setId(id);
+            changes.add(new RosterFeed.Change(true, deleted));
+        }
+        applyLocalChanges(changes);
+    }
+
+    /** Drops the cached snapshot so the next read loads from the upstream. */
+    public void invalidate() {
+        writeLock.lock();
+        try {
+            current.set(null);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public RosterCacheStats getStats() {
+        RosterSnapshot snapshot = current.get();
+        return new RosterCacheStats(
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                refreshes.sum(),
+                refreshFailures.sum(),
+                refreshesDiscarded.sum(),
+                notFoundHits.sum(),
+                changesApplied.sum(),
+                snapshot == null ? -1 : snapshot.version());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private boolean isExpired(RosterSnapshot snapshot) {
+        return snapshot.fetchedAt().plus(ttl).isBefore(clock.instant());
+    }
+
+    private boolean isTooStale(RosterSnapshot snapshot) {
+        return snapshot.fetchedAt().plus(maxStale).isBefore(clock.instant());
+    }
+
+    private RosterSnapshot loadBlocking(Supplier<RosterSnapshot> loader) {
+        loadLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                hits.increment();
+                return snapshot;
+            }
+            misses.increment();
+            long since = writeSequence();
+            return installIfEmpty(loader.get(), since);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /*
+     * Refreshes a snapshot past max-stale on the caller's thread, one caller at a time, so the rest find it fresh.
+     * Whatever the refresh throws reaches the caller.
+     */
+    private RosterSnapshot refreshBlocking(Supplier<RosterSnapshot> loader, Consumer<RosterSnapshot> refresh) {
+        loadLock.lock();
+        try {
+            RosterSnapshot latest = current.get();
+            if (latest == null) {
+                return loadBlocking(loader);
+            }
+            if (!isTooStale(latest)) {
+                hits.increment();
+                return latest;
+            }
+            misses.increment();
+            try {
+                refresh.accept(latest);
+            } catch (RuntimeException e) {
+                refreshFailures.increment();
+                throw e;
+            }
+            return current.get();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /*
+     * Callers share the load in flight in slot, if any, instead of each starting their own. The slot is cleared once
+     * the load completes, so the next caller after a failure tries again.
+     */
+    private CompletableFuture<RosterSnapshot> shared(
+            AtomicReference<CompletableFuture<RosterSnapshot>> slot, Supplier<CompletableFuture<RosterSnapshot>> load) {
+        CompletableFuture<RosterSnapshot> result = new CompletableFuture<>();
+        CompletableFuture<RosterSnapshot> inFlight = slot.compareAndExchange(null, result);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        misses.increment();
+        try {
+            load.get().whenComplete((loaded, error) -> {
+                slot.set(null);
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                } else {
+                    result.complete(loaded);
+                }
+            });
+        } catch (RuntimeException e) {
+            slot.set(null);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /*
+     * A blocking and a non-blocking cold load may race; whichever installs first wins. The winner applies the local
+     * writes held since its load started, as its roster may predate them; earlier ones are already in it.
+     */
+    private RosterSnapshot installIfEmpty(RosterSnapshot loaded, long since) {
+        writeLock.lock();
+        try {
+            RosterSnapshot existing = current.get();
+            if (existing != null) {
+                return existing;
+            }
+            for (PendingWrite pending : pendingWrites) {
+                if (pending.sequence() > since) {
+                    loaded = pending.write().apply(loaded);
+                }
+            }
+            pendingWrites.clear();
+            current.set(loaded);
+            persistAsync();
+            return loaded;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void refreshAsync(RosterSnapshot base, Consumer<RosterSnapshot> refresh) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh.accept(base);
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    logger.warn(
+                            "Background roster refresh failed, keeping version {}: {}", base.version(), e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void install(RosterSnapshot base, List<Employee> loaded) {
+        install(base, base.isBuiltFrom(loaded) ? base.revalidated(clock.instant(), null) : newSnapshot(loaded));
+    }
+
+    /*
+     * A refresh that raced with a local create/delete is discarded: its roster may predate the write, and the next
+     * stale read simply schedules another one.
+     */
+    private void install(RosterSnapshot base, RosterSnapshot refreshed) {
+        writeLock.lock();
+        try {
+            if (current.get() == base) {
+                current.set(refreshed);
+                refreshes.increment();
+                persistAsync();
+                logger.debug(
+                        "Roster refreshed to version {} ({} employees)",
+                        refreshed.version(),
+                        refreshed.employees().size());
+            } else {
+                refreshesDiscarded.increment();
+                logger.debug("Discarded roster refresh based on superseded version {}", base.version());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * Changes are applied to whatever snapshot is current, even one that local writes derived from base after this
+     * refresh started: those writes keep base's position, and replaying changes by id over them is harmless. Only a
+     * snapshot at another position (a full load won the race) makes the changes stale.
+     */
+    private void sync(RosterSnapshot base, RosterFeed feed) {
+        RosterFeed.Changes changes = base.position() == null ? null : feed.changesSince(base.position());
+        if (changes == null) {
+            RosterFeed.Full full = feed.loadAll();
+            install(
+                    base,
+                    base.isBuiltFrom(full.employees())
+                            ? base.revalidated(clock.instant(), full.position())
+                            : newSnapshot(full));
+            return;
+        }
+        writeLock.lock();
+        try {
+            RosterSnapshot latest = current.get();
+            if (latest == null || !base.position().equals(latest.position())) {
+                refreshesDiscarded.increment();
+                logger.debug("Discarded roster changes based on superseded position {}", base.position());
+                return;
+            }
+            Instant now = clock.instant();
+            current.set(
+                    changes.changes().isEmpty()
+                            ? latest.revalidated(now, changes.position())
+                            : latest.withChanges(
+                                    versions.incrementAndGet(), now, changes.changes(), changes.position()));
+            refreshes.increment();
+            changesApplied.add(changes.changes().size());
+            persistAsync();
+            logger.debug("Applied {} roster changes up to {}", changes.changes().size(), changes.position());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /* Writes made through this service keep the snapshot's fetch time and feed position; see RosterSnapshot. */
+    private void applyLocalChanges(List<RosterFeed.Change> changes) {
+        if (!changes.isEmpty()) {
+            write(snapshot -> snapshot.withChanges(
+                    versions.incrementAndGet(), snapshot.fetchedAt(), changes, snapshot.position()));
+        }
+    }
+
+    /*
+     * Applies a local write to the current snapshot. With none yet, a cold load in flight may have fetched its roster
+     * before the upstream took the write, so the write is held for installIfEmpty; a load that starts later sees it.
+     */
+    private void write(UnaryOperator<RosterSnapshot> write) {
+        writeLock.lock();
+        try {
+            RosterSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                current.set(write.apply(snapshot));
+                persistAsync();
+            } else if (loadLock.isLocked() || coldLoad.get() != null) {
+                pendingWrites.add(new PendingWrite(++writeSequence, write));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /* Taken once a cold load is in flight and before it fetches; writes held after this may be missing from it. */
+    private long writeSequence() {
+        writeLock.lock();
+        try {
+            return writeSequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * Writes the current snapshot on the refresh executor unless that version is on disk already. The flag is cleared
+     * before the write, so a version installed during it is written by the next task rather than lost.
+     */
+    private void persistAsync() {
+        if (snapshotFile == null || !persisting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                persisting.set(false);
+                RosterSnapshot snapshot = current.get();
+                if (snapshot == null || snapshot.version() == persistedVersion) {
+                    return;
+                }
+                try {
+                    RosterSnapshotFile.write(snapshotFile, snapshot.fetchedAt(), snapshot.employees());
+                    persistedVersion = snapshot.version();
+                } catch (IOException e) {
+                    logger.warn("Could not write roster snapshot {}: {}", snapshotFile, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            persisting.set(false);
+        }
+    }
+
+    /* Keeps the file's fetch time, so the snapshot is as stale as its data and the first read refreshes it. */
+    private void warmFrom(Path file) {
+        try {
+            Optional<RosterSnapshotFile.Contents> contents = RosterSnapshotFile.read(file);
+            if (contents.isEmpty()) {
+                return;
+            }
+            RosterSnapshot snapshot = new RosterSnapshot(
+                    versions.incrementAndGet(),
+                    contents.get().fetchedAt(),
+                    null,
+                    contents.get().employees(),
+                    columnar);
+            current.set(snapshot);
+            persistedVersion = snapshot.version();
+            logger.info(
+                    "Warmed roster cache with {} employees fetched at {} from {}",
+                    contents.get().employees().size(),
+                    contents.get().fetchedAt(),
+                    file);
+        } catch (IOException e) {
+            logger.warn("Ignoring roster snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record PendingWrite(long sequence, UnaryOperator<RosterSnapshot> write) {}
+
+    private RosterSnapshot newSnapshot(List<Employee> employees) {
+        return new RosterSnapshot(versions.incrementAndGet(), clock.instant(), null, employees, columnar);
+    }
+
+    private RosterSnapshot newSnapshot(RosterFeed.Full full) {
+        return new RosterSnapshot(
+                versions.incrementAndGet(), clock.instant(), full.position(), full.employees(), columnar);
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.api.cache;
+
+/**
+ * Point-in-time counters of a {@link RosterCache}.
+ *
+ * @param hits reads answered from a cached snapshot, fresh or stale
+ * @param staleHits subset of {@code hits} served while the snapshot was older than the TTL
+ * @param misses reads that had to wait for an upstream load
+ * @param refreshes background refreshes that installed a new snapshot
+ * @param refreshFailures refreshes that failed
+ * @param refreshesDiscarded refreshes dropped because a local write or another load replaced their base meanwhile
+ * @param notFoundHits id lookups answered from the NOT_FOUND negative cache
+ * @param changesApplied upstream changes applied from a {@link RosterFeed} instead of a full load
+ * @param version version of the snapshot currently cached, {@code -1} when empty
+ */
+public record RosterCacheStats(
+        long hits,
+        long staleHits,
+        long misses,
+        long refreshes,
+        long refreshFailures,
+        long refreshesDiscarded,
+        long notFoundHits,
+        long changesApplied,
+        long version) {}
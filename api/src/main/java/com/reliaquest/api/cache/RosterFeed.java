@@ -0,0 +1,28 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * An upstream that can report what changed since a position, so {@link RosterCache} can keep its snapshot current
+ * without reloading the whole roster. The changes may overlap what the snapshot already holds (writes made through
+ * this service, or a full roster newer than its position); they are applied by id, so replaying them is harmless.
+ */
+public interface RosterFeed {
+
+    /** The full roster, and the position it is at least as new as; {@code null} if the upstream has no feed. */
+    Full loadAll();
+
+    /** The changes after {@code position}, oldest first, or {@code null} if the feed no longer reaches back to it. */
+    Changes changesSince(Position position);
+
+    /** A point in the upstream's change history; versions of different epochs are unrelated. */
+    record Position(String epoch, long version) {}
+
+    /** @param employee the employee created, or the one deleted */
+    record Change(boolean deleted, Employee employee) {}
+
+    record Full(List<Employee> employees, Position position) {}
+
+    record Changes(List<Change> changes, Position position) {}
+}
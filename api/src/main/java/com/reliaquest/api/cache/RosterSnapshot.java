@@ -0,0 +1,299 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Versioned view of the employee roster as last seen from the upstream mock server.
+ * <p>
+ * Local writes never modify a snapshot's employee list; they derive a successor with a higher version that keeps the
+ * original {@link #fetchedAt()} so the cache still knows how old the upstream data underneath it is. The indexes are
+ * not rebuilt per write either: a successor shares its predecessor's indexes and adds the write to small overlays of
+ * its own, so every snapshot, including one a reader still holds, answers from exactly its own list. Once the
+ * overlays hold more than 64 writes, or the square root of the roster size if larger, the next successor rebuilds
+ * its indexes from its list instead.
+ * <p>
+ * A snapshot built straight from an upstream fetch remembers the list it was built from. When a later fetch returns
+ * that very list, the upstream confirmed it unchanged, and {@link #revalidated} renews the snapshot without
+ * rebuilding anything; it holds that list only weakly, so a columnar snapshot does not keep it alive on its own. A
+ * snapshot fed by a {@link RosterFeed} also carries the feed position it reflects, and {@link #withChanges} moves it
+ * forward the same way local writes do.
+ * <p>
+ * A columnar snapshot keeps the roster in a {@link ColumnarRoster} instead of the list and its indexes, and each
+ * write derives a new one; {@link #salaryIndex()} and {@link #nameIndex()} are then {@code null}, and the aggregates
+ * and search below run on the columns.
+ */
+public final class RosterSnapshot {
+
+    private static final int MIN_WRITES_TO_REBUILD = 64;
+
+    private final long version;
+    private final Instant fetchedAt;
+    private final RosterFeed.Position position;
+    private final WeakReference<List<Employee>> source;
+    private final List<Employee> employees;
+    private final Map<String, Employee> employeesById;
+    /* Written since the indexes were built: the employee by id, null once deleted; and how many writes that took. */
+    private final Map<String, Employee> writtenById;
+    private final int writes;
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+    private final ColumnarRoster columns;
+
+    RosterSnapshot(long version, Instant fetchedAt, List<Employee> employees) {
+        this(version, fetchedAt, null, employees, false);
+    }
+
+    RosterSnapshot(
+            long version, Instant fetchedAt, RosterFeed.Position position, List<Employee> employees, boolean columnar) {
+        this(
+                version,
+                fetchedAt,
+                position,
+                new WeakReference<>(employees),
+                columnar ? null : employees,
+                columnar ? null : indexById(employees),
+                Map.of(),
+                0,
+                columnar ? null : new SalaryIndex(employees),
+                columnar ? null : new NameIndex(employees),
+                columnar ? ColumnarRoster.of(employees) : null);
+    }
+
+    private RosterSnapshot(
+            long version,
+            Instant fetchedAt,
+            RosterFeed.Position position,
+            WeakReference<List<Employee>> source,
+            List<Employee> employees,
+            Map<String, Employee> employeesById,
+            Map<String, Employee> writtenById,
+            int writes,
+            SalaryIndex salaryIndex,
+            NameIndex nameIndex,
+            ColumnarRoster columns) {
+        this.version = version;
+        this.fetchedAt = fetchedAt;
+        this.position = position;
+        this.source = source;
+        this.employees = columns != null ? columns.asList() : Collections.unmodifiableList(employees);
+        this.employeesById = employeesById;
+        this.writtenById = writtenById;
+        this.writes = writes;
+        this.salaryIndex = salaryIndex;
+        this.nameIndex = nameIndex;
+        this.columns = columns;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    /** The feed position this snapshot reflects, or {@code null} if it was not loaded through a feed. */
+    public RosterFeed.Position position() {
+        return position;
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public Optional<Employee> findById(String id) {
+        if (columns != null) {
+            return columns.findById(id);
+        }
+        return Optional.ofNullable(writtenById.containsKey(id) ? writtenById.get(id) : employeesById.get(id));
+    }
+
+    /** Highest salary in the roster, or {@code 0} when it is empty. */
+    public int highestSalary() {
+        return columns != null ? columns.highestSalary() : salaryIndex.highestSalary();
+    }
+
+    /** Names of the {@code limit} best paid employees, highest salary first and equal salaries in roster order. */
+    public List<String> topEarnerNames(int limit) {
+        return columns != null ? columns.topEarnerNames(limit) : salaryIndex.topEarnerNames(limit);
+    }
+
+    /** Employees whose name contains {@code searchString}, ignoring case, in roster order. */
+    public List<Employee> search(String searchString) {
+        return columns != null ? columns.search(searchString) : nameIndex.search(searchString);
+    }
+
+    /** {@code null} for a columnar snapshot. */
+    public SalaryIndex salaryIndex() {
+        return salaryIndex;
+    }
+
+    /** {@code null} for a columnar snapshot. */
+    public NameIndex nameIndex() {
+        return nameIndex;
+    }
+
+    public boolean isColumnar() {
+        return columns != null;
+    }
+
+    /** Whether {@code loaded} is the list this snapshot was built from, untouched by local writes since. */
+    boolean isBuiltFrom(List<Employee> loaded) {
+        return source != null && source.get() == loaded;
+    }
+
+    /** The same data confirmed current at {@code confirmedAt}, sharing this snapshot's indexes. */
+    RosterSnapshot revalidated(Instant confirmedAt, RosterFeed.Position confirmedPosition) {
+        return new RosterSnapshot(
+                version,
+                confirmedAt,
+                confirmedPosition,
+                source,
+                employees,
+                employeesById,
+                writtenById,
+                writes,
+                salaryIndex,
+                nameIndex,
+                columns);
+    }
+
+    /**
+     * Applies feed changes in one pass over the roster: an employee created again keeps its place, one created anew
+     * is appended, and the index overlays take each id once however often it changed.
+     */
+    RosterSnapshot withChanges(
+            long newVersion, Instant confirmedAt, List<RosterFeed.Change> changes, RosterFeed.Position newPosition) {
+        Map<String, Employee> latest = new LinkedHashMap<>();
+        for (RosterFeed.Change change : changes) {
+            String id = change.employee().getId();
+            if (id != null) {
+                latest.put(id, change.deleted() ? null : change.employee());
+            }
+        }
+        return applied(newVersion, confirmedAt, newPosition, latest);
+    }
+
+    /*
+     * Applied by id, like a feed change: a refresh that already saw the new employee may have been installed between
+     * the upstream create and this call, and the employee must not then appear twice.
+     */
+    RosterSnapshot withCreated(long newVersion, Employee employee) {
+        if (employee.getId() != null) {
+            return applied(newVersion, fetchedAt, position, Collections.singletonMap(employee.getId(), employee));
+        }
+        if (columns != null) {
+            return columnar(newVersion, fetchedAt, position, columns.withAppended(employee));
+        }
+        List<Employee> copy = new ArrayList<>(employees.size() + 1);
+        copy.addAll(employees);
+        copy.add(employee);
+        if (needsRebuild(copy, 1)) {
+            return rebuilt(newVersion, fetchedAt, position, copy);
+        }
+        return new RosterSnapshot(
+                newVersion,
+                fetchedAt,
+                position,
+                null,
+                copy,
+                employeesById,
+                writtenById,
+                writes + 1,
+                salaryIndex.withAppended(employee),
+                nameIndex.withAppended(employee),
+                null);
+    }
+
+    RosterSnapshot withDeleted(long newVersion, String id) {
+        return applied(newVersion, fetchedAt, position, Collections.singletonMap(id, null));
+    }
+
+    /* Applies the latest employee per id, null for a deleted one, to the list and to the index overlays. */
+    private RosterSnapshot applied(
+            long newVersion, Instant at, RosterFeed.Position newPosition, Map<String, Employee> latest) {
+        if (columns != null) {
+            return columnar(newVersion, at, newPosition, columns.withChanges(latest));
+        }
+        Map<String, Employee> pending = new LinkedHashMap<>(latest);
+        List<Employee> copy = new ArrayList<>(employees.size() + latest.size());
+        for (Employee employee : employees) {
+            String id = employee.getId();
+            if (id == null || !pending.containsKey(id)) {
+                copy.add(employee);
+            } else {
+                Employee replacement = pending.remove(id);
+                if (replacement != null) {
+                    copy.add(replacement);
+                }
+            }
+        }
+        for (Employee created : pending.values()) {
+            if (created != null) {
+                copy.add(created);
+            }
+        }
+        if (needsRebuild(copy, latest.size())) {
+            return rebuilt(newVersion, at, newPosition, copy);
+        }
+        Map<String, Employee> written = new HashMap<>(writtenById);
+        written.putAll(latest);
+        return new RosterSnapshot(
+                newVersion,
+                at,
+                newPosition,
+                null,
+                copy,
+                employeesById,
+                written,
+                writes + latest.size(),
+                salaryIndex.withChanges(latest),
+                nameIndex.withChanges(latest),
+                null);
+    }
+
+    /* The overlays are copied per write, so past a few writes a fresh build of the indexes is the cheaper one. */
+    private boolean needsRebuild(List<Employee> roster, int newWrites) {
+        return writes + newWrites > Math.max(MIN_WRITES_TO_REBUILD, (int) Math.sqrt(roster.size()));
+    }
+
+    private static RosterSnapshot rebuilt(
+            long version, Instant fetchedAt, RosterFeed.Position position, List<Employee> employees) {
+        return new RosterSnapshot(
+                version,
+                fetchedAt,
+                position,
+                null,
+                employees,
+                indexById(employees),
+                Map.of(),
+                0,
+                new SalaryIndex(employees),
+                new NameIndex(employees),
+                null);
+    }
+
+    private static RosterSnapshot columnar(
+            long version, Instant fetchedAt, RosterFeed.Position position, ColumnarRoster columns) {
+        return new RosterSnapshot(version, fetchedAt, position, null, null, null, null, 0, null, null, columns);
+    }
+
+    private static Map<String, Employee> indexById(List<Employee> employees) {
+        Map<String, Employee> byId = new HashMap<>(employees.size());
+        for (Employee employee : employees) {
+            if (employee.getId() != null) {
+                byId.put(employee.getId(), employee);
+            }
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,146 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The last roster the api fetched, kept in a compact binary file so a restarted api can serve it before the upstream
+ * answers, read through a memory mapping.
+ * <p>
+ * Layout, big-endian: magic, format version, when the roster was fetched (epoch milliseconds) and the employee count,
+ * then per employee a tag byte, the id (two longs when it is a canonical UUID, else a string), the name, salary and
+ * age, title and email. Strings are an int byte length (-1 for null) followed by UTF-8, so no value is too long to
+ * keep. A file of another format version is rejected like any unreadable one, and replaced by the next write.
+ */
+public final class RosterSnapshotFile {
+
+    private static final int MAGIC = 0x45525331;
+    private static final int VERSION = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final byte ID_PACKED = 0;
+    private static final byte ID_STRING = 1;
+
+    /**
+     * @param fetchedAt when the upstream last answered with this roster
+     * @param employees the roster, in upstream order
+     */
+    public record Contents(Instant fetchedAt, List<Employee> employees) {}
+
+    private RosterSnapshotFile() {}
+
+    /**
+     * The roster in {@code file}, or empty if there is none.
+     *
+     * @throws IOException if the file cannot be read or is not a roster snapshot file
+     */
+    public static Optional<Contents> read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(file + " is not a roster snapshot file");
+            }
+            Instant fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            List<Employee> employees = new ArrayList<>(count);
+            byte[] scratch = new byte[1024];
+            for (int i = 0; i < count; i++) {
+                String id = buffer.get() == ID_PACKED
+                        ? new UUID(buffer.getLong(), buffer.getLong()).toString()
+                        : readString(buffer, scratch);
+                employees.add(new Employee(
+                        id,
+                        readString(buffer, scratch),
+                        buffer.getInt(),
+                        buffer.getInt(),
+                        readString(buffer, scratch),
+                        readString(buffer, scratch)));
+            }
+            return Optional.of(new Contents(fetchedAt, employees));
+        } catch (BufferUnderflowException e) {
+            throw new IOException(file + " is truncated", e);
+        }
+    }
+
+    /** Writes the roster next to {@code file} and moves it into place, so readers never see a partial file. */
+    public static void write(Path file, Instant fetchedAt, List<Employee> employees) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temporary = Files.createTempFile(
+                absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fetchedAt.toEpochMilli());
+                out.writeInt(employees.size());
+                for (Employee employee : employees) {
+                    String id = employee.getId();
+                    if (id != null && ColumnarRoster.isPackable(id)) {
+                        out.writeByte(ID_PACKED);
+                        out.writeLong(ColumnarRoster.hex(id, 0, 18));
+                        out.writeLong(ColumnarRoster.hex(id, 19, 36));
+                    } else {
+                        out.writeByte(ID_STRING);
+                        writeString(out, id);
+                    }
+                    writeString(out, employee.getName());
+                    out.writeInt(employee.getSalary());
+                    out.writeInt(employee.getAge());
+                    writeString(out, employee.getTitle());
+                    writeString(out, employee.getEmail());
+                }
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /* Decodes through scratch unless the value is longer; a length past the end of the file means it is truncated. */
+    private static String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Employees ranked by descending salary, so the highest salary and the top-K earners are read from the head of the
+ * ranking instead of scanning or sorting the whole roster.
+ * <p>
+ * Equal salaries keep roster order, as a stable sort of the roster would: every employee gets an ordinal in roster
+ * order, an employee written again under a known id keeps its ordinal, as it keeps its place in the roster, and a new
+ * one is ordered after everyone indexed so far.
+ * <p>
+ * An index never changes once built. {@link #withChanges} and {@link #withAppended} derive a successor that shares
+ * the ranking and keeps the writes in a small overlay, copied per derivation and merged into the ranking as it is
+ * read; {@link RosterSnapshot} rebuilds the index from its list once the overlay grows too large.
+ */
+public final class SalaryIndex {
+
+    private static final Comparator<Entry> BY_SALARY_DESC =
+            Comparator.comparingInt(Entry::salary).reversed().thenComparingLong(Entry::ordinal);
+
+    private final Entry[] ranked;
+    private final Map<String, Entry> entriesById;
+    /* Written since the ranking was built: the entry by id, null once deleted, and the live entries ranked. */
+    private final Map<String, Entry> changed;
+    private final NavigableSet<Entry> overlay;
+    private final long nextOrdinal;
+
+    SalaryIndex(Collection<Employee> roster) {
+        ranked = new Entry[roster.size()];
+        entriesById = new HashMap<>(roster.size());
+        int ordinal = 0;
+        for (Employee employee : roster) {
+            Entry entry = new Entry(employee, ordinal);
+            ranked[ordinal++] = entry;
+            if (employee.getId() != null) {
+                entriesById.put(employee.getId(), entry);
+            }
+        }
+        Arrays.sort(ranked, BY_SALARY_DESC);
+        changed = Map.of();
+        overlay = new TreeSet<>(BY_SALARY_DESC);
+        nextOrdinal = ordinal;
+    }
+
+    private SalaryIndex(SalaryIndex base, Map<String, Entry> changed, NavigableSet<Entry> overlay, long nextOrdinal) {
+        this.ranked = base.ranked;
+        this.entriesById = base.entriesById;
+        this.changed = changed;
+        this.overlay = overlay;
+        this.nextOrdinal = nextOrdinal;
+    }
+
+    /** Highest salary in the roster, or {@code 0} when it is empty. */
+    public int highestSalary() {
+        List<Entry> top = top(1);
+        return top.isEmpty() ? 0 : top.get(0).salary();
+    }
+
+    /** Names of the {@code limit} best paid employees, highest salary first. */
+    public List<String> topEarnerNames(int limit) {
+        List<Entry> top = top(limit);
+        List<String> names = new ArrayList<>(top.size());
+        for (Entry entry : top) {
+            names.add(entry.employee().getName());
+        }
+        return names;
+    }
+
+    /**
+     * An index with {@code latest} applied: an id mapped to an employee replaces the employee with that id without
+     * moving it among equal salaries, or adds it, and an id mapped to {@code null} is removed.
+     */
+    SalaryIndex withChanges(Map<String, Employee> latest) {
+        Map<String, Entry> changed = new HashMap<>(this.changed);
+        NavigableSet<Entry> overlay = new TreeSet<>(this.overlay);
+        long next = nextOrdinal;
+        for (Map.Entry<String, Employee> change : latest.entrySet()) {
+            Entry previous = changed.containsKey(change.getKey())
+                    ? changed.get(change.getKey())
+                    : entriesById.get(change.getKey());
+            if (previous != null) {
+                overlay.remove(previous);
+            }
+            Entry entry = null;
+            if (change.getValue() != null) {
+                entry = new Entry(change.getValue(), previous == null ? next++ : previous.ordinal());
+                overlay.add(entry);
+            }
+            changed.put(change.getKey(), entry);
+        }
+        return new SalaryIndex(this, changed, overlay, next);
+    }
+
+    /** An index with {@code employee}, which has no id, added after everyone indexed so far. */
+    SalaryIndex withAppended(Employee employee) {
+        NavigableSet<Entry> overlay = new TreeSet<>(this.overlay);
+        overlay.add(new Entry(employee, nextOrdinal));
+        return new SalaryIndex(this, changed, overlay, nextOrdinal + 1);
+    }
+
+    /* Merges the ranking, minus the entries written since, with the overlay. */
+    private List<Entry> top(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, ranked.length + overlay.size()));
+        Iterator<Entry> written = overlay.iterator();
+        Entry nextWritten = written.hasNext() ? written.next() : null;
+        int i = 0;
+        while (top.size() < limit) {
+            while (i < ranked.length && isChanged(ranked[i])) {
+                i++;
+            }
+            Entry nextRanked = i < ranked.length ? ranked[i] : null;
+            if (nextRanked == null && nextWritten == null) {
+                break;
+            }
+            if (nextWritten == null || nextRanked != null && BY_SALARY_DESC.compare(nextRanked, nextWritten) < 0) {
+                top.add(nextRanked);
+                i++;
+            } else {
+                top.add(nextWritten);
+                nextWritten = written.hasNext() ? written.next() : null;
+            }
+        }
+        return top;
+    }
+
+    private boolean isChanged(Entry entry) {
+        String id = entry.employee().getId();
+        return id != null && changed.containsKey(id);
+    }
+
+    private record Entry(Employee employee, long ordinal) {
+        int salary() {
+            return employee.getSalary();
+        }
+    }
+}
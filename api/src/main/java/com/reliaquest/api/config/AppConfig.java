@@ -1,13 +1,146 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.httpclient.CoalescingHttpClient;
+import com.reliaquest.api.httpclient.ConditionalHttpClient;
+import com.reliaquest.api.httpclient.MeteredHttpClient;
+import com.reliaquest.api.httpclient.PooledHttpTransport;
+import com.reliaquest.api.httpclient.RestTemplateHttpClient;
+import com.reliaquest.api.httpclient.ScheduledHttpClient;
+import com.reliaquest.api.httpclient.UpstreamScheduler;
+import com.reliaquest.api.httpclient.WebClientHttpClient;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class AppConfig {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @ConditionalOnProperty(name = "employee.upstream.http.pooled", matchIfMissing = true)
+    public PooledHttpTransport pooledHttpTransport(
+            @Value("${employee.upstream.http.max-connections:50}") int maxConnections,
+            @Value("${employee.upstream.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${employee.upstream.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${employee.upstream.http.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${employee.upstream.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${employee.upstream.http.compression:true}") boolean compression) {
+        return new PooledHttpTransport(new PooledHttpTransport.Settings(
+                maxConnections,
+                maxConnectionsPerRoute,
+                connectTimeout,
+                readTimeout,
+                connectionRequestTimeout,
+                maxIdleTime,
+                compression));
+    }
+
+    /**
+     * Uses the pooled transport unless {@code employee.upstream.http.pooled=false}, in which case the JDK
+     * {@code HttpURLConnection} factory is kept, but still with timeouts.
+     */
+    @Bean
+    public RestTemplate restTemplate(
+            ObjectProvider<PooledHttpTransport> pooledHttpTransport,
+            @Value("${employee.upstream.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.http.read-timeout:5s}") Duration readTimeout) {
+        PooledHttpTransport transport = pooledHttpTransport.getIfAvailable();
+        if (transport != null) {
+            return new RestTemplate(transport.requestFactory());
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    @Bean
+    public UpstreamScheduler upstreamScheduler(
+            @Value("${employee.upstream.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${employee.upstream.max-backoff:120s}") Duration maxBackoff) {
+        return new UpstreamScheduler(initialBackoff, maxBackoff);
+    }
+
+    /**
+     * The client {@code EmployeeService} talks to: identical GETs are coalesced first, so a single-flight call only
+     * spends one permit of the rate-limit-aware scheduler in front of the RestTemplate transport. Each permitted GET
+     * is made conditional right above the transport, so a 429 retry revalidates the same remembered response. Every
+     * request that reaches the transport is timed. Reads and writes queue at most as long as the {@value
+     * ResilienceConfig#READS} and {@value ResilienceConfig#WRITES} time limiters allow.
+     */
+    @Bean
+    @Primary
+    public CoalescingHttpClient employeeHttpClient(
+            RestTemplateHttpClient restTemplateHttpClient,
+            UpstreamScheduler upstreamScheduler,
+            MeterRegistry meterRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            @Value("${employee.upstream.conditional.max-entries:10000}") int conditionalMaxEntries) {
+        return new CoalescingHttpClient(new ScheduledHttpClient(
+                new ConditionalHttpClient(
+                        new MeteredHttpClient(restTemplateHttpClient, meterRegistry), conditionalMaxEntries),
+                upstreamScheduler,
+                deadline(timeLimiterRegistry, ResilienceConfig.READS),
+                deadline(timeLimiterRegistry, ResilienceConfig.WRITES)));
+    }
+
+    /**
+     * Non-blocking client for {@code ReactiveEmployeeService}, created with {@code employee.upstream.client=reactive}.
+     * Reactor Netty gets the same pool size, timeouts and compression settings as the blocking transport, plus a cap
+     * on how large a buffered response body may grow (the default 256KB is too small for a large roster).
+     */
+    @Bean
+    @ConditionalOnProperty(name = "employee.upstream.client", havingValue = "reactive")
+    public WebClientHttpClient webClientHttpClient(
+            WebClient.Builder webClientBuilder,
+            UpstreamScheduler upstreamScheduler,
+            TimeLimiterRegistry timeLimiterRegistry,
+            @Value("${employee.upstream.http.max-connections:50}") int maxConnections,
+            @Value("${employee.upstream.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${employee.upstream.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${employee.upstream.http.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${employee.upstream.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${employee.upstream.http.compression:true}") boolean compression,
+            @Value("${employee.upstream.http.max-in-memory-size:64MB}") DataSize maxInMemorySize) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("employee-upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .compress(compression);
+        WebClient webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .build();
+        return new WebClientHttpClient(
+                webClient,
+                upstreamScheduler,
+                deadline(timeLimiterRegistry, ResilienceConfig.READS),
+                deadline(timeLimiterRegistry, ResilienceConfig.WRITES));
+    }
+
+    /*
+     * resilience4j's TimeLimiter only decorates asynchronous calls, and EmployeeService is synchronous. Its configured
+     * timeout is therefore applied where a call can wait unboundedly: as the deadline for which the upstream client
+     * queues for a permit and retries 429s. The transport's read timeout bounds the call itself.
+     */
+    private static Duration deadline(TimeLimiterRegistry timeLimiterRegistry, String name) {
+        return timeLimiterRegistry.timeLimiter(name).getTimeLimiterConfig().getTimeoutDuration();
     }
 }
@@ -0,0 +1,126 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterCacheStats;
+import com.reliaquest.api.httpclient.CoalescingHttpClient;
+import com.reliaquest.api.httpclient.PooledHttpTransport;
+import com.reliaquest.api.httpclient.UpstreamScheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the counters the roster cache, the upstream scheduler and the HTTP clients already keep as Micrometer
+ * meters. They are read from each component's stats when the registry is scraped, so the request path pays nothing
+ * extra. {@code EmployeeService}, {@code EmployeeFallbackService} and {@code MeteredHttpClient} record their own
+ * timers and counters; the circuit breakers are published by resilience4j's own Micrometer binding.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder rosterCacheMetrics(RosterCache rosterCache) {
+        return registry -> {
+            FunctionCounter.builder("employee.cache.reads", rosterCache, cache -> fresh(cache.getStats()))
+                    .tag("result", "fresh")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.reads", rosterCache, cache -> cache.getStats().staleHits())
+                    .tag("result", "stale")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.reads", rosterCache, cache -> cache.getStats().misses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.cache.not.found.hits", rosterCache, cache -> cache.getStats().notFoundHits())
+                    .description("Id lookups answered from the NOT_FOUND negative cache")
+                    .register(registry);
+            FunctionCounter.builder("employee.cache.refreshes", rosterCache, cache -> cache.getStats().refreshes())
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.cache.refreshes", rosterCache, cache -> cache.getStats().refreshFailures())
+                    .tag("result", "failure")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.cache.refreshes", rosterCache, cache -> cache.getStats().refreshesDiscarded())
+                    .tag("result", "discarded")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.cache.changes.applied", rosterCache, cache -> cache.getStats().changesApplied())
+                    .description("Upstream changes applied from the change feed instead of a full load")
+                    .register(registry);
+            Gauge.builder("employee.cache.version", rosterCache, cache -> cache.getStats().version())
+                    .description("Version of the cached roster snapshot, -1 when empty")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder upstreamSchedulerMetrics(UpstreamScheduler upstreamScheduler) {
+        return registry -> {
+            FunctionCounter.builder(
+                            "employee.upstream.permits", upstreamScheduler, s -> s.getStats().admitted())
+                    .description("Upstream calls admitted by the scheduler")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.upstream.rate.limited", upstreamScheduler, s -> s.getStats().rateLimited())
+                    .description("429 responses from the upstream, each re-queued until its deadline")
+                    .register(registry);
+            FunctionCounter.builder(
+                            "employee.upstream.deadline.exceeded", upstreamScheduler, s -> s.getStats().timedOut())
+                    .description("Callers that got no upstream permit before their deadline and were answered 429")
+                    .register(registry);
+            Gauge.builder("employee.upstream.waiting", upstreamScheduler, s -> s.getStats().waiting())
+                    .description("Callers queued for an upstream permit")
+                    .register(registry);
+            Gauge.builder("employee.upstream.learned.budget", upstreamScheduler, s -> s.getStats().learnedBudget())
+                    .description("Requests per window learned from 429s, 0 while unknown")
+                    .register(registry);
+            TimeGauge.builder(
+                            "employee.upstream.learned.backoff",
+                            upstreamScheduler,
+                            TimeUnit.MILLISECONDS,
+                            s -> s.getStats().learnedBackoff().toMillis())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder upstreamClientMetrics(
+            CoalescingHttpClient coalescingHttpClient, ObjectProvider<PooledHttpTransport> pooledHttpTransport) {
+        return registry -> {
+            FunctionCounter.builder(
+                            "employee.upstream.coalesced", coalescingHttpClient, c -> c.getStats().coalescedCalls())
+                    .description("GETs that joined an identical call already in flight")
+                    .register(registry);
+            Gauge.builder("employee.upstream.in.flight", coalescingHttpClient, c -> c.getStats().inFlight())
+                    .description("Distinct GETs currently in flight")
+                    .register(registry);
+            PooledHttpTransport transport = pooledHttpTransport.getIfAvailable();
+            if (transport == null) {
+                return;
+            }
+            FunctionCounter.builder(
+                            "employee.upstream.connections.opened", transport, t -> t.getStats().connectionsOpened())
+                    .register(registry);
+            Gauge.builder("employee.upstream.connections", transport, t -> t.getStats().leased())
+                    .tag("state", "leased")
+                    .register(registry);
+            Gauge.builder("employee.upstream.connections", transport, t -> t.getStats().available())
+                    .tag("state", "available")
+                    .register(registry);
+            Gauge.builder("employee.upstream.connections.pending", transport, t -> t.getStats().pending())
+                    .description("Requests waiting for a pooled connection")
+                    .register(registry);
+        };
+    }
+
+    private static long fresh(RosterCacheStats stats) {
+        return stats.hits() - stats.staleHits();
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.exception.TooManyRequestsException;
+import io.github.resilience4j.common.retry.configuration.CommonRetryConfigurationProperties;
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.IntervalBiFunction;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.configure.RetryConfigurationProperties;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The resilience4j policies behind {@code EmployeeService} are configured under {@code resilience4j} in
+ * {@code application.yml}: one circuit breaker for the upstream, and a bulkhead, a retry and a time limiter each for
+ * reads ({@value #READS}) and writes ({@value #WRITES}). This class adds what the properties cannot express: both
+ * retries also retry a 429 and wait for the upstream's {@code Retry-After} before doing so, unless the upstream client
+ * already retried it until its deadline.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    public static final String READS = "employeeReads";
+    public static final String WRITES = "employeeWrites";
+
+    @Bean
+    public RetryConfigCustomizer employeeReadsRetryCustomizer(RetryConfigurationProperties properties) {
+        return retryAfterAware(READS, properties);
+    }
+
+    @Bean
+    public RetryConfigCustomizer employeeWritesRetryCustomizer(RetryConfigurationProperties properties) {
+        return retryAfterAware(WRITES, properties);
+    }
+
+    /**
+     * Waits between attempts of retry {@code name} by its configured jittered exponential backoff, or after a 429 by
+     * the upstream's {@code Retry-After} plus that backoff, so callers rejected together do not return together. A
+     * 429 is retried unless its {@code Retry-After} is longer than the retry's {@code exponentialMaxWaitDuration}, or
+     * it is not {@linkplain TooManyRequestsException#isRetryable() retryable} because {@code ScheduledHttpClient}
+     * already spent the time limiter's deadline on it; the caller then gets the 429 and the {@code Retry-After} right
+     * away instead of holding a request thread, and a bulkhead slot, for another round of waiting.
+     */
+    @SuppressWarnings("unchecked") // RetryConfigCustomizer hands over a raw RetryConfig.Builder
+    static RetryConfigCustomizer retryAfterAware(String name, CommonRetryConfigurationProperties properties) {
+        return RetryConfigCustomizer.of(name, builder -> {
+            CommonRetryConfigurationProperties.InstanceProperties instance =
+                    Objects.requireNonNullElseGet(
+                            properties.getInstances().get(name),
+                            CommonRetryConfigurationProperties.InstanceProperties::new);
+            Duration wait = Objects.requireNonNullElse(instance.getWaitDuration(), Duration.ofMillis(500));
+            Duration maxWait = Objects.requireNonNullElse(instance.getExponentialMaxWaitDuration(), wait);
+            IntervalFunction backoff = IntervalFunction.ofExponentialRandomBackoff(
+                    wait,
+                    Objects.requireNonNullElse(
+                            instance.getExponentialBackoffMultiplier(), IntervalFunction.DEFAULT_MULTIPLIER),
+                    Objects.requireNonNullElse(
+                            instance.getRandomizedWaitFactor(), IntervalFunction.DEFAULT_RANDOMIZATION_FACTOR),
+                    maxWait);
+            builder.intervalBiFunction(retryAfterOrBackoff(backoff));
+            builder.retryOnException(failure -> failure instanceof TooManyRequestsException rejected
+                    && rejected.isRetryable()
+                    && (rejected.getRetryAfter() == null || rejected.getRetryAfter().compareTo(maxWait) <= 0));
+        });
+    }
+
+    static IntervalBiFunction<Object> retryAfterOrBackoff(IntervalFunction backoff) {
+        return (attempt, outcome) -> {
+            long millis = backoff.apply(attempt);
+            if (outcome.isLeft()
+                    && outcome.getLeft() instanceof TooManyRequestsException rejected
+                    && rejected.getRetryAfter() != null) {
+                millis += rejected.getRetryAfter().toMillis();
+            }
+            return millis;
+        };
+    }
+}
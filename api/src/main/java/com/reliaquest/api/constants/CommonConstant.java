@@ -6,12 +6,22 @@ public final class CommonConstant {
     public static final String DELETE_EMPLOYEE_WITH_ID_FAILED = "Failed to delete employee for id.";
     public static final String DELETE_EMPLOYEE_WITH_ID_SUCCESS =
             "Employee has been successfully deleted for given id. deleted Employee :";
+    public static final String BULK_REQUEST_EMPTY = "Bulk request has no items.";
+    public static final String BULK_REQUEST_TOO_LARGE = "Bulk request has too many items; the limit is ";
+    public static final String BULK_ITEM_MISSING = "Item is null";
+    public static final String BULK_ID_MISSING = "Id is mandatory";
+    public static final String BULK_ID_INVALID = "Id is not a UUID";
+    public static final String DELETE_EMPLOYEES_FAILED = "Failed to delete employees.";
+    public static final String BULK_OUTCOME_UNKNOWN = "The upstream did not answer in time; it may have been applied.";
+    public static final String BULK_NOT_SENT = "Not sent; the upstream is unavailable.";
     public static final String SERVER_ERROR = "Server error";
     public static final String TOO_MANY_REQUESTS_ATTEMPTED = "Too Many Requests Attempted";
     public static final String CLIENT_ERROR = "Client error";
     public static final String STRING_IS_NULL_OR_EMPTY = "String is null or empty.";
     public static final String NOT_FOUND = "Not Found";
     public static final String NO_DATA_FOUND = "No data found ";
+    /* When the upstream last confirmed a roster served from the last known good snapshot; see Age for how long ago. */
+    public static final String ROSTER_FETCHED_AT_HEADER = "X-Roster-Fetched-At";
     public static final String EXCEEDED_THE_NUMBER_OF_REQUESTS =
             "You have exceeded the allowed number of requests. Please try again later.";
 }
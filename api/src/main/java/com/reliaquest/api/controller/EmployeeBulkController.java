@@ -0,0 +1,39 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.CreateEmployeeRequest;
+import com.reliaquest.api.response.BulkResponseData;
+import com.reliaquest.api.service.EmployeeBulkService;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk endpoints next to the fixed {@link IEmployeeController} contract, answering with a per-item report; see
+ * {@link EmployeeBulkService}. Items are validated there one by one, so an invalid item is reported instead of
+ * failing the whole request.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/bulk")
+public class EmployeeBulkController {
+    private final EmployeeBulkService employeeBulkService;
+
+    public EmployeeBulkController(EmployeeBulkService employeeBulkService) {
+        this.employeeBulkService = employeeBulkService;
+    }
+
+    @PostMapping()
+    public ResponseEntity<BulkResponseData<Employee>> createEmployees(
+            @RequestBody List<CreateEmployeeRequest> employeeInputs) {
+        return employeeBulkService.createEmployees(employeeInputs);
+    }
+
+    @DeleteMapping()
+    public ResponseEntity<BulkResponseData<Employee>> deleteEmployees(@RequestBody List<String> ids) {
+        return employeeBulkService.deleteEmployees(ids);
+    }
+}
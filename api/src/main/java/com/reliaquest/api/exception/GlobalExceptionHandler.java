@@ -2,6 +2,7 @@ package com.reliaquest.api.exception;
 
 import com.reliaquest.api.constants.CommonConstant;
 import com.reliaquest.api.response.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,7 +24,11 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
         ErrorResponse errorResponse =
                 new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), CommonConstant.TOO_MANY_REQUESTS_ATTEMPTED, ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.TOO_MANY_REQUESTS);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (ex.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfter().toSeconds()));
+        }
+        return response.body(errorResponse);
     }
 
     @ExceptionHandler(HttpClientErrorException.class)
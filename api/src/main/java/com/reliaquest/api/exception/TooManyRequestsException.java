@@ -1,7 +1,36 @@
 package com.reliaquest.api.exception;
 
+import java.time.Duration;
+
 public class TooManyRequestsException extends RuntimeException {
+
+    /* The upstream's Retry-After, when its 429 carried one. */
+    private final Duration retryAfter;
+
+    /* False once the upstream client has already retried the call until its deadline. */
+    private final boolean retryable;
+
     public TooManyRequestsException(String message) {
+        this(message, null);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        this(message, retryAfter, true);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter, boolean retryable) {
         super(message);
+        this.retryAfter = retryAfter;
+        this.retryable = retryable;
+    }
+
+    /** How long the upstream asked callers to wait, or {@code null} if it did not say. */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /** Whether another attempt may succeed sooner than the caller coming back after {@link #getRetryAfter()}. */
+    public boolean isRetryable() {
+        return retryable;
     }
 }
@@ -0,0 +1,92 @@
+package com.reliaquest.api.httpclient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Single-flight decorator: concurrent GETs of the same URL and response type share one upstream call and receive the
+ * same response or exception. Writes and streamed GETs, whose bodies each caller consumes itself, are passed straight
+ * through.
+ */
+public class CoalescingHttpClient implements IHttpClient {
+
+    private final IHttpClient delegate;
+    private final Map<Key, CompletableFuture<ResponseEntity<?>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    public CoalescingHttpClient(IHttpClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> get(String url, Class<T> responseType) {
+        Key key = new Key(url, responseType);
+        CompletableFuture<ResponseEntity<?>> flight = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<?>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return (ResponseEntity<T>) await(existing);
+        }
+
+        upstreamCalls.increment();
+        try {
+            ResponseEntity<T> response = delegate.get(url, responseType);
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @Override
+    public <T> T stream(String url, BodyReader<T> reader) {
+        return delegate.stream(url, reader);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType) {
+        return delegate.post(url, request, responseType);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> delete(String url, Object request, Class<T> responseType) {
+        return delegate.delete(url, request, responseType);
+    }
+
+    public CoalescingStats getStats() {
+        return new CoalescingStats(upstreamCalls.sum(), coalescedCalls.sum(), inFlight.size());
+    }
+
+    private static ResponseEntity<?> await(CompletableFuture<ResponseEntity<?>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(String url, Class<?> responseType) {}
+
+    /**
+     * @param upstreamCalls GETs that went to the delegate
+     * @param coalescedCalls GETs that joined an identical call already in flight
+     * @param inFlight distinct GETs currently in flight
+     */
+    public record CoalescingStats(long upstreamCalls, long coalescedCalls, int inFlight) {}
+}
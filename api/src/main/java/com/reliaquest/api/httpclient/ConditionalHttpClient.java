@@ -0,0 +1,105 @@
+package com.reliaquest.api.httpclient;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Conditional-GET decorator: remembers the last successful response of each URL and response type together with its
+ * ETag, revalidates it with {@code If-None-Match}, and on a 304 hands back that same response object. An unchanged
+ * resource then costs a header-only exchange, and callers can tell by identity that the body is the one they already
+ * processed. Writes are passed straight through; the upstream changes its ETags when they land. So are streamed GETs,
+ * which leave no response behind to remember.
+ * <p>
+ * At most {@code maxEntries} responses are remembered; further URLs are fetched unconditionally. They are held softly,
+ * so a large roster body the caller has already condensed can still be reclaimed under memory pressure; that URL's
+ * next GET is then unconditional again.
+ */
+public class ConditionalHttpClient implements IHttpClient {
+
+    private final IHttpClient delegate;
+    private final int maxEntries;
+    private final Map<Key, Validated> validated = new ConcurrentHashMap<>();
+
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+
+    public ConditionalHttpClient(IHttpClient delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> get(String url, Class<T> responseType) {
+        Key key = new Key(url, responseType);
+        Validated previous = validated.get(key);
+        ResponseEntity<?> remembered = previous == null ? null : previous.response().get();
+        if (remembered == null) {
+            return remember(key, delegate.get(url, responseType));
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(previous.etag());
+        ResponseEntity<T> response;
+        try {
+            response = delegate.get(url, responseType, headers);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                validated.remove(key, previous);
+            }
+            throw e;
+        }
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            notModified.increment();
+            return (ResponseEntity<T>) remembered;
+        }
+        return remember(key, response);
+    }
+
+    @Override
+    public <T> T stream(String url, BodyReader<T> reader) {
+        return delegate.stream(url, reader);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType) {
+        return delegate.post(url, request, responseType);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> delete(String url, Object request, Class<T> responseType) {
+        return delegate.delete(url, request, responseType);
+    }
+
+    public ConditionalStats getStats() {
+        return new ConditionalStats(notModified.sum(), modified.sum(), validated.size());
+    }
+
+    private <T> ResponseEntity<T> remember(Key key, ResponseEntity<T> response) {
+        modified.increment();
+        String etag = response.getHeaders().getETag();
+        if (etag == null || !response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            validated.remove(key);
+        } else if (validated.size() < maxEntries || validated.containsKey(key)) {
+            validated.put(key, new Validated(etag, new SoftReference<>(response)));
+        }
+        return response;
+    }
+
+    private record Key(String url, Class<?> responseType) {}
+
+    private record Validated(String etag, SoftReference<ResponseEntity<?>> response) {}
+
+    /**
+     * @param notModified GETs the upstream answered with 304, served from the remembered response
+     * @param modified GETs that returned a new response
+     * @param entries responses currently remembered
+     */
+    public record ConditionalStats(long notModified, long modified, int entries) {}
+}
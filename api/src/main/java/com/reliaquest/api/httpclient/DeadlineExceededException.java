@@ -0,0 +1,17 @@
+package com.reliaquest.api.httpclient;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * The 429 a {@link ScheduledHttpClient} call ends with once its deadline passes. The call was already queued and
+ * retried for as long as it was allowed to wait, so retrying it again only holds the caller longer.
+ */
+public class DeadlineExceededException extends HttpClientErrorException {
+
+    /** @param headers those of the upstream's last 429, so its {@code Retry-After} still reaches the caller */
+    public DeadlineExceededException(String statusText, HttpHeaders headers) {
+        super(HttpStatus.TOO_MANY_REQUESTS, statusText, headers, null, null);
+    }
+}
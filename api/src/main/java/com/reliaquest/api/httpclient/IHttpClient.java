@@ -1,11 +1,44 @@
 package com.reliaquest.api.httpclient;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 public interface IHttpClient {
     <T> ResponseEntity<T> get(String url, Class<T> responseType);
 
+    /**
+     * A GET sending extra request headers, such as {@code If-None-Match}; a 304 comes back as a response without a
+     * body. Clients that cannot send headers make a plain GET, so the headers may only ask for less work, never
+     * change what a successful response means.
+     */
+    default <T> ResponseEntity<T> get(String url, Class<T> responseType, HttpHeaders headers) {
+        return get(url, responseType);
+    }
+
+    /**
+     * A GET whose body is handed to {@code reader} as it arrives instead of being bound to a type; returns what the
+     * reader made of it. Clients that cannot stream read the whole body into memory first.
+     */
+    default <T> T stream(String url, BodyReader<T> reader) {
+        byte[] body = get(url, byte[].class).getBody();
+        try {
+            return reader.read(new ByteArrayInputStream(body == null ? new byte[0] : body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType);
 
     <T> ResponseEntity<T> delete(String url, Object request, Class<T> responseType);
+
+    /** Consumes a successful response body; error statuses are raised before it is called. */
+    @FunctionalInterface
+    interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
 }
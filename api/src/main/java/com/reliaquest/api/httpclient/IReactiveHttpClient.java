@@ -0,0 +1,17 @@
+package com.reliaquest.api.httpclient;
+
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IHttpClient}. Error responses are signalled as the same
+ * {@code HttpClientErrorException}/{@code HttpServerErrorException} types the blocking client throws, so callers can
+ * share their error handling.
+ */
+public interface IReactiveHttpClient {
+    <T> Mono<ResponseEntity<T>> get(String url, Class<T> responseType);
+
+    <T> Mono<ResponseEntity<T>> post(String url, Object request, Class<T> responseType);
+
+    <T> Mono<ResponseEntity<T>> delete(String url, Object request, Class<T> responseType);
+}
@@ -0,0 +1,111 @@
+package com.reliaquest.api.httpclient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Times every call to the upstream as {@code employee.upstream.requests}, tagged with the HTTP method, the URL path
+ * without the query and with ids replaced by {@code {id}}, and the status code the upstream answered. A call that
+ * got no response is tagged {@code IO_ERROR} with the exception's class name. Each status tag's count is therefore
+ * the upstream's status-code counter, 429s included.
+ * <p>
+ * Sits right above the transport, so each 429 retry and each conditional revalidation answered 304 is a call of its
+ * own.
+ */
+public class MeteredHttpClient implements IHttpClient {
+
+    /* Path segments other than words and version markers such as v1. */
+    private static final Pattern ID_SEGMENT = Pattern.compile("(?<=/)(?!(?:[a-zA-Z]+|v\\d+)(?:/|$))[^/]+");
+
+    private final IHttpClient delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MeteredHttpClient(IHttpClient delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> ResponseEntity<T> get(String url, Class<T> responseType) {
+        return timed("GET", url, () -> delegate.get(url, responseType), MeteredHttpClient::status);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> get(String url, Class<T> responseType, HttpHeaders headers) {
+        return timed("GET", url, () -> delegate.get(url, responseType, headers), MeteredHttpClient::status);
+    }
+
+    /* A streamed body only arrives after a successful status; the reader's parse time is part of the call. */
+    @Override
+    public <T> T stream(String url, BodyReader<T> reader) {
+        return timed("GET", url, () -> delegate.stream(url, reader), result -> "200");
+    }
+
+    @Override
+    public <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType) {
+        return timed("POST", url, () -> delegate.post(url, request, responseType), MeteredHttpClient::status);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> delete(String url, Object request, Class<T> responseType) {
+        return timed("DELETE", url, () -> delegate.delete(url, request, responseType), MeteredHttpClient::status);
+    }
+
+    private <R> R timed(String method, String url, Supplier<R> call, Function<R, String> status) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String statusTag = "IO_ERROR";
+        String exceptionTag = "none";
+        try {
+            R result = call.get();
+            statusTag = status.apply(result);
+            return result;
+        } catch (HttpStatusCodeException e) {
+            statusTag = Integer.toString(e.getStatusCode().value());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            exceptionTag = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            TimerKey key = new TimerKey(method, uri(url), statusTag, exceptionTag);
+            sample.stop(timers.computeIfAbsent(key, this::timer));
+        }
+    }
+
+    /* Registered once per combination of tags; the uri tag keeps the combinations few. */
+    private Timer timer(TimerKey key) {
+        return Timer.builder("employee.upstream.requests")
+                .description("Calls to the upstream employee API")
+                .tag("method", key.method())
+                .tag("uri", key.uri())
+                .tag("status", key.status())
+                .tag("exception", key.exception())
+                .register(meterRegistry);
+    }
+
+    private static String status(ResponseEntity<?> response) {
+        return response == null ? "none" : Integer.toString(response.getStatusCode().value());
+    }
+
+    /** {@code url}'s path with ids replaced by {@code {id}}, so the tag has a handful of values. */
+    static String uri(String url) {
+        int start = url.indexOf("://");
+        int path = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (path < 0) {
+            return "/";
+        }
+        int query = url.indexOf('?', path);
+        String withoutQuery = query < 0 ? url.substring(path) : url.substring(path, query);
+        return ID_SEGMENT.matcher(withoutQuery).replaceAll("{id}");
+    }
+
+    private record TimerKey(String method, String uri, String status, String exception) {}
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.api.httpclient;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Apache HttpClient 5 transport for {@link RestTemplateHttpClient}: a pool of persistent connections with a
+ * per-route cap, connect/read/pool-wait timeouts and, unless disabled, transparent gzip/deflate decoding (HttpClient
+ * sends {@code Accept-Encoding} and inflates responses itself).
+ * <p>
+ * Counts requests and newly opened connections, so the share of requests that reused a pooled connection can be read
+ * from {@link #getStats()}.
+ */
+public class PooledHttpTransport {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+
+    public PooledHttpTransport(Settings settings) {
+        HttpConnectionFactory<ManagedHttpClientConnection> countingFactory = new HttpConnectionFactory<>() {
+            @Override
+            public ManagedHttpClientConnection createConnection(Socket socket) throws IOException {
+                connectionsOpened.increment();
+                return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+            }
+        };
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxConnections())
+                .setMaxConnPerRoute(settings.maxConnectionsPerRoute())
+                .setConnectionFactory(countingFactory)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(settings.connectTimeout()))
+                        .setSocketTimeout(timeout(settings.readTimeout()))
+                        .build())
+                .build();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(settings.connectionRequestTimeout()))
+                        .setResponseTimeout(timeout(settings.readTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.maxIdleTime().toMillis()))
+                .addRequestInterceptorLast((request, entity, context) -> requests.increment());
+        if (!settings.compression()) {
+            builder.disableContentCompression();
+        }
+        this.httpClient = builder.build();
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    public TransportStats getStats() {
+        PoolStats pool = connectionManager.getTotalStats();
+        return new TransportStats(
+                requests.sum(),
+                connectionsOpened.sum(),
+                pool.getLeased(),
+                pool.getAvailable(),
+                pool.getPending(),
+                pool.getMax());
+    }
+
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * @param maxConnections pooled connections across all routes
+     * @param maxConnectionsPerRoute pooled connections to a single host:port
+     * @param connectTimeout TCP connect timeout
+     * @param readTimeout socket read (and response) timeout
+     * @param connectionRequestTimeout how long a request waits for a free pooled connection
+     * @param maxIdleTime idle connections older than this are closed in the background
+     * @param compression whether to send {@code Accept-Encoding: gzip, deflate} and decode compressed responses
+     */
+    public record Settings(
+            int maxConnections,
+            int maxConnectionsPerRoute,
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration connectionRequestTimeout,
+            Duration maxIdleTime,
+            boolean compression) {}
+
+    /**
+     * @param requests requests sent through the pool
+     * @param connectionsOpened new connections opened; {@code requests - connectionsOpened} reused one
+     * @param leased connections currently in use
+     * @param available idle connections ready for reuse
+     * @param pending requests waiting for a connection
+     * @param max pool capacity
+     */
+    public record TransportStats(
+            long requests, long connectionsOpened, int leased, int available, int pending, int max) {
+
+        public double reuseRatio() {
+            return requests == 0 ? 0 : 1 - (double) Math.min(connectionsOpened, requests) / requests;
+        }
+    }
+}
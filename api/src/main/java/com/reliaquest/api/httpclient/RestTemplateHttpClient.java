@@ -1,7 +1,10 @@
 package com.reliaquest.api.httpclient;
 
+import java.util.List;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -19,6 +22,20 @@ public class RestTemplateHttpClient implements IHttpClient {
         return restTemplate.getForEntity(url, responseType);
     }
 
+    @Override
+    public <T> ResponseEntity<T> get(String url, Class<T> responseType, HttpHeaders headers) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+    }
+
+    @Override
+    public <T> T stream(String url, BodyReader<T> reader) {
+        return restTemplate.execute(
+                url,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> reader.read(response.getBody()));
+    }
+
     @Override
     public <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType) {
         return restTemplate.postForEntity(url, request, responseType);
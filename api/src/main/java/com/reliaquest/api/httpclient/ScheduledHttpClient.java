@@ -0,0 +1,96 @@
+package com.reliaquest.api.httpclient;
+
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.httpclient.UpstreamScheduler.Priority;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Routes every upstream call through an {@link UpstreamScheduler}: writes are admitted before reads, and a call
+ * rejected with 429 is queued again and retried until its deadline instead of failing straight away. Only a caller
+ * whose deadline passes sees the 429, as a {@link DeadlineExceededException}.
+ */
+public class ScheduledHttpClient implements IHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledHttpClient.class);
+
+    private final IHttpClient delegate;
+    private final UpstreamScheduler scheduler;
+    private final Duration readDeadline;
+    private final Duration writeDeadline;
+
+    public ScheduledHttpClient(
+            IHttpClient delegate, UpstreamScheduler scheduler, Duration readDeadline, Duration writeDeadline) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.readDeadline = readDeadline;
+        this.writeDeadline = writeDeadline;
+    }
+
+    @Override
+    public <T> ResponseEntity<T> get(String url, Class<T> responseType) {
+        return execute(Priority.READ, readDeadline, () -> delegate.get(url, responseType));
+    }
+
+    @Override
+    public <T> T stream(String url, BodyReader<T> reader) {
+        return execute(Priority.READ, readDeadline, () -> delegate.stream(url, reader));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType) {
+        return execute(Priority.WRITE, writeDeadline, () -> delegate.post(url, request, responseType));
+    }
+
+    @Override
+    public <T> ResponseEntity<T> delete(String url, Object request, Class<T> responseType) {
+        return execute(Priority.WRITE, writeDeadline, () -> delegate.delete(url, request, responseType));
+    }
+
+    /*
+     * Retrying writes is safe here: the mock server rejects rate-limited requests before they reach a handler.
+     */
+    private <T> T execute(Priority priority, Duration deadline, Supplier<T> call) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        while (true) {
+            if (!scheduler.acquire(priority, deadlineNanos)) {
+                logger.warn("No upstream permit for {} call within {}", priority, deadline);
+                throw new DeadlineExceededException(CommonConstant.TOO_MANY_REQUESTS_ATTEMPTED, null);
+            }
+            try {
+                T response = call.get();
+                scheduler.onSuccess();
+                return response;
+            } catch (HttpClientErrorException e) {
+                if (!e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                    scheduler.onSuccess();
+                    throw e;
+                }
+                scheduler.onRateLimited(retryAfter(e.getResponseHeaders()));
+                if (System.nanoTime() - deadlineNanos >= 0) {
+                    throw new DeadlineExceededException(e.getStatusText(), e.getResponseHeaders());
+                }
+                logger.debug("Upstream rate limited a {} call, re-queueing", priority);
+            }
+        }
+    }
+
+    /** The {@code Retry-After} delay in seconds announced by a 429 response, or {@code null}. */
+    public static Duration retryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.reliaquest.api.httpclient;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits outbound upstream calls within the request budget learned from the upstream's 429 responses.
+ * <p>
+ * The mock server lets a burst of requests through and then rejects everything until a backoff has passed since the
+ * last admitted request. The scheduler mirrors that: the number of successes before a 429 becomes the budget of a
+ * window, and once a window is used up callers queue until the learned backoff has elapsed. Each 429 blocks the
+ * queue for the backoff, which doubles while the upstream keeps rejecting (or follows {@code Retry-After} when sent).
+ * <p>
+ * Waiters are admitted strictly by priority, then arrival order, so queued writes overtake queued reads. Nobody waits
+ * past their own deadline.
+ */
+public class UpstreamScheduler {
+
+    public enum Priority {
+        WRITE,
+        READ
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).thenComparingLong(Waiter::sequence));
+
+    private final long maxBackoffNanos;
+
+    private long sequence;
+    private int budget;
+    private int admittedInWindow;
+    private int succeededInWindow;
+    private int consecutiveRateLimits;
+    private long lastAdmittedNanos;
+    private long blockedUntilNanos;
+    private long backoffNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public UpstreamScheduler(Duration initialBackoff, Duration maxBackoff) {
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.backoffNanos = initialBackoff.toNanos();
+        this.blockedUntilNanos = System.nanoTime();
+    }
+
+    /**
+     * Waits for a permit to call the upstream.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} after which the caller gives up
+     * @return whether a permit was granted before the deadline
+     */
+    public boolean acquire(Priority priority, long deadlineNanos) {
+        return acquire(priority, deadlineNanos, true);
+    }
+
+    /**
+     * Takes a permit only if one is free right now and nobody is queued ahead, without waiting or counting a timeout.
+     * Lets non-blocking callers avoid a thread hop when the upstream budget is not under pressure.
+     */
+    public boolean tryAcquire(Priority priority) {
+        return acquire(priority, System.nanoTime(), false);
+    }
+
+    private boolean acquire(Priority priority, long deadlineNanos, boolean countTimeout) {
+        lock.lock();
+        Waiter waiter = new Waiter(priority, sequence++);
+        waiters.add(waiter);
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long readyAt = nextPermitAt(now);
+                if (waiters.peek() == waiter && readyAt - now <= 0) {
+                    waiters.poll();
+                    admittedInWindow++;
+                    lastAdmittedNanos = now;
+                    admitted.increment();
+                    changed.signalAll();
+                    return true;
+                }
+                long remaining = deadlineNanos - now;
+                if (remaining <= 0) {
+                    if (countTimeout) {
+                        timedOut.increment();
+                    }
+                    return false;
+                }
+                long wakeUp = readyAt - now > 0 ? Math.min(readyAt - now, remaining) : remaining;
+                changed.awaitNanos(wakeUp);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.increment();
+            return false;
+        } finally {
+            if (waiters.remove(waiter)) {
+                changed.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    /** Reports that an admitted call was not rate limited by the upstream. */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            succeededInWindow++;
+            consecutiveRateLimits = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reports that an admitted call was rejected with 429.
+     *
+     * @param retryAfter backoff announced by the upstream, or {@code null} to use the learned estimate
+     */
+    public void onRateLimited(Duration retryAfter) {
+        lock.lock();
+        try {
+            rateLimited.increment();
+            if (succeededInWindow > 0) {
+                budget = succeededInWindow;
+            }
+            if (retryAfter != null) {
+                backoffNanos = Math.min(retryAfter.toNanos(), maxBackoffNanos);
+            } else if (consecutiveRateLimits > 0) {
+                backoffNanos = Math.min(backoffNanos * 2, maxBackoffNanos);
+            }
+            consecutiveRateLimits++;
+            long now = System.nanoTime();
+            blockedUntilNanos = now + backoffNanos;
+            lastAdmittedNanos = now;
+            admittedInWindow = 0;
+            succeededInWindow = 0;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SchedulerStats getStats() {
+        lock.lock();
+        try {
+            return new SchedulerStats(
+                    admitted.sum(),
+                    rateLimited.sum(),
+                    timedOut.sum(),
+                    waiters.size(),
+                    budget,
+                    rateLimited.sum() == 0 ? Duration.ZERO : Duration.ofNanos(backoffNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long nextPermitAt(long now) {
+        if (now - blockedUntilNanos < 0) {
+            return blockedUntilNanos;
+        }
+        if (budget > 0 && admittedInWindow >= budget) {
+            long windowEnd = lastAdmittedNanos + backoffNanos;
+            if (now - windowEnd < 0) {
+                return windowEnd;
+            }
+            admittedInWindow = 0;
+            succeededInWindow = 0;
+        }
+        return now;
+    }
+
+    private record Waiter(Priority priority, long sequence) {}
+
+    /**
+     * @param admitted permits granted
+     * @param rateLimited 429 responses reported back
+     * @param timedOut callers that gave up at their deadline
+     * @param waiting callers currently queued
+     * @param learnedBudget requests per window learned from 429s, {@code 0} while unknown
+     * @param learnedBackoff current backoff estimate, zero until the upstream first rate limits
+     */
+    public record SchedulerStats(
+            long admitted, long rateLimited, long timedOut, int waiting, int learnedBudget, Duration learnedBackoff) {}
+}
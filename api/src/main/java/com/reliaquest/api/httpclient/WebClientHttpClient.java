@@ -0,0 +1,134 @@
+package com.reliaquest.api.httpclient;
+
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.httpclient.UpstreamScheduler.Priority;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * {@link IReactiveHttpClient} on Spring's {@link WebClient} (Reactor Netty), sharing the {@link UpstreamScheduler}
+ * with the blocking client so both paths spend one rate-limit budget.
+ * <p>
+ * When a permit is free it is taken inline and the call never leaves the event loop; only a caller that has to queue
+ * for a permit waits on the bounded-elastic scheduler. Like {@link ScheduledHttpClient}, a 429 is reported to the
+ * scheduler and the call is re-queued until its deadline. Error statuses surface as {@link HttpClientErrorException}
+ * or {@link HttpServerErrorException}, carrying the response headers and body.
+ */
+public class WebClientHttpClient implements IReactiveHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebClientHttpClient.class);
+
+    private final WebClient webClient;
+    private final UpstreamScheduler scheduler;
+    private final Duration readDeadline;
+    private final Duration writeDeadline;
+
+    public WebClientHttpClient(
+            WebClient webClient, UpstreamScheduler scheduler, Duration readDeadline, Duration writeDeadline) {
+        this.webClient = webClient;
+        this.scheduler = scheduler;
+        this.readDeadline = readDeadline;
+        this.writeDeadline = writeDeadline;
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<T>> get(String url, Class<T> responseType) {
+        return execute(Priority.READ, readDeadline, () -> webClient
+                .get()
+                .uri(url)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, WebClientHttpClient::toException)
+                .toEntity(responseType));
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<T>> post(String url, Object request, Class<T> responseType) {
+        return execute(Priority.WRITE, writeDeadline, () -> webClient
+                .post()
+                .uri(url)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, WebClientHttpClient::toException)
+                .toEntity(responseType));
+    }
+
+    @Override
+    public <T> Mono<ResponseEntity<T>> delete(String url, Object request, Class<T> responseType) {
+        return execute(Priority.WRITE, writeDeadline, () -> webClient
+                .method(HttpMethod.DELETE)
+                .uri(url)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, WebClientHttpClient::toException)
+                .toEntity(responseType));
+    }
+
+    private <T> Mono<ResponseEntity<T>> execute(
+            Priority priority, Duration deadline, Supplier<Mono<ResponseEntity<T>>> call) {
+        return Mono.defer(() -> {
+            long deadlineNanos = System.nanoTime() + deadline.toNanos();
+            Mono<ResponseEntity<T>> attempt = Mono.defer(call)
+                    .doOnSuccess(response -> scheduler.onSuccess())
+                    .doOnError(HttpClientErrorException.class, e -> {
+                        if (isRateLimited(e)) {
+                            scheduler.onRateLimited(ScheduledHttpClient.retryAfter(e.getResponseHeaders()));
+                        } else {
+                            scheduler.onSuccess();
+                        }
+                    });
+            return Mono.defer(() -> permit(priority, deadlineNanos, deadline))
+                    .then(attempt)
+                    .retryWhen(Retry.indefinitely()
+                            .filter(e -> isRateLimited(e) && System.nanoTime() - deadlineNanos < 0)
+                            .doBeforeRetry(signal ->
+                                    logger.debug("Upstream rate limited a {} call, re-queueing", priority)));
+        });
+    }
+
+    private Mono<Void> permit(Priority priority, long deadlineNanos, Duration deadline) {
+        if (scheduler.tryAcquire(priority)) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> scheduler.acquire(priority, deadlineNanos))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(granted -> {
+                    if (granted) {
+                        return Mono.empty();
+                    }
+                    logger.warn("No upstream permit for {} call within {}", priority, deadline);
+                    return Mono.error(new HttpClientErrorException(
+                            HttpStatus.TOO_MANY_REQUESTS, CommonConstant.TOO_MANY_REQUESTS_ATTEMPTED));
+                });
+    }
+
+    private static boolean isRateLimited(Throwable e) {
+        return e instanceof HttpClientErrorException clientError
+                && clientError.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private static Mono<? extends Throwable> toException(ClientResponse response) {
+        return response.bodyToMono(byte[].class).defaultIfEmpty(new byte[0]).map(body -> {
+            HttpStatusCode status = response.statusCode();
+            String statusText = status instanceof HttpStatus known ? known.getReasonPhrase() : "";
+            return status.is4xxClientError()
+                    ? HttpClientErrorException.create(
+                            status, statusText, response.headers().asHttpHeaders(), body, StandardCharsets.UTF_8)
+                    : HttpServerErrorException.create(
+                            status, statusText, response.headers().asHttpHeaders(), body, StandardCharsets.UTF_8);
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChange {
+    public static final String DELETED = "DELETED";
+
+    private long version;
+    /** {@code CREATED} or {@code DELETED}. */
+    private String type;
+    private Employee employee;
+}
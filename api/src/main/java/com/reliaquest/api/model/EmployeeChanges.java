@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A slice of the mock server's change feed; {@code resync} means the requested version is no longer in it. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChanges {
+    private String epoch;
+    private long version;
+    private boolean resync;
+    private boolean hasMore;
+    private List<EmployeeChange> changes;
+}
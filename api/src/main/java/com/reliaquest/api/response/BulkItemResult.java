@@ -0,0 +1,34 @@
+package com.reliaquest.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** The outcome of one item of a bulk request; {@code index} is its position in the request. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult<T> {
+
+    public enum Status {
+        SUCCEEDED,
+        /** Failed validation and was not sent upstream. */
+        REJECTED,
+        /** The upstream call carrying it failed, or was never made; resubmitting it may succeed. */
+        FAILED,
+        /**
+         * The upstream call carrying it was sent but not answered in time, so it may or may not have been applied;
+         * check before resubmitting it.
+         */
+        UNKNOWN,
+        /** A delete of an id that no employee has. */
+        NOT_FOUND
+    }
+
+    private int index;
+    private Status status;
+    private T data;
+    private String error;
+}
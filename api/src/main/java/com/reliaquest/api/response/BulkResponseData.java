@@ -0,0 +1,16 @@
+package com.reliaquest.api.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Per-item report of a bulk request, in request order; {@code failed} counts rejected items too. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkResponseData<T> {
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult<T>> results;
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.response;
+
+import com.reliaquest.api.model.EmployeeChanges;
+import lombok.Data;
+
+@Data
+public class EmployeeChangesResponseData {
+    private EmployeeChanges data;
+    private String message;
+    private String status;
+}
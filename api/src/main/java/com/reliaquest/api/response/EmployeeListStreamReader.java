@@ -0,0 +1,227 @@
+package com.reliaquest.api.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reads an {@link EmployeeListResponseData} body token by token instead of binding its {@code data} array into a
+ * {@code List<Employee>}. Each employee is decoded into one reused {@link Employee} and handed to a consumer, and only
+ * the fields a caller asks for are decoded at all; Jackson skips the other strings in the byte stream without building
+ * them. The aggregates below therefore hold on to at most {@code limit} employees, or to the matches, however large
+ * the roster is.
+ */
+public final class EmployeeListStreamReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /* The order SalaryIndex keeps, equal salaries in listing order, so both paths pick the same top earners. */
+    private static final Comparator<Earner> BY_SALARY_DESC = Comparator.comparingInt(Earner::salary)
+            .reversed()
+            .thenComparingInt(Earner::position);
+
+    public enum Field {
+        ID,
+        NAME,
+        SALARY,
+        AGE,
+        TITLE,
+        EMAIL
+    }
+
+    /**
+     * @param employees how many employees the body listed
+     * @param value what was computed from them
+     */
+    public record Result<T>(int employees, T value) {}
+
+    private EmployeeListStreamReader() {}
+
+    /** Highest salary in the listing, or {@code 0} when it is empty. */
+    public static Result<Integer> highestSalary(InputStream body) throws IOException {
+        int[] highest = {0};
+        int employees = forEach(body, EnumSet.of(Field.SALARY), employee -> {
+            highest[0] = Math.max(highest[0], employee.getSalary());
+        });
+        return new Result<>(employees, highest[0]);
+    }
+
+    /**
+     * Names of the {@code limit} best paid employees, highest salary first, kept in a heap of {@code limit}. Only a row
+     * that enters the heap gets its name built into a string: a name read before the salary is held in a reused
+     * buffer until the row is decided, and one read after a salary too low for the heap is skipped undecoded.
+     */
+    public static Result<List<String>> topEarnerNames(InputStream body, int limit) throws IOException {
+        if (limit == 0) {
+            return new Result<>(forEach(body, EnumSet.noneOf(Field.class), employee -> {}), List.of());
+        }
+        PriorityQueue<Earner> top = new PriorityQueue<>(limit, BY_SALARY_DESC.reversed());
+        int employees = read(body, parser -> readTopEarners(parser, limit, top));
+        List<Earner> ranked = new ArrayList<>(top);
+        ranked.sort(BY_SALARY_DESC);
+        List<String> names = new ArrayList<>(ranked.size());
+        for (Earner earner : ranked) {
+            names.add(earner.name());
+        }
+        return new Result<>(employees, names);
+    }
+
+    /** Employees whose name contains {@code searchString}, ignoring case, in listing order. */
+    public static Result<List<Employee>> search(InputStream body, String searchString) throws IOException {
+        String query = searchString.toLowerCase(Locale.ROOT);
+        List<Employee> matches = new ArrayList<>();
+        int employees = forEach(body, EnumSet.allOf(Field.class), employee -> {
+            if (employee.getName() != null && employee.getName().toLowerCase(Locale.ROOT).contains(query)) {
+                matches.add(copy(employee));
+            }
+        });
+        return new Result<>(employees, matches);
+    }
+
+    /**
+     * Hands every employee of the listing to {@code consumer}, with only {@code fields} filled in, and returns how many
+     * there were. The consumer receives the same instance each time and must copy what it keeps.
+     */
+    public static int forEach(InputStream body, Set<Field> fields, Consumer<Employee> consumer) throws IOException {
+        return read(body, parser -> readEmployees(parser, fields, consumer));
+    }
+
+    /* Walks the listing object, handing its data array to reader and skipping everything else. */
+    private static int read(InputStream body, DataReader reader) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an employee list object");
+            }
+            int employees = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "data".equals(name)) {
+                    employees += reader.read(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return employees;
+        }
+    }
+
+    private static int readEmployees(JsonParser parser, Set<Field> fields, Consumer<Employee> consumer)
+            throws IOException {
+        Employee employee = new Employee();
+        int employees = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            employee.setId(null);
+            employee.setName(null);
+            employee.setSalary(0);
+            employee.setAge(0);
+            employee.setTitle(null);
+            employee.setEmail(null);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "id" -> employee.setId(text(parser, fields, Field.ID));
+                    case "employee_name" -> employee.setName(text(parser, fields, Field.NAME));
+                    case "employee_salary" -> employee.setSalary(number(parser, fields, Field.SALARY));
+                    case "employee_age" -> employee.setAge(number(parser, fields, Field.AGE));
+                    case "employee_title" -> employee.setTitle(text(parser, fields, Field.TITLE));
+                    case "employee_email" -> employee.setEmail(text(parser, fields, Field.EMAIL));
+                    default -> parser.skipChildren();
+                }
+            }
+            consumer.accept(employee);
+            employees++;
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected an employee object");
+        }
+        return employees;
+    }
+
+    /* A row only enters a full heap with a salary above its lowest, as the earlier row wins a tie. */
+    private static int readTopEarners(JsonParser parser, int limit, PriorityQueue<Earner> top) throws IOException {
+        char[] name = new char[64];
+        int employees = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int salary = 0;
+            boolean salaryRead = false;
+            int nameLength = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "employee_salary" -> {
+                        salary = parser.getValueAsInt();
+                        salaryRead = true;
+                    }
+                    case "employee_name" -> {
+                        boolean ruledOut = salaryRead && top.size() == limit && salary <= top.peek().salary();
+                        if (ruledOut || parser.currentToken() == JsonToken.VALUE_NULL) {
+                            parser.skipChildren();
+                            nameLength = -1;
+                        } else {
+                            nameLength = parser.getTextLength();
+                            if (nameLength > name.length) {
+                                name = new char[Math.max(nameLength, name.length * 2)];
+                            }
+                            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), name, 0, nameLength);
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (top.size() < limit || salary > top.peek().salary()) {
+                if (top.size() == limit) {
+                    top.poll();
+                }
+                String decoded = nameLength < 0 ? null : new String(name, 0, nameLength);
+                top.add(new Earner(salary, employees, decoded));
+            }
+            employees++;
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected an employee object");
+        }
+        return employees;
+    }
+
+    private static String text(JsonParser parser, Set<Field> fields, Field field) throws IOException {
+        if (!fields.contains(field) || parser.currentToken() == JsonToken.VALUE_NULL) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static int number(JsonParser parser, Set<Field> fields, Field field) throws IOException {
+        return fields.contains(field) ? parser.getValueAsInt() : 0;
+    }
+
+    private static Employee copy(Employee employee) {
+        return new Employee(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail());
+    }
+
+    private record Earner(int salary, int position, String name) {}
+
+    private interface DataReader {
+        int read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,331 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.config.ResilienceConfig;
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.httpclient.IHttpClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.CreateEmployeeRequest;
+import com.reliaquest.api.response.BulkItemResult;
+import com.reliaquest.api.response.BulkResponseData;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Bulk operations outside the fixed {@code IEmployeeController} contract. Each item is validated on its own, and the
+ * valid ones go upstream in chunks of {@code employee.bulk.chunk-size}, one upstream request per chunk, so an import
+ * spends one rate-limit permit per chunk rather than per employee. All chunks are queued at once and at most
+ * {@code employee.bulk.concurrency} are in flight at a time, across all bulk requests. Each chunk's request also goes
+ * through the {@code employeeService} circuit breaker and the {@code employeeWrites} bulkhead that guard single
+ * writes, so an import neither hammers an upstream the breaker has given up on nor crowds out other writes. Chunks
+ * are not retried: a failed one may have reached the upstream. A chunk succeeds or fails as a whole; the report says
+ * which items succeeded, were rejected, failed, have an unknown outcome or (for deletes) were not found.
+ */
+@Service
+public class EmployeeBulkService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBulkService.class);
+    static final String BULK_URL = EmployeeService.API_URL + "/bulk";
+    private final IHttpClient httpClient;
+    private final RosterCache rosterCache;
+    private final Validator validator;
+    private final ExecutorService executor;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final int chunkSize;
+    private final int maxItems;
+
+    /**
+     * @param chunkSize items per upstream request; no more than the upstream accepts in one bulk create or delete
+     * @param concurrency upstream bulk requests in flight at once
+     * @param maxItems the most items one bulk request may carry
+     */
+    @Autowired
+    public EmployeeBulkService(
+            IHttpClient httpClient,
+            RosterCache rosterCache,
+            Validator validator,
+            CircuitBreakerRegistry circuitBreakers,
+            BulkheadRegistry bulkheads,
+            @Value("${employee.bulk.chunk-size:100}") int chunkSize,
+            @Value("${employee.bulk.concurrency:4}") int concurrency,
+            @Value("${employee.bulk.max-items:10000}") int maxItems) {
+        this(
+                httpClient,
+                rosterCache,
+                validator,
+                newExecutor(concurrency),
+                circuitBreakers.circuitBreaker("employeeService"),
+                bulkheads.bulkhead(ResilienceConfig.WRITES),
+                chunkSize,
+                maxItems);
+    }
+
+    EmployeeBulkService(
+            IHttpClient httpClient,
+            RosterCache rosterCache,
+            Validator validator,
+            ExecutorService executor,
+            CircuitBreaker circuitBreaker,
+            Bulkhead bulkhead,
+            int chunkSize,
+            int maxItems) {
+        this.httpClient = httpClient;
+        this.rosterCache = rosterCache;
+        this.validator = validator;
+        this.executor = executor;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /** 200 when every employee was created, else 207 with the report; 400 for an empty or oversized request. */
+    public ResponseEntity<BulkResponseData<Employee>> createEmployees(List<CreateEmployeeRequest> employeeInputs) {
+        checkSize(employeeInputs);
+        logger.info("Bulk create started for {} employees", employeeInputs.size());
+        return inChunks(employeeInputs, this::violations, this::createChunk);
+    }
+
+    /**
+     * Deletes by id, a chunk of ids per upstream request. 200 when every employee was deleted, else 207 with the
+     * report, where an id of no employee is {@code NOT_FOUND}; 400 for an empty or oversized request.
+     */
+    public ResponseEntity<BulkResponseData<Employee>> deleteEmployees(List<String> ids) {
+        checkSize(ids);
+        logger.info("Bulk delete started for {} ids", ids.size());
+        return inChunks(ids, EmployeeBulkService::idViolation, this::deleteChunk);
+    }
+
+    /*
+     * Rejects the items validation returns a message for, and hands the indexes of the others to call a chunk at a
+     * time on the executor; each chunk's results are merged back in request order.
+     */
+    private <T> ResponseEntity<BulkResponseData<Employee>> inChunks(
+            List<T> items,
+            Function<T, String> validation,
+            BiFunction<List<T>, List<Integer>, List<BulkItemResult<Employee>>> call) {
+        @SuppressWarnings("unchecked")
+        BulkItemResult<Employee>[] results = new BulkItemResult[items.size()];
+        List<Integer> valid = new ArrayList<>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            String violations = validation.apply(items.get(index));
+            if (violations == null) {
+                valid.add(index);
+            } else {
+                results[index] = new BulkItemResult<>(index, BulkItemResult.Status.REJECTED, null, violations);
+            }
+        }
+        List<CompletableFuture<List<BulkItemResult<Employee>>>> chunks = new ArrayList<>();
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> call.apply(items, chunk), executor));
+        }
+        for (CompletableFuture<List<BulkItemResult<Employee>>> chunk : chunks) {
+            chunk.join().forEach(result -> results[result.getIndex()] = result);
+        }
+        return report(Arrays.asList(results));
+    }
+
+    /* Sends one chunk as one upstream request; the upstream creates all of it or none. */
+    private List<BulkItemResult<Employee>> createChunk(
+            List<CreateEmployeeRequest> employeeInputs, List<Integer> chunk) {
+        List<CreateEmployeeRequest> employees = chunk.stream().map(employeeInputs::get).toList();
+        try {
+            ResponseEntity<EmployeeListResponseData> response = guarded(
+                    () -> httpClient.post(BULK_URL, Map.of("employees", employees), EmployeeListResponseData.class));
+            List<Employee> created = response.getBody() == null ? null : response.getBody().getData();
+            if (created == null || created.size() != chunk.size()) {
+                logger.error("Bulk create of {} employees answered without them", chunk.size());
+                return results(chunk, BulkItemResult.Status.FAILED, CommonConstant.CREATE_EMPLOYEE_FAILED);
+            }
+            rosterCache.recordCreated(created);
+            List<BulkItemResult<Employee>> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new BulkItemResult<>(chunk.get(i), BulkItemResult.Status.SUCCEEDED, created.get(i), null));
+            }
+            return results;
+        } catch (Exception e) {
+            return failure("create", chunk, e, CommonConstant.CREATE_EMPLOYEE_FAILED);
+        }
+    }
+
+    /*
+     * Sends one chunk of ids as one upstream request, which answers with the employees it deleted. The ids are sent
+     * and matched in canonical form, so one spelled in upper case is found. An id repeated in the chunk is reported
+     * deleted once and not found after that, as a repeat in a later chunk would be.
+     */
+    private List<BulkItemResult<Employee>> deleteChunk(List<String> ids, List<Integer> chunk) {
+        List<String> chunkIds = chunk.stream().map(ids::get).map(EmployeeService::canonicalId).toList();
+        try {
+            ResponseEntity<EmployeeListResponseData> response = guarded(
+                    () -> httpClient.delete(BULK_URL, Map.of("ids", chunkIds), EmployeeListResponseData.class));
+            List<Employee> deleted = response.getBody() == null ? null : response.getBody().getData();
+            if (deleted == null) {
+                logger.error("Bulk delete of {} ids answered without the deleted employees", chunk.size());
+                return results(chunk, BulkItemResult.Status.FAILED, CommonConstant.DELETE_EMPLOYEES_FAILED);
+            }
+            Map<String, Employee> byId = new HashMap<>();
+            deleted.forEach(employee -> byId.put(employee.getId(), employee));
+            rosterCache.recordDeleted(chunkIds);
+            List<BulkItemResult<Employee>> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                Employee employee = byId.remove(chunkIds.get(i));
+                results.add(employee == null
+                        ? new BulkItemResult<>(
+                                chunk.get(i), BulkItemResult.Status.NOT_FOUND, null, CommonConstant.NO_DATA_FOUND)
+                        : new BulkItemResult<>(chunk.get(i), BulkItemResult.Status.SUCCEEDED, employee, null));
+            }
+            return results;
+        } catch (Exception e) {
+            return failure("delete", chunk, e, CommonConstant.DELETE_EMPLOYEES_FAILED);
+        }
+    }
+
+    /* Makes one upstream call through the circuit breaker and the write bulkhead. */
+    private <T> T guarded(Supplier<T> call) {
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    }
+
+    /* The results of a chunk whose upstream request failed, was never made, or went unanswered. */
+    private static List<BulkItemResult<Employee>> failure(
+            String operation, List<Integer> chunk, Exception e, String failed) {
+        if (e instanceof HttpStatusCodeException statusCodeException) {
+            logger.warn("Bulk {} of {} items failed: {}", operation, chunk.size(), statusCodeException.getStatusCode());
+            if (statusCodeException.getStatusCode().equals(HttpStatus.GATEWAY_TIMEOUT)) {
+                return results(chunk, BulkItemResult.Status.UNKNOWN, CommonConstant.BULK_OUTCOME_UNKNOWN);
+            }
+            return results(
+                    chunk,
+                    BulkItemResult.Status.FAILED,
+                    statusCodeException.getStatusCode().equals(HttpStatus.TOO_MANY_REQUESTS)
+                            ? CommonConstant.EXCEEDED_THE_NUMBER_OF_REQUESTS
+                            : failed + " " + statusCodeException.getStatusCode());
+        }
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            logger.warn("Bulk {} of {} items not sent: {}", operation, chunk.size(), e.getMessage());
+            return results(chunk, BulkItemResult.Status.FAILED, CommonConstant.BULK_NOT_SENT);
+        }
+        if (isUnanswered(e)) {
+            logger.warn("Bulk {} of {} items went unanswered: {}", operation, chunk.size(), e.getMessage());
+            return results(chunk, BulkItemResult.Status.UNKNOWN, CommonConstant.BULK_OUTCOME_UNKNOWN);
+        }
+        logger.error("Exception occurred during bulk {} of {} items: {}", operation, chunk.size(), e.getMessage(), e);
+        return results(chunk, BulkItemResult.Status.FAILED, failed);
+    }
+
+    /*
+     * Whether the request may have reached the upstream without an answer coming back: an I/O failure other than
+     * failing to connect or to get a pooled connection, such as the read timeout.
+     */
+    private static boolean isUnanswered(Exception e) {
+        Throwable cause = e.getCause();
+        return e instanceof ResourceAccessException
+                && cause instanceof IOException
+                && !(cause instanceof ConnectException
+                        || cause instanceof ConnectTimeoutException
+                        || cause instanceof ConnectionRequestTimeoutException);
+    }
+
+    private void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST, CommonConstant.BULK_REQUEST_EMPTY);
+        }
+        if (items.size() > maxItems) {
+            throw new HttpClientErrorException(
+                    HttpStatus.BAD_REQUEST, CommonConstant.BULK_REQUEST_TOO_LARGE + maxItems);
+        }
+    }
+
+    /* The constraint messages of an invalid item, sorted so the report is stable; null for a valid one. */
+    private String violations(CreateEmployeeRequest employeeInput) {
+        if (employeeInput == null) {
+            return CommonConstant.BULK_ITEM_MISSING;
+        }
+        var violations = validator.validate(employeeInput);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    private static String idViolation(String id) {
+        if (id == null || id.isBlank()) {
+            return CommonConstant.BULK_ID_MISSING;
+        }
+        try {
+            UUID.fromString(id);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return CommonConstant.BULK_ID_INVALID;
+        }
+    }
+
+    private static <T> ResponseEntity<BulkResponseData<T>> report(List<BulkItemResult<T>> results) {
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkItemResult.Status.SUCCEEDED)
+                .count();
+        int failed = results.size() - succeeded;
+        logger.info("Bulk request finished: {} succeeded, {} failed", succeeded, failed);
+        return ResponseEntity.status(failed == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS)
+                .body(new BulkResponseData<>(succeeded, failed, results));
+    }
+
+    private static List<BulkItemResult<Employee>> results(
+            List<Integer> chunk, BulkItemResult.Status status, String error) {
+        List<BulkItemResult<Employee>> results = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            results.add(new BulkItemResult<>(index, status, null, error));
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "employee-bulk-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
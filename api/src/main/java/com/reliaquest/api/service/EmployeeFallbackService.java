@@ -1,55 +1,152 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.exception.TooManyRequestsException;
 import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
+/**
+ * Answers for when the upstream cannot. Reads are served from the roster cache's last known good snapshot (after a
+ * restart, the one on disk) with {@code Age} and {@value CommonConstant#ROSTER_FETCHED_AT_HEADER} headers telling how
+ * old it is. Without any snapshot a 429 is passed on and anything else gets a 503 with placeholder data, as do writes.
+ */
 @Service
 public class EmployeeFallbackService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeFallbackService.class);
 
+    private final MeterRegistry meterRegistry;
+    private final RosterCache rosterCache;
+
+    public EmployeeFallbackService(MeterRegistry meterRegistry, RosterCache rosterCache) {
+        this.meterRegistry = meterRegistry;
+        this.rosterCache = rosterCache;
+    }
+
     public ResponseEntity<List<Employee>> fallbackGetAllEmployees(Throwable throwable) {
-        logger.error("Fallback triggered for getAllEmployees. Error: {}", throwable.getMessage(), throwable);
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(List.of(new Employee()));
+        countFallback("getAllEmployees", throwable);
+        return fromLastKnownGood(throwable, RosterSnapshot::employees).orElseGet(() -> {
+            logger.error("Fallback triggered for getAllEmployees. Error: {}", throwable.getMessage(), throwable);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(List.of(new Employee()));
+        });
+    }
+
+    public ResponseEntity<List<Employee>> fallbackGetEmployeesByNameSearch(String searchString, Throwable throwable) {
+        countFallback("getEmployeesByNameSearch", throwable);
+        return fromLastKnownGood(throwable, snapshot -> snapshot.search(searchString))
+                .orElseGet(() -> searchUnavailable(throwable));
     }
 
     public ResponseEntity<List<Employee>> fallbackGetEmployeesByNameSearch(Throwable throwable) {
-        logger.error("Fallback triggered for employee search by name. Error: {}", throwable.getMessage(), throwable);
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(List.of());
+        countFallback("getEmployeesByNameSearch", throwable);
+        return searchUnavailable(throwable);
+    }
+
+    /* An id the snapshot does not know may exist upstream, so it still gets the 503 rather than a 404. */
+    public ResponseEntity<Employee> fallbackGetEmployeeById(String id, Throwable throwable) {
+        countFallback("getEmployeeById", throwable);
+        Optional<ResponseEntity<Employee>> stale =
+                fromLastKnownGood(throwable, snapshot -> snapshot.findById(id).orElse(null));
+        if (stale.isPresent() && stale.get().getBody() != null) {
+            return stale.get();
+        }
+        if (throwable instanceof TooManyRequestsException tooManyRequests) {
+            throw tooManyRequests;
+        }
+        return employeeUnavailable(throwable);
     }
 
     public ResponseEntity<Employee> fallbackGetEmployeeById(Throwable throwable) {
-        logger.error("Fallback triggered for getEmployeeById. Error: {}", throwable.getMessage(), throwable);
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
+        countFallback("getEmployeeById", throwable);
+        return employeeUnavailable(throwable);
     }
 
     public ResponseEntity<Integer> fallbackGetHighestSalary(Throwable throwable) {
-        logger.error("Fallback triggered for getHighestSalary. Error: {}", throwable.getMessage(), throwable);
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(0);
+        countFallback("getHighestSalaryOfEmployees", throwable);
+        return fromLastKnownGood(throwable, RosterSnapshot::highestSalary).orElseGet(() -> {
+            logger.error("Fallback triggered for getHighestSalary. Error: {}", throwable.getMessage(), throwable);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(0);
+        });
     }
 
     public ResponseEntity<List<String>> fallbackGetTopTenHighestEarningEmployeeNames(Throwable throwable) {
-        logger.error(
-                "Fallback triggered for getTopTenHighestEarningEmployeeNames. Error: {}",
-                throwable.getMessage(),
-                throwable);
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(List.of());
+        countFallback("getTopTenHighestEarningEmployeeNames", throwable);
+        return fromLastKnownGood(throwable, snapshot -> snapshot.topEarnerNames(EmployeeService.TOP_EARNERS_LIMIT))
+                .orElseGet(() -> {
+                    logger.error(
+                            "Fallback triggered for getTopTenHighestEarningEmployeeNames. Error: {}",
+                            throwable.getMessage(),
+                            throwable);
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(List.of());
+                });
     }
 
     public ResponseEntity<Employee> fallbackCreateEmployee(Throwable throwable) {
+        countFallback("createEmployee", throwable);
         logger.error("Fallback triggered for employee creation. Error: {}", throwable.getMessage(), throwable);
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
     }
 
     public ResponseEntity<String> fallbackDeleteEmployee(Throwable throwable) {
+        countFallback("deleteEmployee", throwable);
         logger.error("Fallback triggered for deleteEmployee. Error: {}", throwable.getMessage(), throwable);
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body("Failed to delete employee. Please try again later.");
     }
+
+    /*
+     * The answer computed from the last known good snapshot, marked with its age. Without one, a 429 is rethrown so
+     * the caller still learns when to come back, and the caller falls through to its placeholder.
+     */
+    private <T> Optional<ResponseEntity<T>> fromLastKnownGood(Throwable throwable, Function<RosterSnapshot, T> read) {
+        Optional<RosterSnapshot> snapshot = rosterCache.lastKnownGood();
+        if (snapshot.isEmpty()) {
+            if (throwable instanceof TooManyRequestsException tooManyRequests) {
+                throw tooManyRequests;
+            }
+            return Optional.empty();
+        }
+        Instant fetchedAt = snapshot.get().fetchedAt();
+        long age = Math.max(0, Duration.between(fetchedAt, Instant.now()).toSeconds());
+        logger.warn("Serving the roster fetched at {} after: {}", fetchedAt, throwable.toString());
+        return Optional.of(ResponseEntity.ok()
+                .header(HttpHeaders.AGE, Long.toString(age))
+                .header(CommonConstant.ROSTER_FETCHED_AT_HEADER, fetchedAt.toString())
+                .body(read.apply(snapshot.get())));
+    }
+
+    private static ResponseEntity<List<Employee>> searchUnavailable(Throwable throwable) {
+        logger.error("Fallback triggered for employee search by name. Error: {}", throwable.getMessage(), throwable);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(List.of());
+    }
+
+    private static ResponseEntity<Employee> employeeUnavailable(Throwable throwable) {
+        logger.error("Fallback triggered for getEmployeeById. Error: {}", throwable.getMessage(), throwable);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
+    }
+
+    /* Counted as employee.fallbacks, tagged with the operation and the class of the failure that triggered it. */
+    private void countFallback(String operation, Throwable throwable) {
+        meterRegistry
+                .counter(
+                        "employee.fallbacks",
+                        "operation",
+                        operation,
+                        "exception",
+                        throwable.getClass().getSimpleName())
+                .increment();
+    }
 }
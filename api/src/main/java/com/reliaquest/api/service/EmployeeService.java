@@ -1,23 +1,43 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterFeed;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.config.ResilienceConfig;
 import com.reliaquest.api.constants.CommonConstant;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.httpclient.DeadlineExceededException;
 import com.reliaquest.api.httpclient.IHttpClient;
+import com.reliaquest.api.httpclient.ScheduledHttpClient;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
 import com.reliaquest.api.request.CreateEmployeeRequest;
-import com.reliaquest.api.request.DeleteEmployeeRequest;
+import com.reliaquest.api.response.EmployeeChangesResponseData;
 import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.api.response.EmployeeListStreamReader;
 import com.reliaquest.api.response.EmployeeResponseData;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -30,10 +50,43 @@ import org.springframework.web.client.HttpServerErrorException;
 public class EmployeeService {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
     public static final String API_URL = "http://localhost:8112/api/v1/employee";
+    private static final String CHANGES_URL = API_URL + "/changes";
+    static final int TOP_EARNERS_LIMIT = 10;
+    private static final int MAX_CHANGE_PAGES = 10;
     private final IHttpClient httpClient;
+    private final RosterCache rosterCache;
+    private final RosterFeed rosterFeed = new UpstreamFeed();
+    private final boolean streamingAggregates;
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
 
-    public EmployeeService(IHttpClient httpClient) {
+    /** Where the highest salary, the top earners and the name search read the roster from. */
+    public enum Aggregation {
+        /** The cached roster snapshot and its indexes. */
+        CACHED,
+        /** A fresh upstream listing per call, parsed as a stream and never held as a list; nothing is cached. */
+        STREAMING
+    }
+
+    public EmployeeService(IHttpClient httpClient, RosterCache rosterCache) {
+        this(httpClient, rosterCache, Aggregation.CACHED);
+    }
+
+    /** Records its timings in {@link Metrics#globalRegistry}. */
+    public EmployeeService(IHttpClient httpClient, RosterCache rosterCache, Aggregation aggregation) {
+        this(httpClient, rosterCache, aggregation, Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public EmployeeService(
+            IHttpClient httpClient,
+            RosterCache rosterCache,
+            @Value("${employee.aggregation:cached}") Aggregation aggregation,
+            MeterRegistry meterRegistry) {
         this.httpClient = httpClient;
+        this.rosterCache = rosterCache;
+        this.streamingAggregates = aggregation == Aggregation.STREAMING;
+        this.meterRegistry = meterRegistry;
     }
 
     @Autowired
@@ -58,6 +111,99 @@ public class EmployeeService {
         return Collections.emptyList();
     }
 
+    private RosterSnapshot cachedRoster() {
+        return rosterCache.get(rosterFeed);
+    }
+
+    /* Streams the upstream listing through reader; an empty listing is a 404, as in fetchAllEmployees. */
+    private <T> T streamRoster(IHttpClient.BodyReader<EmployeeListStreamReader.Result<T>> reader) {
+        try {
+            EmployeeListStreamReader.Result<T> result = httpClient.stream(API_URL, reader);
+            if (result == null || result.employees() == 0) {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND, CommonConstant.NO_DATA_FOUND);
+            }
+            return result.value();
+        } catch (HttpClientErrorException e) {
+            handleClientError(e);
+        } catch (Exception e) {
+            logger.error("Exception occurred while streaming employees: {}", e.getMessage(), e);
+            throw new HttpServerErrorException(
+                    HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while fetching employee list");
+        }
+        return null;
+    }
+
+    /** The feed slice at {@code url}, or {@code null} if the upstream has no change feed. */
+    private EmployeeChanges fetchChanges(String url) {
+        try {
+            ResponseEntity<EmployeeChangesResponseData> response =
+                    httpClient.get(url, EmployeeChangesResponseData.class);
+            return response == null || response.getBody() == null ? null : response.getBody().getData();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * Follows the upstream change feed. Against an upstream without one, every snapshot lacks a position and each
+     * refresh is a full load, as before.
+     */
+    private final class UpstreamFeed implements RosterFeed {
+
+        /* The position is read first, so the roster fetched after it is at least as new. */
+        @Override
+        public Full loadAll() {
+            EmployeeChanges head = null;
+            try {
+                head = fetchChanges(CHANGES_URL);
+            } catch (RuntimeException e) {
+                logger.warn("Could not read the employee change feed, loading without it: {}", e.getMessage());
+            }
+            List<Employee> employees = fetchAllEmployees();
+            return new Full(employees, head == null ? null : new Position(head.getEpoch(), head.getVersion()));
+        }
+
+        /* Reads at most MAX_CHANGE_PAGES slices; the next refresh continues from wherever this one stopped. */
+        @Override
+        public Changes changesSince(Position position) {
+            List<Change> changes = new ArrayList<>();
+            Position reached = position;
+            for (int page = 0; page < MAX_CHANGE_PAGES; page++) {
+                EmployeeChanges slice =
+                        fetchChanges(CHANGES_URL + "?since=" + reached.version() + "&epoch=" + reached.epoch());
+                if (slice == null || slice.isResync()) {
+                    return null;
+                }
+                for (EmployeeChange change : slice.getChanges()) {
+                    changes.add(new Change(EmployeeChange.DELETED.equals(change.getType()), change.getEmployee()));
+                }
+                reached = new Position(slice.getEpoch(), slice.getVersion());
+                if (!slice.isHasMore()) {
+                    break;
+                }
+            }
+            return new Changes(changes, reached);
+        }
+    }
+
+    private List<Employee> cachedEmployees() {
+        return cachedRoster().employees();
+    }
+
+    private Employee findEmployeeById(String id) {
+        Optional<Employee> known = rosterCache.findById(id);
+        if (known.isPresent()) {
+            return known.get();
+        }
+        if (rosterCache.isKnownMissing(id)) {
+            throw new EmployeeNotFoundException(CommonConstant.NO_DATA_FOUND);
+        }
+        return fetchEmployeeById(id);
+    }
+
     private Employee fetchEmployeeById(String id) {
         try {
             String url = API_URL + "/" + id;
@@ -70,6 +216,9 @@ public class EmployeeService {
             }
             return response.getBody().getData();
         } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                rosterCache.recordNotFound(id);
+            }
             handleClientError(e);
         } catch (Exception e) {
             logger.error("Exception occurred while fetching employee by ID {}: {}", id, e.getMessage(), e);
@@ -80,134 +229,275 @@ public class EmployeeService {
         return null;
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackGetAllEmployees")
+    @Retry(name = ResilienceConfig.READS, fallbackMethod = "fallbackGetAllEmployees")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.READS)
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        List<Employee> employees = fetchAllEmployees();
-        return ResponseEntity.ok(employees);
+        return timed("getAllEmployees", () -> {
+            List<Employee> employees = cachedEmployees();
+            return ResponseEntity.ok(employees);
+        });
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackGetEmployeeById")
+    @Retry(name = ResilienceConfig.READS, fallbackMethod = "fallbackGetEmployeeById")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.READS)
     public ResponseEntity<Employee> getEmployeeById(String id) {
-        Employee employee = fetchEmployeeById(id);
-        return ResponseEntity.ok(employee);
+        return timed("getEmployeeById", () -> {
+            Employee employee = findEmployeeById(id);
+            return ResponseEntity.ok(employee);
+        });
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackCreateEmployee")
+    @Retry(name = ResilienceConfig.WRITES, fallbackMethod = "fallbackCreateEmployee")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.WRITES)
     public ResponseEntity<Employee> createEmployee(CreateEmployeeRequest employeeInput) {
-        logger.info("Create employee started for employee input: {}", employeeInput);
-        try {
-            ResponseEntity<EmployeeResponseData> response =
-                    httpClient.post(API_URL, employeeInput, EmployeeResponseData.class);
-            if (response.getBody() == null || response.getBody().getData() == null) {
+        return timed("createEmployee", () -> {
+            logger.info("Create employee started for employee input: {}", employeeInput);
+            try {
+                ResponseEntity<EmployeeResponseData> response =
+                        httpClient.post(API_URL, employeeInput, EmployeeResponseData.class);
+                if (response.getBody() == null || response.getBody().getData() == null) {
+                    throw new HttpServerErrorException(
+                            HttpStatus.INTERNAL_SERVER_ERROR, CommonConstant.CREATE_EMPLOYEE_FAILED);
+                }
+                Employee created = response.getBody().getData();
+                rosterCache.recordCreated(created);
+                return ResponseEntity.ok(created);
+            } catch (HttpClientErrorException e) {
+                handleClientError(e);
+                return null;
+            } catch (Exception e) {
+                logger.error("Exception occurred while creating employee: {}", e.getMessage(), e);
                 throw new HttpServerErrorException(
-                        HttpStatus.INTERNAL_SERVER_ERROR, CommonConstant.CREATE_EMPLOYEE_FAILED);
+                        HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while creating an employee");
             }
-            return ResponseEntity.ok(response.getBody().getData());
-        } catch (HttpClientErrorException e) {
-            handleClientError(e);
-            return null;
-        } catch (Exception e) {
-            logger.error("Exception occurred while creating employee: {}", e.getMessage(), e);
-            throw new HttpServerErrorException(
-                    HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while creating an employee");
-        }
+        });
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackGetHighestSalary")
+    @Retry(name = ResilienceConfig.READS, fallbackMethod = "fallbackGetHighestSalary")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.READS)
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        List<Employee> employeeList = fetchAllEmployees();
-        try {
-            Integer highestSalary = employeeList.stream()
-                    .map(Employee::getSalary)
-                    .max(Integer::compare)
-                    .orElse(0);
-            logger.info("Highest Salary of employee : {}", highestSalary);
-            return ResponseEntity.ok(highestSalary);
-        } catch (Exception e) {
-            logger.error("Exception occurred while fetching highest salary: {}", e.getMessage(), e);
-            throw new HttpServerErrorException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    "Exception occurred while fetching the highest salary of employees");
-        }
+        return timed("getHighestSalaryOfEmployees", () -> {
+            if (streamingAggregates) {
+                Integer highestSalary = streamRoster(EmployeeListStreamReader::highestSalary);
+                logger.info("Highest Salary of employee : {}", highestSalary);
+                return ResponseEntity.ok(highestSalary);
+            }
+            RosterSnapshot roster = cachedRoster();
+            try {
+                Integer highestSalary = roster.highestSalary();
+                logger.info("Highest Salary of employee : {}", highestSalary);
+                return ResponseEntity.ok(highestSalary);
+            } catch (Exception e) {
+                logger.error("Exception occurred while fetching highest salary: {}", e.getMessage(), e);
+                throw new HttpServerErrorException(
+                        HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Exception occurred while fetching the highest salary of employees");
+            }
+        });
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackGetEmployeesByNameSearch")
+    @Retry(name = ResilienceConfig.READS, fallbackMethod = "fallbackGetEmployeesByNameSearch")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.READS)
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
-        if (searchString == null || searchString.trim().isEmpty()) {
-            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST, CommonConstant.STRING_IS_NULL_OR_EMPTY);
+        return timed("getEmployeesByNameSearch", () -> {
+            if (searchString == null || searchString.trim().isEmpty()) {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST, CommonConstant.STRING_IS_NULL_OR_EMPTY);
+            }
+            if (streamingAggregates) {
+                List<Employee> filteredEmployees =
+                        streamRoster(body -> EmployeeListStreamReader.search(body, searchString));
+                logger.info("Matching employees count: {}", filteredEmployees.size());
+                return ResponseEntity.ok(filteredEmployees);
+            }
+            RosterSnapshot roster = cachedRoster();
+            try {
+                List<Employee> filteredEmployees = roster.search(searchString);
+
+                logger.info("Matching employees count: {}", filteredEmployees.size());
+                return ResponseEntity.ok(filteredEmployees);
+            } catch (Exception e) {
+                logger.error("Exception occurred while searching employees by name {}", e.getMessage(), e);
+                throw new HttpServerErrorException(
+                        HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while searching employees by name");
+            }
+        });
+    }
+
+    @Retry(name = ResilienceConfig.READS, fallbackMethod = "fallbackGetTopTenHighestEarningEmployeeNames")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.READS)
+    public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return timed("getTopTenHighestEarningEmployeeNames", () -> {
+            if (streamingAggregates) {
+                List<String> topTenEmployeeNames =
+                        streamRoster(body -> EmployeeListStreamReader.topEarnerNames(body, TOP_EARNERS_LIMIT));
+                logger.info("Top 10 highest salary emp names: {}", topTenEmployeeNames);
+                return ResponseEntity.ok(topTenEmployeeNames);
+            }
+            RosterSnapshot roster = cachedRoster();
+            try {
+                List<String> topTenEmployeeNames = roster.topEarnerNames(TOP_EARNERS_LIMIT);
+                logger.info("Top 10 highest salary emp names: {}", topTenEmployeeNames);
+                return ResponseEntity.ok(topTenEmployeeNames);
+            } catch (Exception e) {
+                logger.error("Exception occurred while highest top 10 earning employees name {}", e.getMessage(), e);
+                throw new HttpServerErrorException(
+                        HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while highest top 10 earning employees name");
+            }
+        });
+    }
+
+    @Retry(name = ResilienceConfig.WRITES, fallbackMethod = "fallbackDeleteEmployee")
+    @CircuitBreaker(name = "employeeService")
+    @Bulkhead(name = ResilienceConfig.WRITES)
+    public ResponseEntity<String> deleteEmployee(String requestedId) {
+        String id = canonicalId(requestedId);
+        return timed("deleteEmployee", () -> {
+            logger.info("Employee delete started for employee id: {}", id);
+            if (rosterCache.isKnownMissing(id)) {
+                throw new EmployeeNotFoundException(CommonConstant.NO_DATA_FOUND);
+            }
+            try {
+                ResponseEntity<EmployeeResponseData> deleteResponse =
+                        httpClient.delete(API_URL + "/" + id, null, EmployeeResponseData.class);
+                if (deleteResponse.getStatusCode().is2xxSuccessful()
+                        && deleteResponse.getBody() != null
+                        && deleteResponse.getBody().getData() != null) {
+                    logger.info("Employee deleted successfully for id: {}", id);
+                    rosterCache.recordDeleted(id);
+                    return ResponseEntity.ok(CommonConstant.DELETE_EMPLOYEE_WITH_ID_SUCCESS
+                            + deleteResponse.getBody().getData().getName());
+                } else {
+                    logger.error(
+                            "Failed to delete employee with ID {}: HTTP status {}", id, deleteResponse.getStatusCode());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(CommonConstant.DELETE_EMPLOYEE_WITH_ID_FAILED + id);
+                }
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                    rosterCache.recordNotFound(id);
+                }
+                handleClientError(e);
+                return null;
+            } catch (Exception e) {
+                logger.error("Exception occurred while deleting employee with ID {}: {}", id, e.getMessage(), e);
+                throw new HttpServerErrorException(
+                        HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Exception occurred while deleting the employee with ID " + id);
+            }
+        });
+    }
+
+    /*
+     * Fallbacks of the retries above, reached once the retry gives up, the circuit is open or the bulkhead is full.
+     * A missing employee or a bad request is the caller's answer rather than an upstream failure, so it is rethrown.
+     * Reads are answered by EmployeeFallbackService from the last known good roster, even for a 429; writes rethrow
+     * a 429 too, and anything else gets EmployeeFallbackService's 503.
+     */
+    private ResponseEntity<List<Employee>> fallbackGetAllEmployees(Throwable throwable) {
+        return employeeFallbackService.fallbackGetAllEmployees(unlessRequestError(throwable));
+    }
+
+    private ResponseEntity<Employee> fallbackGetEmployeeById(String id, Throwable throwable) {
+        return employeeFallbackService.fallbackGetEmployeeById(id, unlessRequestError(throwable));
+    }
+
+    private ResponseEntity<Employee> fallbackCreateEmployee(CreateEmployeeRequest employeeInput, Throwable throwable) {
+        return employeeFallbackService.fallbackCreateEmployee(unlessClientError(throwable));
+    }
+
+    private ResponseEntity<Integer> fallbackGetHighestSalary(Throwable throwable) {
+        return employeeFallbackService.fallbackGetHighestSalary(unlessRequestError(throwable));
+    }
+
+    private ResponseEntity<List<Employee>> fallbackGetEmployeesByNameSearch(String searchString, Throwable throwable) {
+        return employeeFallbackService.fallbackGetEmployeesByNameSearch(searchString, unlessRequestError(throwable));
+    }
+
+    private ResponseEntity<List<String>> fallbackGetTopTenHighestEarningEmployeeNames(Throwable throwable) {
+        return employeeFallbackService.fallbackGetTopTenHighestEarningEmployeeNames(unlessRequestError(throwable));
+    }
+
+    private ResponseEntity<String> fallbackDeleteEmployee(String id, Throwable throwable) {
+        return employeeFallbackService.fallbackDeleteEmployee(unlessClientError(throwable));
+    }
+
+    /*
+     * The id as the upstream reports it: a UUID in its canonical lower-case form, so the cache is updated under the
+     * key the roster holds it by. Anything else is passed on as it is for the upstream to reject.
+     */
+    static String canonicalId(String id) {
+        if (id == null) {
+            return null;
         }
-        List<Employee> employees = fetchAllEmployees();
-        List<Employee> filteredEmployees = null;
         try {
-            filteredEmployees = employees.stream()
-                    .filter(employee -> employee.getName() != null
-                            && employee.getName().toLowerCase().contains(searchString.toLowerCase()))
-                    .collect(Collectors.toList());
+            return UUID.fromString(id).toString();
+        } catch (IllegalArgumentException e) {
+            return id;
+        }
+    }
 
-            logger.info("Matching employees count: {}", filteredEmployees.size());
-            return ResponseEntity.ok(filteredEmployees);
-        } catch (Exception e) {
-            logger.error("Exception occurred while searching employees by name {}", e.getMessage(), e);
-            throw new HttpServerErrorException(
-                    HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while searching employees by name");
+    private static Throwable unlessClientError(Throwable throwable) {
+        if (throwable instanceof TooManyRequestsException tooManyRequests) {
+            throw tooManyRequests;
         }
+        return unlessRequestError(throwable);
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackGetTopTenHighestEarningEmployeeNames")
-    public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
-        List<Employee> employees = fetchAllEmployees();
-        try {
-            List<String> topTenEmployeeNames = employees.stream()
-                    .sorted((e1, e2) -> Integer.compare(e2.getSalary(), e1.getSalary()))
-                    .limit(10)
-                    .map(Employee::getName)
-                    .collect(Collectors.toList());
-            logger.info("Top 10 highest salary emp names: {}", topTenEmployeeNames);
-            return ResponseEntity.ok(topTenEmployeeNames);
-        } catch (Exception e) {
-            logger.error("Exception occurred while highest top 10 earning employees name {}", e.getMessage(), e);
-            throw new HttpServerErrorException(
-                    HttpStatus.INTERNAL_SERVER_ERROR, "Exception occurred while highest top 10 earning employees name");
+    private static Throwable unlessRequestError(Throwable throwable) {
+        if (throwable instanceof EmployeeNotFoundException || throwable instanceof HttpClientErrorException) {
+            throw (RuntimeException) throwable;
         }
+        return throwable;
     }
 
-    @CircuitBreaker(name = "employeeService", fallbackMethod = "fallbackDeleteEmployee")
-    public ResponseEntity<String> deleteEmployee(String id) {
-        logger.info("Employee delete started for employee id: {}", id);
-        Employee employee = fetchEmployeeById(id);
+    /*
+     * Times an operation as employee.service, tagged with the status of its response or the class of the exception
+     * it ended with. Each combination of tags registers its timer once.
+     */
+    private <T> ResponseEntity<T> timed(String operation, Supplier<ResponseEntity<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "none";
+        String exception = "none";
         try {
-            assert employee != null;
-            String employeeName = employee.getName();
-            DeleteEmployeeRequest deleteRequest = new DeleteEmployeeRequest();
-            deleteRequest.setName(employeeName);
-            ResponseEntity<Void> deleteResponse = httpClient.delete(API_URL, deleteRequest, Void.class);
-            if (deleteResponse.getStatusCode().is2xxSuccessful()) {
-                logger.info("Employee deleted successfully for id: {}", id);
-                return ResponseEntity.ok(CommonConstant.DELETE_EMPLOYEE_WITH_ID_SUCCESS + employeeName);
-            } else {
-                logger.error(
-                        "Failed to delete employee with ID {}: HTTP status {}", id, deleteResponse.getStatusCode());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(CommonConstant.DELETE_EMPLOYEE_WITH_ID_FAILED + id);
+            ResponseEntity<T> response = call.get();
+            if (response != null) {
+                status = Integer.toString(response.getStatusCode().value());
             }
-        } catch (HttpClientErrorException e) {
-            handleClientError(e);
-            return null;
-        } catch (Exception e) {
-            logger.error("Exception occurred while deleting employee with ID {}: {}", id, e.getMessage(), e);
-            throw new HttpServerErrorException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    "Exception occurred while deleting the employee with ID " + id);
+            return response;
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timers.computeIfAbsent(new TimerKey(operation, status, exception), this::timer));
         }
     }
 
+    private Timer timer(TimerKey key) {
+        return Timer.builder("employee.service")
+                .description("EmployeeService operations")
+                .tag("operation", key.operation())
+                .tag("status", key.status())
+                .tag("exception", key.exception())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String operation, String status, String exception) {}
+
     private void handleClientError(HttpClientErrorException e) {
         HttpStatusCode statusCode = e.getStatusCode();
         if (statusCode.equals(HttpStatus.NOT_FOUND)) {
             throw new EmployeeNotFoundException(CommonConstant.NO_DATA_FOUND);
         } else if (statusCode.equals(HttpStatus.TOO_MANY_REQUESTS)) {
             throw new TooManyRequestsException(
-                    CommonConstant.EXCEEDED_THE_NUMBER_OF_REQUESTS);
+                    CommonConstant.EXCEEDED_THE_NUMBER_OF_REQUESTS,
+                    ScheduledHttpClient.retryAfter(e.getResponseHeaders()),
+                    !(e instanceof DeadlineExceededException));
         }
         logger.error("Client error while fetching employees: {}: {}", e.getStatusCode(), e.getMessage());
         throw e;
@@ -0,0 +1,130 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.httpclient.IReactiveHttpClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.api.response.EmployeeResponseData;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read path over the same {@link RosterCache} as {@link EmployeeService}. Answers from a cached snapshot
+ * complete without touching the upstream; only a cold cache or an unknown id goes out through the
+ * {@link IReactiveHttpClient}. Errors map to the same exceptions the blocking service throws.
+ * <p>
+ * Writes stay on {@link EmployeeService}: they are rare, and its cache updates are visible here immediately.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.upstream.client", havingValue = "reactive")
+public class ReactiveEmployeeService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+    private static final int TOP_EARNERS_LIMIT = 10;
+
+    private final IReactiveHttpClient httpClient;
+    private final RosterCache rosterCache;
+
+    public ReactiveEmployeeService(IReactiveHttpClient httpClient, RosterCache rosterCache) {
+        this.httpClient = httpClient;
+        this.rosterCache = rosterCache;
+    }
+
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return cachedRoster().map(roster -> ResponseEntity.ok(roster.employees()));
+    }
+
+    public Mono<ResponseEntity<Employee>> getEmployeeById(String id) {
+        Optional<Employee> known = rosterCache.findById(id);
+        if (known.isPresent()) {
+            return Mono.just(ResponseEntity.ok(known.get()));
+        }
+        if (rosterCache.isKnownMissing(id)) {
+            return Mono.error(new EmployeeNotFoundException(CommonConstant.NO_DATA_FOUND));
+        }
+        return fetchEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return cachedRoster().map(roster -> ResponseEntity.ok(roster.highestSalary()));
+    }
+
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(String searchString) {
+        if (searchString == null || searchString.trim().isEmpty()) {
+            return Mono.error(
+                    new HttpClientErrorException(HttpStatus.BAD_REQUEST, CommonConstant.STRING_IS_NULL_OR_EMPTY));
+        }
+        return cachedRoster().map(roster -> ResponseEntity.ok(roster.search(searchString)));
+    }
+
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return cachedRoster().map(roster -> ResponseEntity.ok(roster.topEarnerNames(TOP_EARNERS_LIMIT)));
+    }
+
+    private Mono<RosterSnapshot> cachedRoster() {
+        return Mono.fromFuture(() -> rosterCache.getAsync(this::fetchAllEmployees));
+    }
+
+    private CompletableFuture<List<Employee>> fetchAllEmployees() {
+        return httpClient
+                .get(EmployeeService.API_URL, EmployeeListResponseData.class)
+                .map(response -> {
+                    if (response.getBody() == null
+                            || CollectionUtils.isEmpty(response.getBody().getData())) {
+                        throw new HttpClientErrorException(HttpStatus.NOT_FOUND, CommonConstant.NO_DATA_FOUND);
+                    }
+                    return response.getBody().getData();
+                })
+                .onErrorMap(e -> translate(e, "Exception occurred while fetching employee list"))
+                .toFuture();
+    }
+
+    private Mono<Employee> fetchEmployeeById(String id) {
+        return httpClient
+                .get(EmployeeService.API_URL + "/" + id, EmployeeResponseData.class)
+                .map(response -> {
+                    if (response.getBody() == null || response.getBody().getData() == null) {
+                        throw new HttpClientErrorException(HttpStatus.NOT_FOUND, CommonConstant.NO_DATA_FOUND);
+                    }
+                    return response.getBody().getData();
+                })
+                .doOnError(HttpClientErrorException.class, e -> {
+                    if (e.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                        rosterCache.recordNotFound(id);
+                    }
+                })
+                .onErrorMap(e -> translate(e, "Exception occurred while fetching employee by ID " + id));
+    }
+
+    private static Throwable translate(Throwable e, String serverErrorMessage) {
+        if (e instanceof HttpClientErrorException clientError) {
+            if (clientError.getStatusCode().equals(HttpStatus.NOT_FOUND)) {
+                return new EmployeeNotFoundException(CommonConstant.NO_DATA_FOUND);
+            }
+            if (clientError.getStatusCode().equals(HttpStatus.TOO_MANY_REQUESTS)) {
+                return new TooManyRequestsException(CommonConstant.EXCEEDED_THE_NUMBER_OF_REQUESTS);
+            }
+            logger.error("Client error while fetching employees: {}: {}", clientError.getStatusCode(), e.getMessage());
+            return e;
+        }
+        if (e instanceof EmployeeNotFoundException || e instanceof TooManyRequestsException) {
+            return e;
+        }
+        logger.error("{}: {}", serverErrorMessage, e.getMessage(), e);
+        return new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR, serverErrorMessage);
+    }
+}
@@ -0,0 +1,171 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ColumnarRosterTest {
+
+    private static final String[] FIRST = {"Alice", "Bob", "Carol", "Dave", "Eve", "Mallory", "Trent", "Ángel"};
+    private static final String[] LAST = {"Johnson", "Williams", "King", "O'Brien", "Smith", "van der Berg"};
+    private static final String[] TITLES = {"Engineer", "Manager", "Designer"};
+
+    private static List<Employee> roster(int size, long seed) {
+        Random random = new Random(seed);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String id = new UUID(random.nextLong(), random.nextLong()).toString();
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)];
+            roster.add(new Employee(
+                    id,
+                    name,
+                    random.nextInt(50) * 1000,
+                    20 + random.nextInt(40),
+                    TITLES[random.nextInt(TITLES.length)],
+                    name.toLowerCase().replace(' ', '.') + "@company.com"));
+        }
+        return roster;
+    }
+
+    @Test
+    void testRoundTripsEveryEmployee() {
+        List<Employee> roster = roster(300, 1);
+        roster.add(new Employee("not-a-uuid", null, 1, 2, null, null));
+        roster.add(new Employee(null, "No Id", 3, 4, "Engineer", "no.id@company.com"));
+
+        ColumnarRoster columns = ColumnarRoster.of(roster);
+
+        assertEquals(roster, columns.asList());
+        for (Employee employee : roster) {
+            if (employee.getId() != null) {
+                assertEquals(employee, columns.findById(employee.getId()).orElseThrow());
+            }
+        }
+        assertTrue(columns.findById(UUID.randomUUID().toString()).isEmpty());
+    }
+
+    @Test
+    void testQueriesMatchTheIndexes() {
+        List<Employee> roster = roster(500, 42);
+        ColumnarRoster columns = ColumnarRoster.of(roster);
+        SalaryIndex salaryIndex = new SalaryIndex(roster);
+        NameIndex nameIndex = new NameIndex(roster);
+
+        assertEquals(salaryIndex.highestSalary(), columns.highestSalary());
+        assertEquals(salaryIndex.topEarnerNames(10), columns.topEarnerNames(10));
+        for (String query : List.of("a", "Al", "ali", "ALICE", "son", "ice joh", "n d", "'br", "ánge", "ÁNGEL", "z")) {
+            assertEquals(nameIndex.search(query), columns.search(query), query);
+        }
+    }
+
+    @Test
+    void testChangesKeepRowOrderAndAppendNewIds() {
+        List<Employee> roster = roster(50, 7);
+        Employee replaced = new Employee(roster.get(3).getId(), "Zed Replaced", 999_000, 60, "CEO", "zed@company.com");
+        Employee created = new Employee(UUID.randomUUID().toString(), "New Hire", 1000, 21, "Intern", "new@x.com");
+        Map<String, Employee> latest = new HashMap<>();
+        latest.put(replaced.getId(), replaced);
+        latest.put(roster.get(10).getId(), null);
+        latest.put(created.getId(), created);
+
+        ColumnarRoster changed = ColumnarRoster.of(roster).withChanges(latest);
+
+        List<Employee> expected = new ArrayList<>(roster);
+        expected.set(3, replaced);
+        expected.remove(10);
+        expected.add(created);
+        assertEquals(expected, changed.asList());
+        assertEquals(999_000, changed.highestSalary());
+        assertEquals("Zed Replaced", changed.topEarnerNames(1).get(0));
+        assertTrue(changed.findById(roster.get(10).getId()).isEmpty());
+        assertEquals(List.of(created), changed.search("new hire"));
+    }
+
+    @Test
+    void testManyWritesMatchTheListTheyDescribe() {
+        List<Employee> roster = roster(100, 11);
+        List<ColumnarRoster> rosters = new ArrayList<>(List.of(ColumnarRoster.of(roster)));
+        List<List<Employee>> expected = new ArrayList<>(List.of(roster));
+        Random random = new Random(5);
+        for (int write = 0; write < 300; write++) {
+            List<Employee> list = new ArrayList<>(expected.get(expected.size() - 1));
+            ColumnarRoster latest = rosters.get(rosters.size() - 1);
+            Employee target = list.isEmpty() ? null : list.get(random.nextInt(list.size()));
+            int kind = random.nextInt(4);
+            if (kind == 0 && target != null && target.getId() != null) {
+                list.remove(target);
+                rosters.add(latest.withChanges(Collections.singletonMap(target.getId(), null)));
+            } else if (kind == 1 && target != null && target.getId() != null) {
+                Employee replaced = new Employee(
+                        target.getId(), "Rewritten " + write, random.nextInt(60) * 1000, 30, "Manager", null);
+                list.set(list.indexOf(target), replaced);
+                rosters.add(latest.withChanges(Collections.singletonMap(target.getId(), replaced)));
+            } else if (kind == 2) {
+                Employee created = new Employee(null, "No Id " + write, random.nextInt(60) * 1000, 25, null, null);
+                list.add(created);
+                rosters.add(latest.withAppended(created));
+            } else {
+                Employee created = roster(1, write).get(0);
+                list.add(created);
+                rosters.add(latest.withChanges(Collections.singletonMap(created.getId(), created)));
+            }
+            expected.add(list);
+        }
+
+        for (int i = 0; i < rosters.size(); i++) {
+            ColumnarRoster columns = rosters.get(i);
+            List<Employee> list = expected.get(i);
+            assertEquals(list, columns.asList(), "write " + i);
+            assertEquals(list.size(), columns.size());
+            for (Employee employee : list) {
+                if (employee.getId() != null) {
+                    assertEquals(employee, columns.findById(employee.getId()).orElseThrow());
+                }
+            }
+            assertEquals(list.stream().mapToInt(Employee::getSalary).max().orElse(0), columns.highestSalary());
+            assertEquals(
+                    list.stream()
+                            .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+                            .limit(10)
+                            .map(Employee::getName)
+                            .toList(),
+                    columns.topEarnerNames(10));
+            assertEquals(
+                    list.stream()
+                            .filter(e -> e.getName().toLowerCase().contains("ali"))
+                            .toList(),
+                    columns.search("ALI"));
+        }
+    }
+
+    @Test
+    void testColumnarSnapshotAppliesWrites() {
+        List<Employee> roster = roster(20, 3);
+        RosterSnapshot snapshot = new RosterSnapshot(1, Instant.EPOCH, null, roster, true);
+        Employee created = new Employee(UUID.randomUUID().toString(), "Top Earner", 500_000, 40, "CTO", "top@x.com");
+
+        RosterSnapshot afterCreate = snapshot.withCreated(2, created);
+        RosterSnapshot afterDelete =
+                afterCreate.withDeleted(3, roster.get(0).getId()).withDeleted(4, created.getId());
+
+        assertTrue(snapshot.isColumnar());
+        assertNull(snapshot.salaryIndex());
+        assertEquals(roster, snapshot.employees(), "earlier snapshots are untouched");
+        assertEquals(500_000, afterCreate.highestSalary());
+        assertEquals(created, afterCreate.findById(created.getId()).orElseThrow());
+        assertEquals(roster.subList(1, roster.size()), afterDelete.employees());
+        int expectedHighest =
+                roster.stream().skip(1).mapToInt(Employee::getSalary).max().orElseThrow();
+        assertEquals(expectedHighest, afterDelete.highestSalary());
+    }
+}
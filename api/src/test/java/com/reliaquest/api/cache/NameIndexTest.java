@@ -0,0 +1,103 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    private static final String[] FIRST = {"Alice", "Bob", "Carol", "Dave", "Eve", "Mallory", "Trent", "Ángel"};
+    private static final String[] LAST = {"Johnson", "Williams", "King", "O'Brien", "Smith", "van der Berg"};
+
+    private static Employee employee(String id, String name) {
+        return new Employee(id, name, 50000, 30, "Engineer", id + "@company.com");
+    }
+
+    private static List<Employee> linearScan(List<Employee> roster, String searchString) {
+        return roster.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains(searchString.toLowerCase()))
+                .toList();
+    }
+
+    @Test
+    void testMatchesLinearScan() {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee("id-" + i, FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)]));
+        }
+        roster.add(employee("no-name", null));
+        NameIndex nameIndex = new NameIndex(roster);
+
+        for (String query : List.of("a", "Al", "ali", "ALICE", "son", "ice joh", "n d", "'br", "ánge", "zzz", "o")) {
+            assertEquals(linearScan(roster, query), nameIndex.search(query), query);
+        }
+    }
+
+    @Test
+    void testIncrementalCreateAndDelete() {
+        NameIndex nameIndex = new NameIndex(List.of(employee("1", "Alice Johnson"), employee("2", "Bob Williams")));
+
+        NameIndex created = nameIndex.withChanges(Map.of("3", employee("3", "Alicia Keys")));
+        assertEquals(List.of("1", "3"), ids(created.search("alic")));
+
+        NameIndex deleted = created.withChanges(Collections.singletonMap("1", null));
+        assertEquals(List.of("3"), ids(deleted.search("alic")));
+        assertEquals(List.of("3"), ids(deleted.search("al")));
+        assertTrue(deleted.search("johnson").isEmpty());
+        assertEquals(List.of("1", "3"), ids(created.search("alic")));
+        assertEquals(List.of("1"), ids(nameIndex.search("alic")));
+    }
+
+    @Test
+    void testUpdatedEmployeeKeepsItsPlace() {
+        NameIndex nameIndex = new NameIndex(List.of(employee("1", "Alice Johnson"), employee("2", "Alina Smith")));
+
+        NameIndex updated = nameIndex.withChanges(Map.of("1", employee("1", "Alicia Cooper")));
+
+        assertEquals(List.of("1", "2"), ids(updated.search("ali")));
+        assertEquals(List.of("1"), ids(updated.search("coop")));
+        assertTrue(updated.search("johnson").isEmpty());
+        assertEquals(List.of("1"), ids(nameIndex.search("johnson")));
+    }
+
+    @Test
+    void testManySnapshotWritesMatchLinearScan() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            roster.add(employee("id-" + i, FIRST[i % FIRST.length] + " " + LAST[i % LAST.length]));
+        }
+        RosterSnapshot snapshot = new RosterSnapshot(1, Instant.EPOCH, roster);
+
+        long version = 1;
+        for (int i = 0; i < 1_000; i++) {
+            Employee temporary = employee("temp-" + i, "Temporary Worker " + i);
+            snapshot = snapshot.withCreated(++version, temporary).withDeleted(++version, temporary.getId());
+            snapshot = snapshot.withCreated(++version, employee("id-" + (i % 100), "Alice Renamed " + i));
+        }
+
+        assertTrue(snapshot.search("temporary").isEmpty());
+        for (String query : List.of("a", "ali", "son", "van der", "renamed 99")) {
+            assertEquals(linearScan(snapshot.employees(), query), snapshot.search(query), query);
+        }
+    }
+
+    @Test
+    void testRepeatedTrigramIsReturnedOnce() {
+        NameIndex nameIndex = new NameIndex(List.of(employee("1", "Anananas Banana")));
+
+        assertEquals(List.of("1"), ids(nameIndex.search("ana")));
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+}
@@ -0,0 +1,485 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterCacheTest {
+
+    private static final Employee ALICE =
+            new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com");
+    private static final Employee BOB = new Employee("2", "Bob Williams", 82000, 35, "Team Lead", "bob@example.com");
+
+    private MutableClock clock;
+    private QueuedExecutor executor;
+    private RosterCache rosterCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        executor = new QueuedExecutor();
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofSeconds(5), clock, executor);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<List<Employee>> loader(Employee... employees) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(employees);
+        };
+    }
+
+    @Test
+    void testFirstReadLoadsAndLaterReadsHit() {
+        RosterSnapshot first = rosterCache.get(loader(ALICE));
+        RosterSnapshot second = rosterCache.get(loader(ALICE, BOB));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        RosterCacheStats stats = rosterCache.getStats();
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.hits());
+        assertEquals(0, stats.staleHits());
+    }
+
+    @Test
+    void testExpiredSnapshotIsServedStaleWhileRefreshing() {
+        RosterSnapshot first = rosterCache.get(loader(ALICE));
+        clock.advance(Duration.ofSeconds(31));
+
+        RosterSnapshot stale = rosterCache.get(loader(ALICE, BOB));
+        rosterCache.get(loader(ALICE, BOB));
+
+        assertSame(first, stale);
+        assertEquals(1, executor.pending(), "only one refresh may be in flight");
+        executor.runAll();
+
+        RosterSnapshot refreshed = rosterCache.get(loader(ALICE, BOB));
+        assertEquals(2, refreshed.employees().size());
+        assertTrue(refreshed.version() > first.version());
+        assertEquals(1, rosterCache.getStats().refreshes());
+    }
+
+    @Test
+    void testFailedRefreshKeepsStaleSnapshot() {
+        RosterSnapshot first = rosterCache.get(loader(ALICE));
+        clock.advance(Duration.ofMinutes(1));
+
+        rosterCache.get(() -> {
+            throw new IllegalStateException("upstream down");
+        });
+        executor.runAll();
+
+        assertSame(first, rosterCache.get(loader(ALICE)));
+        assertEquals(1, rosterCache.getStats().refreshFailures());
+    }
+
+    @Test
+    void testSnapshotPastMaxStaleIsRefreshedBeforeItIsServed() {
+        RosterSnapshot first = rosterCache.get(loader(ALICE));
+        clock.advance(RosterCache.DEFAULT_MAX_STALE.plusSeconds(1));
+
+        assertEquals(List.of(ALICE, BOB), rosterCache.get(loader(ALICE, BOB)).employees());
+        assertEquals(0, executor.pending());
+        assertEquals(2, loads.get());
+
+        clock.advance(RosterCache.DEFAULT_MAX_STALE.plusSeconds(1));
+        assertThrows(IllegalStateException.class, () -> rosterCache.get(() -> {
+            throw new IllegalStateException("upstream down");
+        }));
+        assertTrue(rosterCache.findById(ALICE.getId()).isEmpty());
+        assertTrue(rosterCache.lastKnownGood().orElseThrow().version() > first.version());
+        assertEquals(1, rosterCache.getStats().refreshFailures());
+    }
+
+    @Test
+    void testRefreshReturningTheSameListKeepsTheIndexes() {
+        List<Employee> upstream = List.of(ALICE, BOB);
+        RosterSnapshot first = rosterCache.get(() -> upstream);
+        clock.advance(Duration.ofSeconds(31));
+
+        rosterCache.get(() -> upstream);
+        executor.runAll();
+
+        RosterSnapshot revalidated = rosterCache.get(() -> upstream);
+        assertNotSame(first, revalidated);
+        assertEquals(first.version(), revalidated.version());
+        assertSame(first.salaryIndex(), revalidated.salaryIndex());
+        assertEquals(clock.instant(), revalidated.fetchedAt());
+        assertEquals(1, rosterCache.getStats().refreshes());
+    }
+
+    @Test
+    void testFeedRefreshAppliesChangesWithoutRebuilding() {
+        Employee carol = new Employee("3", "Carol Diaz", 90000, 41, "Architect", "carol@example.com");
+        FakeFeed feed = new FakeFeed(List.of(ALICE, BOB), new RosterFeed.Position("e", 7));
+        RosterSnapshot first = rosterCache.get(feed);
+        rosterCache.recordCreated(carol);
+        clock.advance(Duration.ofSeconds(31));
+        feed.changes = List.of(
+                new RosterFeed.Change(false, carol),
+                new RosterFeed.Change(true, ALICE),
+                new RosterFeed.Change(false, new Employee("4", "Dan Ng", 95000, 50, "CTO", "dan@example.com")));
+
+        rosterCache.get(feed);
+        executor.runAll();
+
+        RosterSnapshot synced = rosterCache.get(feed);
+        assertEquals(List.of("2", "3", "4"), synced.employees().stream().map(Employee::getId).toList());
+        assertEquals(new RosterFeed.Position("e", 10), synced.position());
+        assertEquals(95000, synced.salaryIndex().highestSalary());
+        assertTrue(synced.findById("1").isEmpty());
+        assertEquals(List.of("1", "2"), first.employees().stream().map(Employee::getId).toList());
+        assertEquals(List.of("1"), first.search("alice").stream().map(Employee::getId).toList());
+        assertEquals(82000, first.highestSalary());
+        assertEquals(1, feed.fullLoads);
+        assertEquals(3, rosterCache.getStats().changesApplied());
+    }
+
+    @Test
+    void testFeedThatNoLongerReachesBackReloadsEverything() {
+        FakeFeed feed = new FakeFeed(List.of(ALICE), new RosterFeed.Position("e", 7));
+        rosterCache.get(feed);
+        clock.advance(Duration.ofSeconds(31));
+        feed.roster = List.of(BOB);
+        feed.position = new RosterFeed.Position("f", 1);
+        feed.changes = null;
+
+        rosterCache.get(feed);
+        executor.runAll();
+
+        RosterSnapshot reloaded = rosterCache.get(feed);
+        assertEquals(List.of(BOB), reloaded.employees());
+        assertEquals(new RosterFeed.Position("f", 1), reloaded.position());
+        assertEquals(2, feed.fullLoads);
+    }
+
+    @Test
+    void testCreateAlreadySeenByARefreshIsNotAddedTwice() {
+        rosterCache.get(loader(ALICE));
+        clock.advance(Duration.ofSeconds(31));
+        rosterCache.get(loader(ALICE, BOB));
+        executor.runAll();
+
+        rosterCache.recordCreated(BOB);
+
+        RosterSnapshot snapshot = rosterCache.get(loader());
+        assertEquals(List.of(ALICE, BOB), snapshot.employees());
+        assertEquals(List.of(BOB), snapshot.search("bob"));
+        assertEquals(List.of("Bob Williams", "Alice Johnson"), snapshot.topEarnerNames(10));
+    }
+
+    @Test
+    void testLocalWritesProduceNewVersions() {
+        RosterSnapshot first = rosterCache.get(loader(ALICE));
+
+        rosterCache.recordCreated(BOB);
+        RosterSnapshot afterCreate = rosterCache.get(loader());
+        assertEquals(List.of(ALICE, BOB), afterCreate.employees());
+        assertTrue(afterCreate.version() > first.version());
+        assertEquals(first.fetchedAt(), afterCreate.fetchedAt());
+
+        rosterCache.recordDeleted(ALICE.getId());
+        RosterSnapshot afterDelete = rosterCache.get(loader());
+        assertEquals(List.of(BOB), afterDelete.employees());
+        assertEquals(List.of(ALICE), first.employees(), "earlier snapshots are immutable");
+    }
+
+    @Test
+    void testRefreshRacingLocalWriteIsDiscarded() {
+        rosterCache.get(loader(ALICE));
+        clock.advance(Duration.ofMinutes(1));
+        rosterCache.get(loader(ALICE));
+
+        rosterCache.recordCreated(BOB);
+        executor.runAll();
+
+        assertEquals(List.of(ALICE, BOB), rosterCache.get(loader()).employees());
+        assertEquals(0, rosterCache.getStats().refreshes());
+        assertEquals(1, rosterCache.getStats().refreshesDiscarded());
+        assertEquals(0, rosterCache.getStats().refreshFailures());
+    }
+
+    @Test
+    void testConcurrentAsyncColdReadsShareOneLoad() {
+        CompletableFuture<List<Employee>> upstream = new CompletableFuture<>();
+        Supplier<CompletableFuture<List<Employee>>> asyncLoader = () -> {
+            loads.incrementAndGet();
+            return upstream;
+        };
+
+        CompletableFuture<RosterSnapshot> first = rosterCache.getAsync(asyncLoader);
+        CompletableFuture<RosterSnapshot> second = rosterCache.getAsync(asyncLoader);
+        upstream.complete(List.of(ALICE));
+        assertFalse(first.isDone(), "the snapshot is built on the refresh executor");
+        executor.runAll();
+
+        assertSame(first.join(), second.join());
+        assertEquals(1, loads.get());
+        assertSame(first.join(), rosterCache.getAsync(asyncLoader).join());
+        assertSame(first.join(), rosterCache.get(loader()));
+    }
+
+    @Test
+    void testWritesDuringAColdLoadAreAppliedToTheRosterItInstalls() {
+        RosterSnapshot loaded = rosterCache.get(() -> {
+            rosterCache.recordCreated(BOB);
+            rosterCache.recordDeleted(ALICE.getId());
+            return List.of(ALICE);
+        });
+
+        assertEquals(List.of(BOB), loaded.employees());
+        assertTrue(loaded.findById(ALICE.getId()).isEmpty());
+    }
+
+    @Test
+    void testWritesDuringAnAsyncColdLoadAreAppliedToTheRosterItInstalls() {
+        CompletableFuture<List<Employee>> upstream = new CompletableFuture<>();
+        CompletableFuture<RosterSnapshot> load = rosterCache.getAsync(() -> upstream);
+
+        rosterCache.recordCreated(List.of(BOB));
+        upstream.complete(List.of(ALICE));
+        executor.runAll();
+
+        assertEquals(List.of(ALICE, BOB), load.join().employees());
+        assertSame(load.join(), rosterCache.get(loader()));
+    }
+
+    @Test
+    void testWritesBeforeAColdLoadAreNotReplayedOverIt() {
+        rosterCache.recordCreated(BOB);
+
+        assertEquals(List.of(ALICE), rosterCache.get(loader(ALICE)).employees());
+    }
+
+    @Test
+    void testAsyncReadsPastMaxStaleShareOneRefresh() {
+        rosterCache.get(loader(ALICE));
+        clock.advance(RosterCache.DEFAULT_MAX_STALE.plusSeconds(1));
+        CompletableFuture<List<Employee>> upstream = new CompletableFuture<>();
+        Supplier<CompletableFuture<List<Employee>>> asyncLoader = () -> {
+            loads.incrementAndGet();
+            return upstream;
+        };
+
+        CompletableFuture<RosterSnapshot> first = rosterCache.getAsync(asyncLoader);
+        CompletableFuture<RosterSnapshot> second = rosterCache.getAsync(asyncLoader);
+        upstream.complete(List.of(ALICE, BOB));
+        executor.runAll();
+
+        assertSame(first.join(), second.join());
+        assertEquals(List.of(ALICE, BOB), first.join().employees());
+        assertEquals(2, loads.get());
+        assertEquals(1, rosterCache.getStats().refreshes());
+    }
+
+    @Test
+    void testFailedAsyncLoadIsNotCached() {
+        CompletableFuture<RosterSnapshot> failed =
+                rosterCache.getAsync(() -> CompletableFuture.failedFuture(new IllegalStateException("upstream down")));
+        executor.runAll();
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(List.of(ALICE), rosterCache.get(loader(ALICE)).employees());
+    }
+
+    @Test
+    void testFindByIdUsesCachedSnapshotOnly() {
+        assertTrue(rosterCache.findById(ALICE.getId()).isEmpty());
+
+        rosterCache.get(loader(ALICE));
+        rosterCache.recordCreated(BOB);
+
+        assertEquals(ALICE, rosterCache.findById(ALICE.getId()).orElseThrow());
+        assertEquals(BOB, rosterCache.findById(BOB.getId()).orElseThrow());
+        rosterCache.recordDeleted(BOB.getId());
+        assertTrue(rosterCache.findById(BOB.getId()).isEmpty());
+        assertTrue(rosterCache.isKnownMissing(BOB.getId()));
+    }
+
+    @Test
+    void testNotFoundIdsExpire() {
+        rosterCache.recordNotFound("404");
+
+        assertTrue(rosterCache.isKnownMissing("404"));
+        clock.advance(Duration.ofSeconds(6));
+        assertFalse(rosterCache.isKnownMissing("404"));
+        assertEquals(1, rosterCache.getStats().notFoundHits());
+    }
+
+    @Test
+    void testCreatedIdIsNoLongerMissing() {
+        rosterCache.recordNotFound(BOB.getId());
+
+        rosterCache.recordCreated(BOB);
+
+        assertFalse(rosterCache.isKnownMissing(BOB.getId()));
+    }
+
+    private RosterCache cacheWithFile(Path file, RosterCache.Representation representation) {
+        return new RosterCache(Duration.ofSeconds(30), Duration.ofSeconds(5), clock, executor, representation, file);
+    }
+
+    @Test
+    void testSnapshotFileWarmsANewCache(@TempDir Path directory) {
+        Path file = directory.resolve("roster.bin");
+        Employee carol = new Employee(
+                "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "Carol King", 91000, 41, null, "carol@example.com");
+        RosterCache persisting = cacheWithFile(file, RosterCache.Representation.INDEXED);
+        persisting.get(loader(ALICE, carol));
+        clock.advance(Duration.ofSeconds(10));
+        persisting.recordCreated(BOB);
+        persisting.recordDeleted(ALICE.getId());
+        assertEquals(1, executor.pending());
+        executor.runAll();
+
+        RosterCache restarted = cacheWithFile(file, RosterCache.Representation.COLUMNAR);
+
+        RosterSnapshot warm = restarted.lastKnownGood().orElseThrow();
+        assertEquals(List.of(carol, BOB), warm.employees());
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), warm.fetchedAt());
+        assertSame(warm, restarted.get(loader(ALICE)));
+        assertEquals(1, loads.get());
+        assertEquals(0, executor.pending());
+    }
+
+    @Test
+    void testSnapshotFileKeepsValuesLongerThan64Kb(@TempDir Path directory) {
+        Path file = directory.resolve("roster.bin");
+        Employee longName = new Employee("id-1", "Ä".repeat(40_000), 50000, 30, "Engineer", "long@example.com");
+        cacheWithFile(file, RosterCache.Representation.INDEXED).get(loader(longName, ALICE));
+        executor.runAll();
+
+        RosterCache restarted = cacheWithFile(file, RosterCache.Representation.INDEXED);
+
+        assertEquals(List.of(longName, ALICE), restarted.lastKnownGood().orElseThrow().employees());
+    }
+
+    @Test
+    void testWarmSnapshotIsRefreshedOnceExpired(@TempDir Path directory) {
+        Path file = directory.resolve("roster.bin");
+        RosterCache persisting = cacheWithFile(file, RosterCache.Representation.INDEXED);
+        persisting.get(loader(ALICE));
+        executor.runAll();
+        clock.advance(Duration.ofMinutes(5));
+
+        RosterCache restarted = cacheWithFile(file, RosterCache.Representation.INDEXED);
+        assertEquals(List.of(ALICE), restarted.get(loader(ALICE, BOB)).employees());
+        executor.runAll();
+
+        assertEquals(List.of(ALICE, BOB), restarted.get(loader(ALICE, BOB)).employees());
+        assertEquals(1, restarted.getStats().refreshes());
+    }
+
+    /* Serves a fixed roster, and as changes since any position whatever changes holds (null: feed too short). */
+    private static final class FakeFeed implements RosterFeed {
+        List<Employee> roster;
+        Position position;
+        List<Change> changes = List.of();
+        int fullLoads;
+
+        FakeFeed(List<Employee> roster, Position position) {
+            this.roster = roster;
+            this.position = position;
+        }
+
+        @Override
+        public Full loadAll() {
+            fullLoads++;
+            return new Full(roster, position);
+        }
+
+        @Override
+        public Changes changesSince(Position since) {
+            return changes == null
+                    ? null
+                    : new Changes(changes, new Position(since.epoch(), since.version() + changes.size()));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static final class QueuedExecutor extends AbstractExecutorService {
+        private final List<Runnable> queue = new ArrayList<>();
+
+        int pending() {
+            return queue.size();
+        }
+
+        void runAll() {
+            List<Runnable> tasks = new ArrayList<>(queue);
+            queue.clear();
+            tasks.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+        }
+
+        @Override
+        public void shutdown() {}
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private static Employee employee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name + "@company.com");
+    }
+
+    @Test
+    void testEmptyIndex() {
+        SalaryIndex salaryIndex = new SalaryIndex(List.of());
+
+        assertEquals(0, salaryIndex.highestSalary());
+        assertTrue(salaryIndex.topEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    void testTopEarnersMatchFullSort() {
+        List<Employee> roster = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> roster.add(employee("id-" + i, "name-" + i, (i * 7919) % 1000)));
+        SalaryIndex salaryIndex = new SalaryIndex(roster);
+
+        List<Integer> expected = roster.stream()
+                .map(Employee::getSalary)
+                .sorted((a, b) -> Integer.compare(b, a))
+                .limit(10)
+                .toList();
+        List<Integer> actual = salaryIndex.topEarnerNames(10).stream()
+                .map(name -> roster.get(Integer.parseInt(name.substring(5))).getSalary())
+                .toList();
+
+        assertEquals(expected, actual);
+        assertEquals(expected.get(0), salaryIndex.highestSalary());
+    }
+
+    @Test
+    void testDuplicateSalariesAreKept() {
+        Employee alice = employee("1", "Alice", 90000);
+        Employee bob = employee("2", "Bob", 90000);
+        SalaryIndex salaryIndex = new SalaryIndex(List.of(alice, bob));
+
+        assertEquals(List.of("Alice", "Bob"), salaryIndex.topEarnerNames(10));
+
+        SalaryIndex withoutAlice = salaryIndex.withChanges(Collections.singletonMap("1", null));
+        assertEquals(List.of("Bob"), withoutAlice.topEarnerNames(10));
+        assertEquals(90000, withoutAlice.highestSalary());
+        assertEquals(List.of("Alice", "Bob"), salaryIndex.topEarnerNames(10));
+    }
+
+    @Test
+    void testSnapshotWritesLeaveEarlierSnapshotsUnchanged() {
+        Employee alice = employee("1", "Alice", 50000);
+        RosterSnapshot snapshot = new RosterSnapshot(1, Instant.EPOCH, List.of(alice));
+
+        RosterSnapshot afterCreate = snapshot.withCreated(2, employee("2", "Bob", 120000));
+        assertEquals(120000, afterCreate.salaryIndex().highestSalary());
+        assertEquals(50000, snapshot.salaryIndex().highestSalary());
+
+        RosterSnapshot afterDelete = afterCreate.withDeleted(3, "2");
+        assertEquals(50000, afterDelete.salaryIndex().highestSalary());
+        assertEquals(List.of("Alice"), afterDelete.salaryIndex().topEarnerNames(10));
+        assertEquals(List.of("Bob", "Alice"), afterCreate.salaryIndex().topEarnerNames(10));
+        assertEquals(List.of("Alice"), snapshot.salaryIndex().topEarnerNames(10));
+    }
+
+    @Test
+    void testManyWritesKeepEverySnapshotConsistentWithItsList() {
+        List<Employee> roster = new ArrayList<>();
+        IntStream.range(0, 100).forEach(i -> roster.add(employee("id-" + i, "name-" + i, (i * 7919) % 1000)));
+        List<RosterSnapshot> snapshots = new ArrayList<>(List.of(new RosterSnapshot(1, Instant.EPOCH, roster)));
+        Random random = new Random(7);
+        for (int version = 2; version < 300; version++) {
+            RosterSnapshot latest = snapshots.get(snapshots.size() - 1);
+            String id = "id-" + random.nextInt(150);
+            snapshots.add(random.nextInt(3) == 0
+                    ? latest.withDeleted(version, id)
+                    : latest.withCreated(version, employee(id, "name-" + version, random.nextInt(1000))));
+        }
+
+        for (RosterSnapshot snapshot : snapshots) {
+            List<String> expected = snapshot.employees().stream()
+                    .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+                    .limit(10)
+                    .map(Employee::getName)
+                    .toList();
+            assertEquals(expected, snapshot.topEarnerNames(10), "version " + snapshot.version());
+            for (Employee employee : snapshot.employees()) {
+                assertEquals(employee, snapshot.findById(employee.getId()).orElse(null));
+            }
+            assertEquals(
+                    snapshot.employees().stream().filter(e -> e.getName().contains("name-1")).toList(),
+                    snapshot.search("name-1"));
+        }
+    }
+
+    @Test
+    void testEqualSalariesKeepRosterOrder() {
+        Employee carol = employee("3", "Carol", 90000);
+        Employee alice = employee("1", "Alice", 90000);
+        Employee bob = employee("2", "Bob", 90000);
+        RosterSnapshot snapshot = new RosterSnapshot(1, Instant.EPOCH, List.of(carol, alice, bob));
+        assertEquals(List.of("Carol", "Alice", "Bob"), snapshot.topEarnerNames(10));
+
+        RosterSnapshot updated = snapshot.withCreated(2, employee("3", "Carol Updated", 90000));
+        assertEquals(List.of("Carol Updated", "Alice", "Bob"), updated.topEarnerNames(10));
+
+        RosterSnapshot created = updated.withCreated(3, employee("0", "Dave", 90000));
+        assertEquals(List.of("Carol Updated", "Alice", "Bob", "Dave"), created.topEarnerNames(10));
+
+        RosterSnapshot recreated = created.withDeleted(4, "1").withCreated(5, employee("1", "Alice", 90000));
+        assertEquals(List.of("Carol Updated", "Bob", "Dave", "Alice"), recreated.topEarnerNames(10));
+        assertEquals(
+                recreated.employees().stream().map(Employee::getName).toList(), recreated.topEarnerNames(10));
+    }
+}
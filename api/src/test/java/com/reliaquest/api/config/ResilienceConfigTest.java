@@ -0,0 +1,82 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.service.EmployeeService;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.core.functions.Either;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+@SpringBootTest
+class ResilienceConfigTest {
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private RetryRegistry retryRegistry;
+
+    @Autowired
+    private TimeLimiterRegistry timeLimiterRegistry;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Test
+    void testPoliciesAreBoundFromConfiguration() {
+        assertTrue(AopUtils.isAopProxy(employeeService));
+
+        CircuitBreakerConfig circuitBreaker =
+                circuitBreakerRegistry.circuitBreaker("employeeService").getCircuitBreakerConfig();
+        assertEquals(30, circuitBreaker.getFailureRateThreshold());
+        assertTrue(circuitBreaker.getIgnoreExceptionPredicate().test(new EmployeeNotFoundException("gone")));
+        assertFalse(circuitBreaker.getIgnoreExceptionPredicate().test(new IllegalStateException()));
+
+        assertEquals(
+                150,
+                bulkheadRegistry.bulkhead(ResilienceConfig.READS).getBulkheadConfig().getMaxConcurrentCalls());
+        assertEquals(
+                25, bulkheadRegistry.bulkhead(ResilienceConfig.WRITES).getBulkheadConfig().getMaxConcurrentCalls());
+        assertEquals(
+                Duration.ofSeconds(10),
+                timeLimiterRegistry.timeLimiter(ResilienceConfig.WRITES).getTimeLimiterConfig().getTimeoutDuration());
+
+        RetryConfig reads = retryRegistry.retry(ResilienceConfig.READS).getRetryConfig();
+        RetryConfig writes = retryRegistry.retry(ResilienceConfig.WRITES).getRetryConfig();
+        HttpServerErrorException serverError = new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertTrue(reads.getExceptionPredicate().test(serverError));
+        assertFalse(writes.getExceptionPredicate().test(serverError));
+        assertTrue(writes.getExceptionPredicate().test(new TooManyRequestsException("slow down")));
+        assertTrue(writes.getExceptionPredicate().test(new TooManyRequestsException("later", Duration.ofSeconds(5))));
+        assertFalse(writes.getExceptionPredicate().test(new TooManyRequestsException("later", Duration.ofSeconds(6))));
+        assertFalse(writes.getExceptionPredicate().test(new TooManyRequestsException("queued too long", null, false)));
+        assertFalse(reads.getExceptionPredicate().test(new EmployeeNotFoundException("gone")));
+    }
+
+    @Test
+    void testRetryAfterIsAddedToTheBackoff() {
+        var interval = ResilienceConfig.retryAfterOrBackoff(IntervalFunction.of(Duration.ofMillis(100)));
+
+        assertEquals(100L, interval.apply(1, Either.left(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))));
+        assertEquals(100L, interval.apply(1, Either.left(new TooManyRequestsException("slow down"))));
+        assertEquals(
+                3100L, interval.apply(1, Either.left(new TooManyRequestsException("later", Duration.ofSeconds(3)))));
+    }
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.response.EmployeeListResponseData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+class CoalescingHttpClientTest {
+
+    private static final int CALLERS = 8;
+
+    private IHttpClient delegate;
+    private CoalescingHttpClient httpClient;
+    private ExecutorService executor;
+    private CountDownLatch upstreamStarted;
+    private CountDownLatch releaseUpstream;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IHttpClient.class);
+        httpClient = new CoalescingHttpClient(delegate);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        upstreamStarted = new CountDownLatch(1);
+        releaseUpstream = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private ResponseEntity<EmployeeListResponseData> getRoster() {
+        return httpClient.get("http://upstream/employee", EmployeeListResponseData.class);
+    }
+
+    private List<Future<ResponseEntity<EmployeeListResponseData>>> callConcurrently() throws InterruptedException {
+        List<Future<ResponseEntity<EmployeeListResponseData>>> futures = new ArrayList<>();
+        futures.add(executor.submit(this::getRoster));
+        assertTrue(upstreamStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            futures.add(executor.submit(this::getRoster));
+        }
+        // Followers register on the in-flight call before the leader is released.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (httpClient.getStats().coalescedCalls() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        releaseUpstream.countDown();
+        return futures;
+    }
+
+    @Test
+    void testConcurrentGetsShareOneUpstreamCall() throws Exception {
+        ResponseEntity<EmployeeListResponseData> upstream =
+                new ResponseEntity<>(new EmployeeListResponseData(), HttpStatus.OK);
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class))).thenAnswer(invocation -> {
+            upstreamStarted.countDown();
+            releaseUpstream.await();
+            return upstream;
+        });
+
+        for (Future<ResponseEntity<EmployeeListResponseData>> future : callConcurrently()) {
+            assertSame(upstream, future.get(5, TimeUnit.SECONDS));
+        }
+
+        verify(delegate, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+        assertEquals(1, httpClient.getStats().upstreamCalls());
+        assertEquals(CALLERS - 1, httpClient.getStats().coalescedCalls());
+        assertEquals(0, httpClient.getStats().inFlight());
+    }
+
+    @Test
+    void testFailureIsSharedWithFollowers() throws Exception {
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class))).thenAnswer(invocation -> {
+            upstreamStarted.countDown();
+            releaseUpstream.await();
+            throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+        });
+
+        for (Future<ResponseEntity<EmployeeListResponseData>> future : callConcurrently()) {
+            Exception e = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(HttpClientErrorException.class, e.getCause());
+        }
+        verify(delegate, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+
+    @Test
+    void testSequentialGetsAreNotCoalesced() {
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(new EmployeeListResponseData(), HttpStatus.OK));
+
+        httpClient.get("http://upstream/employee", EmployeeListResponseData.class);
+        httpClient.get("http://upstream/employee", EmployeeListResponseData.class);
+
+        verify(delegate, times(2)).get(anyString(), eq(EmployeeListResponseData.class));
+        assertEquals(0, httpClient.getStats().coalescedCalls());
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.api.response.EmployeeResponseData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+class ConditionalHttpClientTest {
+
+    private static final String URL = "http://upstream/employee";
+
+    private IHttpClient delegate;
+    private ConditionalHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IHttpClient.class);
+        httpClient = new ConditionalHttpClient(delegate, 1);
+    }
+
+    private static <T> ResponseEntity<T> ok(T body, String etag) {
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
+
+    @Test
+    void testNotModifiedReturnsTheRememberedResponse() {
+        ResponseEntity<EmployeeListResponseData> first = ok(new EmployeeListResponseData(), "\"a-1\"");
+        when(delegate.get(URL, EmployeeListResponseData.class)).thenReturn(first);
+        when(delegate.get(eq(URL), eq(EmployeeListResponseData.class), any(HttpHeaders.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        assertSame(first, httpClient.get(URL, EmployeeListResponseData.class));
+        assertSame(first, httpClient.get(URL, EmployeeListResponseData.class));
+
+        ArgumentCaptor<HttpHeaders> headers = ArgumentCaptor.forClass(HttpHeaders.class);
+        verify(delegate).get(eq(URL), eq(EmployeeListResponseData.class), headers.capture());
+        assertEquals("\"a-1\"", headers.getValue().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(1, httpClient.getStats().notModified());
+        assertEquals(1, httpClient.getStats().modified());
+    }
+
+    @Test
+    void testChangedResourceReplacesTheRememberedResponse() {
+        ResponseEntity<EmployeeListResponseData> changed = ok(new EmployeeListResponseData(), "\"a-2\"");
+        when(delegate.get(URL, EmployeeListResponseData.class))
+                .thenReturn(ok(new EmployeeListResponseData(), "\"a-1\""));
+        when(delegate.get(eq(URL), eq(EmployeeListResponseData.class), any(HttpHeaders.class)))
+                .thenReturn(changed)
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        httpClient.get(URL, EmployeeListResponseData.class);
+
+        assertSame(changed, httpClient.get(URL, EmployeeListResponseData.class));
+        assertSame(changed, httpClient.get(URL, EmployeeListResponseData.class));
+    }
+
+    @Test
+    void testGoneResourceIsForgottenAndEntriesAreCapped() {
+        when(delegate.get(URL + "/1", EmployeeResponseData.class))
+                .thenReturn(ok(new EmployeeResponseData(), "\"a-e1\""));
+        when(delegate.get(eq(URL + "/1"), eq(EmployeeResponseData.class), any(HttpHeaders.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        when(delegate.get(URL + "/2", EmployeeResponseData.class))
+                .thenReturn(ok(new EmployeeResponseData(), "\"a-e2\""));
+
+        httpClient.get(URL + "/1", EmployeeResponseData.class);
+        httpClient.get(URL + "/2", EmployeeResponseData.class);
+        assertEquals(1, httpClient.getStats().entries(), "the second id exceeds max entries");
+
+        assertThrows(HttpClientErrorException.class, () -> httpClient.get(URL + "/1", EmployeeResponseData.class));
+        assertEquals(0, httpClient.getStats().entries());
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.response.EmployeeResponseData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class MeteredHttpClientTest {
+
+    private static final String URL = "http://localhost:8112/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    private IHttpClient delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IHttpClient.class);
+        registry = new SimpleMeterRegistry();
+        httpClient = new MeteredHttpClient(delegate, registry);
+    }
+
+    private long count(String status, String exception) {
+        return registry.get("employee.upstream.requests")
+                .tags("method", "GET", "uri", "/api/v1/employee/{id}", "status", status, "exception", exception)
+                .timer()
+                .count();
+    }
+
+    @Test
+    void testUriKeepsTheRouteAndDropsIdsAndQuery() {
+        assertEquals("/api/v1/employee/{id}", MeteredHttpClient.uri(URL));
+        assertEquals("/api/v1/employee/changes", MeteredHttpClient.uri("http://h/api/v1/employee/changes?since=3"));
+        assertEquals("/api/v1/employee", MeteredHttpClient.uri("http://h/api/v1/employee"));
+        assertEquals("/", MeteredHttpClient.uri("http://h"));
+    }
+
+    @Test
+    void testEachCallIsTaggedWithItsStatus() {
+        when(delegate.get(URL, EmployeeResponseData.class))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponseData()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        httpClient.get(URL, EmployeeResponseData.class);
+        assertThrows(HttpClientErrorException.class, () -> httpClient.get(URL, EmployeeResponseData.class));
+        assertThrows(ResourceAccessException.class, () -> httpClient.get(URL, EmployeeResponseData.class));
+
+        assertEquals(1, count("200", "none"));
+        assertEquals(1, count("429", "none"));
+        assertEquals(1, count("IO_ERROR", "ResourceAccessException"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class PooledHttpTransportTest {
+
+    private static final String BODY = "{\"data\":[],\"status\":\"Successfully processed request.\"}";
+
+    private HttpServer server;
+    private PooledHttpTransport transport;
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            byte[] body = gzip(BODY);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        transport = new PooledHttpTransport(new PooledHttpTransport.Settings(
+                10,
+                5,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30),
+                true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        server.stop(0);
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void testGzipIsRequestedAndDecodedAndConnectionsAreReused() {
+        RestTemplate restTemplate = new RestTemplate(transport.requestFactory());
+        String url = "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(BODY, restTemplate.getForObject(url, String.class));
+        }
+
+        assertTrue(acceptEncoding.get().contains("gzip"));
+        PooledHttpTransport.TransportStats stats = transport.getStats();
+        assertEquals(10, stats.requests());
+        assertEquals(1, stats.connectionsOpened());
+        assertEquals(0.9, stats.reuseRatio(), 1e-9);
+        assertEquals(1, stats.available());
+    }
+}
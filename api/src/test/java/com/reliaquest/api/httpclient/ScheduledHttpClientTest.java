@@ -0,0 +1,79 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.response.EmployeeListResponseData;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+class ScheduledHttpClientTest {
+
+    private IHttpClient delegate;
+    private UpstreamScheduler scheduler;
+    private ScheduledHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IHttpClient.class);
+        scheduler = new UpstreamScheduler(Duration.ofMillis(20), Duration.ofMillis(100));
+        httpClient = new ScheduledHttpClient(delegate, scheduler, Duration.ofSeconds(2), Duration.ofSeconds(2));
+    }
+
+    @Test
+    void testRateLimitedCallIsRetriedWithinDeadline() {
+        ResponseEntity<EmployeeListResponseData> ok = ResponseEntity.ok(new EmployeeListResponseData());
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))
+                .thenReturn(ok);
+
+        assertSame(ok, httpClient.get("http://upstream/employee", EmployeeListResponseData.class));
+
+        verify(delegate, times(3)).get(anyString(), eq(EmployeeListResponseData.class));
+        assertEquals(2, scheduler.getStats().rateLimited());
+    }
+
+    @Test
+    void testRetryAfterHeaderSetsBackoff() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "0");
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, null, null))
+                .thenReturn(ResponseEntity.ok(new EmployeeListResponseData()));
+
+        httpClient.get("http://upstream/employee", EmployeeListResponseData.class);
+
+        assertEquals(Duration.ZERO, scheduler.getStats().learnedBackoff());
+    }
+
+    @Test
+    void testRateLimitSurfacesOnceDeadlinePasses() {
+        httpClient = new ScheduledHttpClient(delegate, scheduler, Duration.ofMillis(50), Duration.ofMillis(50));
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        HttpClientErrorException e = assertThrows(
+                DeadlineExceededException.class,
+                () -> httpClient.get("http://upstream/employee", EmployeeListResponseData.class));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatusCode());
+    }
+
+    @Test
+    void testOtherClientErrorsAreNotRetried() {
+        when(delegate.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThrows(
+                HttpClientErrorException.class,
+                () -> httpClient.get("http://upstream/employee", EmployeeListResponseData.class));
+        verify(delegate, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+}
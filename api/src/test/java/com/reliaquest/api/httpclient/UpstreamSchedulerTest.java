@@ -0,0 +1,100 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.httpclient.UpstreamScheduler.Priority;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class UpstreamSchedulerTest {
+
+    private static long in(Duration duration) {
+        return System.nanoTime() + duration.toNanos();
+    }
+
+    @Test
+    void testAdmitsFreelyUntilFirstRateLimit() {
+        UpstreamScheduler scheduler = new UpstreamScheduler(Duration.ofMillis(200), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(scheduler.acquire(Priority.READ, in(Duration.ZERO)));
+            scheduler.onSuccess();
+        }
+        assertEquals(20, scheduler.getStats().admitted());
+        assertEquals(0, scheduler.getStats().learnedBudget());
+    }
+
+    @Test
+    void testLearnsBudgetAndWaitsOutTheWindow() {
+        UpstreamScheduler scheduler = new UpstreamScheduler(Duration.ofMillis(200), Duration.ofSeconds(1));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(scheduler.acquire(Priority.READ, in(Duration.ZERO)));
+            scheduler.onSuccess();
+        }
+        assertTrue(scheduler.acquire(Priority.READ, in(Duration.ZERO)));
+        long rateLimitedAt = System.nanoTime();
+        scheduler.onRateLimited(null);
+
+        assertEquals(3, scheduler.getStats().learnedBudget());
+        assertFalse(scheduler.acquire(Priority.READ, in(Duration.ofMillis(50))), "blocked during backoff");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(scheduler.acquire(Priority.READ, in(Duration.ofSeconds(2))));
+            scheduler.onSuccess();
+        }
+        assertTrue(System.nanoTime() - rateLimitedAt >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertFalse(scheduler.acquire(Priority.READ, in(Duration.ofMillis(50))), "window of 3 is used up");
+        assertEquals(2, scheduler.getStats().timedOut());
+    }
+
+    @Test
+    void testBackoffDoublesOnConsecutiveRateLimitsAndHonorsRetryAfter() {
+        UpstreamScheduler scheduler = new UpstreamScheduler(Duration.ofMillis(10), Duration.ofMillis(35));
+
+        scheduler.onRateLimited(null);
+        assertEquals(Duration.ofMillis(10), scheduler.getStats().learnedBackoff());
+        scheduler.onRateLimited(null);
+        assertEquals(Duration.ofMillis(20), scheduler.getStats().learnedBackoff());
+        scheduler.onRateLimited(null);
+        assertEquals(Duration.ofMillis(35), scheduler.getStats().learnedBackoff());
+        scheduler.onRateLimited(Duration.ofMillis(5));
+        assertEquals(Duration.ofMillis(5), scheduler.getStats().learnedBackoff());
+    }
+
+    @Test
+    void testQueuedWritesAreAdmittedBeforeQueuedReads() throws Exception {
+        UpstreamScheduler scheduler = new UpstreamScheduler(Duration.ofMillis(300), Duration.ofSeconds(1));
+        // A budget of one request per window spaces the two admissions a full backoff apart.
+        assertTrue(scheduler.acquire(Priority.READ, in(Duration.ZERO)));
+        scheduler.onSuccess();
+        assertTrue(scheduler.acquire(Priority.READ, in(Duration.ZERO)));
+        scheduler.onRateLimited(null);
+        List<Priority> admissionOrder = new CopyOnWriteArrayList<>();
+
+        Thread read = new Thread(() -> {
+            if (scheduler.acquire(Priority.READ, in(Duration.ofSeconds(5)))) {
+                admissionOrder.add(Priority.READ);
+            }
+        });
+        read.start();
+        while (scheduler.getStats().waiting() < 1) {
+            Thread.onSpinWait();
+        }
+        Thread write = new Thread(() -> {
+            if (scheduler.acquire(Priority.WRITE, in(Duration.ofSeconds(5)))) {
+                admissionOrder.add(Priority.WRITE);
+            }
+        });
+        write.start();
+        while (scheduler.getStats().waiting() < 2) {
+            Thread.onSpinWait();
+        }
+        read.join(5000);
+        write.join(5000);
+
+        assertEquals(List.of(Priority.WRITE, Priority.READ), admissionOrder);
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Drives the blocking upstream path (coalescing, scheduling, RestTemplate over the pooled transport) and the roster
+ * cache from many virtual threads at once, with a pool small enough that leases contend, and fails on any
+ * {@code jdk.VirtualThreadPinned} event, i.e. a virtual thread that blocked while holding a monitor.
+ * <p>
+ * Only runs on Java 21+ ({@code -PjavaVersion=21}); the executor is looked up reflectively so the test still
+ * compiles on the default Java 17 toolchain.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final String BODY = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice Johnson\","
+            + "\"employee_salary\":75000}],\"status\":\"Successfully processed request.\"}";
+    private static final int CALLERS = 500;
+
+    private HttpServer server;
+    private PooledHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), CALLERS);
+        server.createContext("/api/v1/employee", exchange -> {
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+        transport = new PooledHttpTransport(new PooledHttpTransport.Settings(
+                4,
+                4,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(30),
+                true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testUpstreamPathDoesNotPinCarrierThreads() throws Exception {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+        IHttpClient client = new ScheduledHttpClient(
+                new RestTemplateHttpClient(new RestTemplate(transport.requestFactory())),
+                new UpstreamScheduler(Duration.ofMillis(10), Duration.ofSeconds(1)),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(30));
+        CoalescingHttpClient coalescing = new CoalescingHttpClient(client);
+        RosterCache rosterCache = new RosterCache(Duration.ZERO, Duration.ofSeconds(5));
+
+        Path dump = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            try {
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < CALLERS; i++) {
+                    int caller = i;
+                    calls.add(executor.submit(() -> {
+                        IHttpClient target = caller % 2 == 0 ? client : coalescing;
+                        target.get(url, EmployeeListResponseData.class);
+                        rosterCache.get(() -> target.get(url, EmployeeListResponseData.class)
+                                .getBody()
+                                .getData());
+                        rosterCache.recordCreated(new Employee("c" + caller, "Created " + caller, 1, 20, "t", "e"));
+                    }));
+                }
+                for (Future<?> call : calls) {
+                    call.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            recording.stop();
+            recording.dump(dump);
+            List<String> pinned = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                pinned.add(String.valueOf(event.getStackTrace()));
+            }
+            assertEquals(List.of(), pinned, "virtual threads pinned their carrier");
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        return (ExecutorService)
+                Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.httpclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class WebClientHttpClientTest {
+
+    private static final String BODY = "{\"data\":[],\"status\":\"Successfully processed request.\"}";
+
+    private HttpServer server;
+    private UpstreamScheduler scheduler;
+    private WebClientHttpClient client;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/employee", exchange -> {
+            int status = exchange.getRequestURI().getPath().endsWith("/missing")
+                    ? 404
+                    : requests.incrementAndGet() == 1 ? 429 : 200;
+            byte[] body = (status == 200 ? BODY : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (status == 429) {
+                exchange.getResponseHeaders().set("Retry-After", "0");
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort() + "/api/v1/employee";
+        scheduler = new UpstreamScheduler(Duration.ofMillis(10), Duration.ofSeconds(1));
+        client = new WebClientHttpClient(
+                WebClient.create(), scheduler, Duration.ofSeconds(2), Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testRateLimitedCallIsRetriedWithinDeadline() {
+        ResponseEntity<String> response = client.get(baseUrl, String.class).block();
+
+        assertEquals(BODY, response.getBody());
+        assertEquals(2, requests.get());
+        UpstreamScheduler.SchedulerStats stats = scheduler.getStats();
+        assertEquals(2, stats.admitted());
+        assertEquals(1, stats.rateLimited());
+    }
+
+    @Test
+    void testClientErrorSurfacesAsHttpClientErrorException() {
+        HttpClientErrorException e = assertThrows(
+                HttpClientErrorException.class,
+                () -> client.get(baseUrl + "/missing", String.class).block());
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+        assertEquals(0, scheduler.getStats().rateLimited());
+    }
+}
@@ -0,0 +1,119 @@
+package com.reliaquest.api.response;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeListStreamReaderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] NAMES = {"Alice Johnson", "Bob Williams", "Carol King", "Ángel O'Brien", "Dave Ray"};
+
+    private static List<Employee> roster(int size) {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            roster.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    NAMES[random.nextInt(NAMES.length)] + " " + i,
+                    random.nextInt(100) * 1000,
+                    20 + random.nextInt(40),
+                    "Engineer",
+                    "user" + i + "@company.com"));
+        }
+        return roster;
+    }
+
+    private static ByteArrayInputStream body(List<Employee> roster) throws IOException {
+        EmployeeListResponseData response = new EmployeeListResponseData();
+        response.setData(roster);
+        response.setMessage("Successfully processed request.");
+        return new ByteArrayInputStream(MAPPER.writeValueAsBytes(response));
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testAggregatesMatchTheBoundList() throws IOException {
+        List<Employee> roster = roster(2000);
+
+        int highest = roster.stream().mapToInt(Employee::getSalary).max().orElseThrow();
+        List<String> topTen = roster.stream()
+                .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+        List<Employee> matches = roster.stream()
+                .filter(employee -> employee.getName().toLowerCase(Locale.ROOT).contains("ángel"))
+                .toList();
+
+        assertEquals(
+                new EmployeeListStreamReader.Result<>(2000, highest),
+                EmployeeListStreamReader.highestSalary(body(roster)));
+        assertEquals(topTen, EmployeeListStreamReader.topEarnerNames(body(roster), 10).value());
+        assertEquals(matches, EmployeeListStreamReader.search(body(roster), "ÁNGEL").value());
+    }
+
+    @Test
+    void testOnlyRequestedFieldsAreDecoded() throws IOException {
+        List<Employee> seen = new ArrayList<>();
+        String json = "{\"status\":\"ok\",\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":5,"
+                + "\"employee_age\":30,\"employee_title\":null,\"extra\":{\"nested\":[1,2]},"
+                + "\"employee_email\":\"a@x.com\"},{\"employee_salary\":null}],\"message\":\"done\"}";
+
+        int employees = EmployeeListStreamReader.forEach(
+                body(json),
+                EnumSet.of(EmployeeListStreamReader.Field.NAME, EmployeeListStreamReader.Field.SALARY),
+                employee -> seen.add(new Employee(
+                        employee.getId(),
+                        employee.getName(),
+                        employee.getSalary(),
+                        employee.getAge(),
+                        employee.getTitle(),
+                        employee.getEmail())));
+
+        assertEquals(2, employees);
+        assertEquals(List.of(new Employee(null, "Alice", 5, 0, null, null), new Employee()), seen);
+    }
+
+    @Test
+    void testEmptyAndMissingListings() throws IOException {
+        assertEquals(0, EmployeeListStreamReader.highestSalary(body("{\"data\":[]}")).employees());
+        assertEquals(0, EmployeeListStreamReader.highestSalary(body("{\"data\":null}")).employees());
+        assertTrue(EmployeeListStreamReader.topEarnerNames(body("{\"message\":\"x\"}"), 10).value().isEmpty());
+        assertThrows(IOException.class, () -> EmployeeListStreamReader.highestSalary(body("[]")));
+    }
+
+    @Test
+    void testTopEarnersWhicheverFieldComesFirst() throws IOException {
+        String json = "{\"data\":["
+                + "{\"employee_name\":\"Low\",\"employee_salary\":1,\"id\":\"a\"},"
+                + "{\"employee_salary\":9,\"id\":\"b\",\"employee_name\":\"Top\"},"
+                + "{\"id\":\"c\",\"employee_name\":\"%s\",\"employee_salary\":5},"
+                + "{\"employee_salary\":0,\"employee_name\":\"Ruled out\",\"id\":\"d\"},"
+                + "{\"employee_salary\":5,\"employee_name\":null,\"id\":\"e\"}]}";
+        String longName = "Ángel O'Brien ".repeat(20).trim();
+
+        EmployeeListStreamReader.Result<List<String>> top =
+                EmployeeListStreamReader.topEarnerNames(body(json.formatted(longName)), 3);
+
+        assertEquals(5, top.employees());
+        assertEquals(Arrays.asList("Top", longName, null), top.value());
+        assertEquals(List.of(), EmployeeListStreamReader.topEarnerNames(body(json.formatted("x")), 0).value());
+    }
+}
@@ -0,0 +1,263 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.httpclient.IHttpClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.request.CreateEmployeeRequest;
+import com.reliaquest.api.response.BulkItemResult;
+import com.reliaquest.api.response.BulkResponseData;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.validation.Validation;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class EmployeeBulkServiceTest {
+
+    private IHttpClient httpClient;
+    private RosterCache rosterCache;
+    private ExecutorService executor;
+    private CircuitBreaker circuitBreaker;
+    private EmployeeBulkService employeeBulkService;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = mock(IHttpClient.class);
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofSeconds(5));
+        executor = Executors.newFixedThreadPool(2);
+        circuitBreaker = CircuitBreaker.ofDefaults("employeeService");
+        employeeBulkService = new EmployeeBulkService(
+                httpClient,
+                rosterCache,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                executor,
+                circuitBreaker,
+                Bulkhead.ofDefaults("employeeWrites"),
+                2,
+                10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static CreateEmployeeRequest request(String name) {
+        return new CreateEmployeeRequest(name, 60000, 30, "Engineer", null);
+    }
+
+    /*
+     * Answers each bulk POST by echoing its employees back with ids, as the upstream does, or with a 429 for a chunk
+     * holding an employee named rejectedName.
+     */
+    @SuppressWarnings("unchecked")
+    private void upstreamCreates(AtomicInteger calls, String rejectedName) {
+        when(httpClient.post(eq(EmployeeBulkService.BULK_URL), any(), eq(EmployeeListResponseData.class)))
+                .thenAnswer(invocation -> {
+                    int call = calls.incrementAndGet();
+                    List<CreateEmployeeRequest> chunk =
+                            ((Map<String, List<CreateEmployeeRequest>>) invocation.getArgument(1)).get("employees");
+                    List<Employee> created = new ArrayList<>();
+                    for (CreateEmployeeRequest input : chunk) {
+                        if (input.getName().equals(rejectedName)) {
+                            throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+                        }
+                        created.add(new Employee(
+                                input.getName() + "-" + call,
+                                input.getName(),
+                                input.getSalary(),
+                                input.getAge(),
+                                input.getTitle(),
+                                "e@company.com"));
+                    }
+                    EmployeeListResponseData body = new EmployeeListResponseData();
+                    body.setData(created);
+                    return ResponseEntity.ok(body);
+                });
+    }
+
+    @Test
+    void testValidItemsAreCreatedInChunksAndReportedInRequestOrder() {
+        AtomicInteger calls = new AtomicInteger();
+        upstreamCreates(calls, null);
+        List<CreateEmployeeRequest> inputs = Arrays.asList(
+                request("Alice Johnson"),
+                request(""),
+                request("Bob Williams"),
+                null,
+                request("Carol Diaz"),
+                new CreateEmployeeRequest("Dave Brown", -1, 12, "Engineer", null));
+
+        ResponseEntity<BulkResponseData<Employee>> response = employeeBulkService.createEmployees(inputs);
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        BulkResponseData<Employee> report = response.getBody();
+        assertEquals(3, report.getSucceeded());
+        assertEquals(3, report.getFailed());
+        assertEquals(2, calls.get(), "three valid items in chunks of two");
+        List<BulkItemResult<Employee>> results = report.getResults();
+        assertEquals(6, results.size());
+        for (int index = 0; index < results.size(); index++) {
+            assertEquals(index, results.get(index).getIndex());
+        }
+        assertEquals("Alice Johnson", results.get(0).getData().getName());
+        assertEquals(BulkItemResult.Status.REJECTED, results.get(1).getStatus());
+        assertEquals("Name is mandatory", results.get(1).getError());
+        assertEquals("Bob Williams", results.get(2).getData().getName());
+        assertEquals(CommonConstant.BULK_ITEM_MISSING, results.get(3).getError());
+        assertEquals(BulkItemResult.Status.SUCCEEDED, results.get(4).getStatus());
+        assertEquals("Age must be at least 16; Salary must be a positive value", results.get(5).getError());
+    }
+
+    @Test
+    void testCreatedEmployeesAreFoldedIntoTheCachedRoster() {
+        rosterCache.get(() -> List.of(new Employee("1", "Zed Zulu", 1, 30, "Engineer", "z@company.com")));
+        upstreamCreates(new AtomicInteger(), null);
+
+        ResponseEntity<BulkResponseData<Employee>> response =
+                employeeBulkService.createEmployees(List.of(request("Alice Johnson"), request("Bob Williams")));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String id = response.getBody().getResults().get(1).getData().getId();
+        assertEquals("Bob Williams", rosterCache.findById(id).orElseThrow().getName());
+        assertEquals(3, rosterCache.lastKnownGood().orElseThrow().employees().size());
+    }
+
+    @Test
+    void testAChunkThatTimedOutHasAnUnknownOutcome() {
+        when(httpClient.post(eq(EmployeeBulkService.BULK_URL), any(), eq(EmployeeListResponseData.class)))
+                .thenThrow(new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out")));
+
+        BulkResponseData<Employee> report = employeeBulkService
+                .createEmployees(List.of(request("Alice Johnson")))
+                .getBody();
+
+        assertEquals(BulkItemResult.Status.UNKNOWN, report.getResults().get(0).getStatus());
+        assertEquals(CommonConstant.BULK_OUTCOME_UNKNOWN, report.getResults().get(0).getError());
+    }
+
+    @Test
+    void testChunksAreNotSentWhileTheCircuitIsOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        BulkResponseData<Employee> report = employeeBulkService
+                .deleteEmployees(List.of(new UUID(0, 1).toString()))
+                .getBody();
+
+        assertEquals(BulkItemResult.Status.FAILED, report.getResults().get(0).getStatus());
+        assertEquals(CommonConstant.BULK_NOT_SENT, report.getResults().get(0).getError());
+        verify(httpClient, never()).delete(any(), any(), any());
+    }
+
+    @Test
+    void testShutdownStopsTheExecutor() {
+        employeeBulkService.shutdown();
+
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    void testAFailedChunkFailsOnlyItsItems() {
+        AtomicInteger calls = new AtomicInteger();
+        upstreamCreates(calls, "Dave Brown");
+
+        ResponseEntity<BulkResponseData<Employee>> response = employeeBulkService.createEmployees(List.of(
+                request("Alice Johnson"), request("Bob Williams"), request("Carol Diaz"), request("Dave Brown")));
+
+        BulkResponseData<Employee> report = response.getBody();
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(2, calls.get());
+        assertEquals(2, report.getSucceeded());
+        assertEquals(2, report.getFailed());
+        assertEquals(BulkItemResult.Status.SUCCEEDED, report.getResults().get(1).getStatus());
+        assertEquals(BulkItemResult.Status.FAILED, report.getResults().get(2).getStatus());
+        assertEquals(CommonConstant.EXCEEDED_THE_NUMBER_OF_REQUESTS, report.getResults().get(3).getError());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDeletesReportEachIdOnceAndUpdateTheCachedRoster() {
+        String alice = new UUID(0, 1).toString();
+        String bob = new UUID(0xABCDL, 2).toString();
+        String missing = new UUID(0, 3).toString();
+        Map<String, Employee> upstream = new HashMap<>(Map.of(
+                alice, new Employee(alice, "Alice Johnson", 75000, 28, "Engineer", "a@company.com"),
+                bob, new Employee(bob, "Bob Williams", 82000, 35, "Team Lead", "b@company.com")));
+        rosterCache.get(() -> List.copyOf(upstream.values()));
+        AtomicInteger calls = new AtomicInteger();
+        when(httpClient.delete(eq(EmployeeBulkService.BULK_URL), any(), eq(EmployeeListResponseData.class)))
+                .thenAnswer(invocation -> {
+                    calls.incrementAndGet();
+                    List<Employee> deleted = new ArrayList<>();
+                    for (String id : ((Map<String, List<String>>) invocation.getArgument(1)).get("ids")) {
+                        Employee employee = upstream.remove(id);
+                        if (employee != null) {
+                            deleted.add(employee);
+                        }
+                    }
+                    EmployeeListResponseData body = new EmployeeListResponseData();
+                    body.setData(deleted);
+                    return ResponseEntity.ok(body);
+                });
+
+        ResponseEntity<BulkResponseData<Employee>> response =
+                employeeBulkService.deleteEmployees(
+                        Arrays.asList(alice, "not-an-id", alice, missing, bob.toUpperCase(), null));
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(2, calls.get());
+        List<BulkItemResult<Employee>> results = response.getBody().getResults();
+        assertEquals(
+                List.of(
+                        BulkItemResult.Status.SUCCEEDED,
+                        BulkItemResult.Status.REJECTED,
+                        BulkItemResult.Status.NOT_FOUND,
+                        BulkItemResult.Status.NOT_FOUND,
+                        BulkItemResult.Status.SUCCEEDED,
+                        BulkItemResult.Status.REJECTED),
+                results.stream().map(BulkItemResult::getStatus).toList());
+        assertEquals("Bob Williams", results.get(4).getData().getName());
+        assertEquals(CommonConstant.BULK_ID_INVALID, results.get(1).getError());
+        assertTrue(rosterCache.lastKnownGood().orElseThrow().employees().isEmpty());
+        assertTrue(rosterCache.isKnownMissing(alice));
+    }
+
+    @Test
+    void testEmptyAndOversizedRequestsAreRejected() {
+        assertThrows(HttpClientErrorException.class, () -> employeeBulkService.createEmployees(List.of()));
+        List<CreateEmployeeRequest> tooMany = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            tooMany.add(request("Employee " + i));
+        }
+        HttpClientErrorException exception =
+                assertThrows(HttpClientErrorException.class, () -> employeeBulkService.createEmployees(tooMany));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(httpClient, never()).post(any(), any(), any());
+    }
+}
@@ -1,30 +1,34 @@
 package com.reliaquest.api.service;
 
-import com.reliaquest.api.httpclient.IHttpClient;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.constants.CommonConstant;
+import com.reliaquest.api.exception.TooManyRequestsException;
 import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class EmployeeFallbackServiceTest {
 
-    @Mock
-    private IHttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    private RosterCache rosterCache;
 
-    @InjectMocks
     private EmployeeFallbackService employeeFallbackService;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofSeconds(5));
+        employeeFallbackService = new EmployeeFallbackService(meterRegistry, rosterCache);
     }
 
     @Test
@@ -87,4 +91,60 @@ public class EmployeeFallbackServiceTest {
         assertNotNull(response.getBody());
         assertEquals("Failed to delete employee. Please try again later.", response.getBody());
     }
+
+    @Test
+    void testReadsAreServedFromTheLastKnownGoodRoster() {
+        Employee alice = new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice@example.com");
+        Employee bob = new Employee("2", "Bob Williams", 82000, 35, "Team Lead", "bob@example.com");
+        rosterCache.get(() -> List.of(alice, bob));
+        Throwable throwable = new RuntimeException("CircuitBreaker 'employeeService' is OPEN");
+
+        ResponseEntity<List<Employee>> all = employeeFallbackService.fallbackGetAllEmployees(throwable);
+        assertEquals(HttpStatus.OK, all.getStatusCode());
+        assertEquals(List.of(alice, bob), all.getBody());
+        assertNotNull(all.getHeaders().getFirst(HttpHeaders.AGE));
+        assertNotNull(all.getHeaders().getFirst(CommonConstant.ROSTER_FETCHED_AT_HEADER));
+        assertEquals(82000, employeeFallbackService.fallbackGetHighestSalary(throwable).getBody());
+        assertEquals(
+                List.of("Bob Williams", "Alice Johnson"),
+                employeeFallbackService.fallbackGetTopTenHighestEarningEmployeeNames(throwable).getBody());
+        assertEquals(
+                List.of(alice), employeeFallbackService.fallbackGetEmployeesByNameSearch("alice", throwable).getBody());
+        assertEquals(bob, employeeFallbackService.fallbackGetEmployeeById("2", throwable).getBody());
+        assertEquals(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                employeeFallbackService.fallbackGetEmployeeById("3", throwable).getStatusCode());
+    }
+
+    @Test
+    void testTooManyRequestsIsPassedOnWithoutARoster() {
+        TooManyRequestsException tooManyRequests = new TooManyRequestsException("slow down", Duration.ofSeconds(7));
+
+        assertSame(
+                tooManyRequests,
+                assertThrows(
+                        TooManyRequestsException.class,
+                        () -> employeeFallbackService.fallbackGetAllEmployees(tooManyRequests)));
+    }
+
+    @Test
+    void testEachFallbackIsCountedOnce() {
+        Throwable throwable = new RuntimeException("service temporarily unavailable");
+
+        employeeFallbackService.fallbackGetEmployeesByNameSearch("alice", throwable);
+        employeeFallbackService.fallbackGetEmployeeById("1", throwable);
+        employeeFallbackService.fallbackGetAllEmployees(throwable);
+
+        assertEquals(1, fallbacks("getEmployeesByNameSearch"));
+        assertEquals(1, fallbacks("getEmployeeById"));
+        assertEquals(1, fallbacks("getAllEmployees"));
+    }
+
+    private double fallbacks(String operation) {
+        return meterRegistry
+                .get("employee.fallbacks")
+                .tag("operation", operation)
+                .counter()
+                .count();
+    }
 }
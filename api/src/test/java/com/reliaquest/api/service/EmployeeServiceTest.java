@@ -1,28 +1,40 @@
 package com.reliaquest.api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterCache;
 import com.reliaquest.api.constants.CommonConstant;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.httpclient.DeadlineExceededException;
 import com.reliaquest.api.httpclient.IHttpClient;
 import com.reliaquest.api.model.*;
 import com.reliaquest.api.request.CreateEmployeeRequest;
-import com.reliaquest.api.request.DeleteEmployeeRequest;
+import com.reliaquest.api.response.EmployeeChangesResponseData;
 import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.api.response.EmployeeListStreamReader;
 import com.reliaquest.api.response.EmployeeResponseData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class EmployeeServiceTest {
@@ -30,12 +42,18 @@ class EmployeeServiceTest {
     @Mock
     private IHttpClient httpClient;
 
-    @InjectMocks
+    @Spy
+    private RosterCache rosterCache = new RosterCache(Duration.ofSeconds(30), Duration.ofSeconds(5));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        employeeService =
+                new EmployeeService(httpClient, rosterCache, EmployeeService.Aggregation.CACHED, meterRegistry);
     }
 
     @Test
@@ -118,7 +136,7 @@ class EmployeeServiceTest {
 
     @Test
     void testCreateEmployeeSuccess() {
-        CreateEmployeeRequest createRequest = new CreateEmployeeRequest("John Doe", 50000, 30, "Engineer");
+        CreateEmployeeRequest createRequest = new CreateEmployeeRequest("John Doe", 50000, 30, "Engineer", null);
         Employee mockEmployee = new Employee(
                 "25d32a9d-67a1-4552-8d3a-cf291c489887", "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
         EmployeeResponseData responseData = new EmployeeResponseData();
@@ -134,6 +152,21 @@ class EmployeeServiceTest {
         assertEquals("John Doe", response.getBody().getName());
     }
 
+    @Test
+    void testRateLimitPastTheUpstreamDeadlineIsNotRetryable() {
+        CreateEmployeeRequest createRequest = new CreateEmployeeRequest("John Doe", 50000, 30, "Engineer", null);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "3");
+        when(httpClient.post(anyString(), eq(createRequest), eq(EmployeeResponseData.class)))
+                .thenThrow(new DeadlineExceededException("Too Many Requests", headers));
+
+        TooManyRequestsException exception =
+                assertThrows(TooManyRequestsException.class, () -> employeeService.createEmployee(createRequest));
+
+        assertFalse(exception.isRetryable());
+        assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+    }
+
     @Test
     void testDeleteEmployeeSuccess() {
         Employee mockEmployee = new Employee(
@@ -141,16 +174,241 @@ class EmployeeServiceTest {
 
         EmployeeResponseData employeeResponseData1 = new EmployeeResponseData();
         employeeResponseData1.setData(mockEmployee);
-        when(httpClient.get(contains("/25d32a9d-67a1-4552-8d3a-cf291c489887"), eq(EmployeeResponseData.class)))
+        when(httpClient.delete(
+                        endsWith("/25d32a9d-67a1-4552-8d3a-cf291c489887"), isNull(), eq(EmployeeResponseData.class)))
                 .thenReturn(new ResponseEntity<>(employeeResponseData1, HttpStatus.OK));
 
-        when(httpClient.delete(anyString(), any(DeleteEmployeeRequest.class), eq(Void.class)))
-                .thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
-
         ResponseEntity<String> response = employeeService.deleteEmployee("25d32a9d-67a1-4552-8d3a-cf291c489887");
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(CommonConstant.DELETE_EMPLOYEE_WITH_ID_SUCCESS + "John Doe", response.getBody());
+        verify(httpClient, never()).get(anyString(), any());
+    }
+
+    @Test
+    void testDeleteByUpperCaseIdEvictsTheCachedEmployee() {
+        String id = "25d32a9d-67a1-4552-8d3a-cf291c489887";
+        Employee employee = new Employee(id, "John Doe", 50000, 30, "Engineer", "john.doe@example.com");
+        EmployeeListResponseData listData = new EmployeeListResponseData();
+        listData.setData(List.of(employee));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(listData, HttpStatus.OK));
+        employeeService.getAllEmployees();
+        EmployeeResponseData deleted = new EmployeeResponseData();
+        deleted.setData(employee);
+        when(httpClient.delete(endsWith("/" + id), isNull(), eq(EmployeeResponseData.class)))
+                .thenReturn(new ResponseEntity<>(deleted, HttpStatus.OK));
+
+        employeeService.deleteEmployee(id.toUpperCase());
+
+        assertTrue(rosterCache.findById(id).isEmpty());
+        assertTrue(rosterCache.isKnownMissing(id));
+    }
+
+    @Test
+    void testDeleteOfMissingEmployeeIsRemembered() {
+        when(httpClient.delete(endsWith("/404"), isNull(), eq(EmployeeResponseData.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee("404"));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee("404"));
+
+        verify(httpClient, times(1)).delete(anyString(), any(), any());
     }
 
+    @Test
+    void testReadsAreServedFromRosterCache() {
+        EmployeeListResponseData responseData = new EmployeeListResponseData();
+        responseData.setData(Arrays.asList(
+                new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com"),
+                new Employee("2", "Bob Williams", 82000, 35, "Team Lead", "bob.williams@example.com")));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(responseData, HttpStatus.OK));
+
+        employeeService.getAllEmployees();
+        ResponseEntity<Integer> highestSalary = employeeService.getHighestSalaryOfEmployees();
+        ResponseEntity<List<Employee>> search = employeeService.getEmployeesByNameSearch("alice");
+
+        assertEquals(82000, highestSalary.getBody());
+        assertEquals(1, search.getBody().size());
+        verify(httpClient, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+        assertEquals(1, rosterCache.getStats().misses());
+        assertEquals(2, rosterCache.getStats().hits());
+    }
+
+    @Test
+    void testCreateEmployeeIsVisibleToCachedReads() {
+        EmployeeListResponseData listData = new EmployeeListResponseData();
+        listData.setData(List.of(
+                new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com")));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(listData, HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        CreateEmployeeRequest createRequest = new CreateEmployeeRequest("John Doe", 90000, 30, "Engineer", null);
+        EmployeeResponseData created = new EmployeeResponseData();
+        created.setData(new Employee("3", "John Doe", 90000, 30, "Engineer", "john.doe@example.com"));
+        when(httpClient.post(anyString(), eq(createRequest), eq(EmployeeResponseData.class)))
+                .thenReturn(new ResponseEntity<>(created, HttpStatus.OK));
+        employeeService.createEmployee(createRequest);
+
+        assertEquals(2, employeeService.getAllEmployees().getBody().size());
+        assertEquals(90000, employeeService.getHighestSalaryOfEmployees().getBody());
+        verify(httpClient, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+
+    @Test
+    void testTopTenAndHighestSalaryReflectDelete() {
+        Employee topEarner = new Employee("9", "Carol King", 250000, 44, "Director", "carol.king@example.com");
+        EmployeeListResponseData listData = new EmployeeListResponseData();
+        listData.setData(List.of(
+                new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com"),
+                topEarner,
+                new Employee("2", "Bob Williams", 82000, 35, "Team Lead", "bob.williams@example.com")));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(listData, HttpStatus.OK));
+
+        assertEquals(
+                List.of("Carol King", "Bob Williams", "Alice Johnson"),
+                employeeService.getTopTenHighestEarningEmployeeNames().getBody());
+
+        EmployeeResponseData deleted = new EmployeeResponseData();
+        deleted.setData(topEarner);
+        when(httpClient.delete(endsWith("/9"), isNull(), eq(EmployeeResponseData.class)))
+                .thenReturn(new ResponseEntity<>(deleted, HttpStatus.OK));
+        employeeService.deleteEmployee("9");
+
+        assertEquals(82000, employeeService.getHighestSalaryOfEmployees().getBody());
+        assertEquals(
+                List.of("Bob Williams", "Alice Johnson"),
+                employeeService.getTopTenHighestEarningEmployeeNames().getBody());
+        verify(httpClient, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+
+    @Test
+    void testGetEmployeeByIdServedFromRosterCache() {
+        EmployeeListResponseData listData = new EmployeeListResponseData();
+        listData.setData(List.of(
+                new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com")));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(listData, HttpStatus.OK));
+        employeeService.getAllEmployees();
+
+        ResponseEntity<Employee> response = employeeService.getEmployeeById("1");
+
+        assertEquals("Alice Johnson", response.getBody().getName());
+        verify(httpClient, never()).get(anyString(), eq(EmployeeResponseData.class));
+    }
+
+    @Test
+    void testGetEmployeeByIdNotFoundIsCached() {
+        when(httpClient.get(contains("/missing"), eq(EmployeeResponseData.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, CommonConstant.NO_DATA_FOUND));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("missing"));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("missing"));
+
+        verify(httpClient, times(1)).get(contains("/missing"), eq(EmployeeResponseData.class));
+        assertEquals(1, rosterCache.getStats().notFoundHits());
+    }
+
+    @Test
+    void testStaleRosterFollowsTheChangeFeed() throws InterruptedException {
+        RosterCache alwaysStale = new RosterCache(Duration.ZERO, Duration.ofSeconds(5));
+        EmployeeService feedService = new EmployeeService(httpClient, alwaysStale);
+        Employee alice = new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice@example.com");
+        Employee john = new Employee("3", "John Doe", 90000, 30, "Engineer", "john.doe@example.com");
+        EmployeeListResponseData listData = new EmployeeListResponseData();
+        listData.setData(List.of(alice));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(listData, HttpStatus.OK));
+        when(httpClient.get(endsWith("/changes"), eq(EmployeeChangesResponseData.class)))
+                .thenReturn(new ResponseEntity<>(changes(5, List.of()), HttpStatus.OK));
+        when(httpClient.get(endsWith("/changes?since=5&epoch=e"), eq(EmployeeChangesResponseData.class)))
+                .thenReturn(new ResponseEntity<>(changes(6, List.of(new EmployeeChange(6, "CREATED", john))),
+                        HttpStatus.OK));
+        when(httpClient.get(endsWith("/changes?since=6&epoch=e"), eq(EmployeeChangesResponseData.class)))
+                .thenReturn(new ResponseEntity<>(changes(6, List.of()), HttpStatus.OK));
+
+        feedService.getAllEmployees();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (alwaysStale.getStats().changesApplied() == 0 && System.nanoTime() < deadline) {
+            feedService.getAllEmployees();
+            Thread.sleep(10);
+        }
+
+        assertEquals(List.of(alice, john), feedService.getAllEmployees().getBody());
+        assertEquals(90000, feedService.getHighestSalaryOfEmployees().getBody());
+        verify(httpClient, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamingAggregationReadsTheListingWithoutCachingIt() throws Exception {
+        EmployeeService streamingService =
+                new EmployeeService(httpClient, rosterCache, EmployeeService.Aggregation.STREAMING);
+        EmployeeListResponseData listData = new EmployeeListResponseData();
+        listData.setData(List.of(
+                new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com"),
+                new Employee("9", "Carol King", 250000, 44, "Director", "carol.king@example.com")));
+        byte[] json = new ObjectMapper().writeValueAsBytes(listData);
+        when(httpClient.stream(anyString(), any())).thenAnswer(invocation -> invocation
+                .getArgument(1, IHttpClient.BodyReader.class)
+                .read(new ByteArrayInputStream(json)));
+
+        assertEquals(250000, streamingService.getHighestSalaryOfEmployees().getBody());
+        assertEquals(
+                List.of("Carol King", "Alice Johnson"),
+                streamingService.getTopTenHighestEarningEmployeeNames().getBody());
+        assertEquals(
+                List.of("Alice Johnson"),
+                streamingService.getEmployeesByNameSearch("alice").getBody().stream()
+                        .map(Employee::getName)
+                        .toList());
+        verify(httpClient, times(3)).stream(anyString(), any());
+        verify(httpClient, never()).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+
+    @Test
+    void testStreamingAggregationOfAnEmptyListingIsNotFound() {
+        EmployeeService streamingService =
+                new EmployeeService(httpClient, rosterCache, EmployeeService.Aggregation.STREAMING);
+        when(httpClient.stream(anyString(), any())).thenReturn(new EmployeeListStreamReader.Result<>(0, 0));
+
+        assertThrows(EmployeeNotFoundException.class, streamingService::getHighestSalaryOfEmployees);
+    }
+
+    private static EmployeeChangesResponseData changes(long version, List<EmployeeChange> changes) {
+        EmployeeChangesResponseData responseData = new EmployeeChangesResponseData();
+        responseData.setData(new EmployeeChanges("e", version, false, false, changes));
+        return responseData;
+    }
+
+    @Test
+    void testOperationsAreTimedByOutcome() {
+        Employee alice = new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice@example.com");
+        EmployeeListResponseData responseData = new EmployeeListResponseData();
+        responseData.setData(List.of(alice));
+        when(httpClient.get(anyString(), eq(EmployeeListResponseData.class)))
+                .thenReturn(new ResponseEntity<>(responseData, HttpStatus.OK));
+
+        employeeService.getAllEmployees();
+        employeeService.getAllEmployees();
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("missing"));
+
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("employee.service")
+                        .tags("operation", "getAllEmployees", "status", "200", "exception", "none")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.service")
+                        .tags("operation", "getEmployeeById", "exception", "EmployeeNotFoundException")
+                        .timer()
+                        .count());
+    }
 }
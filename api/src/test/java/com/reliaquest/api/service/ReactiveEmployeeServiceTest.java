@@ -0,0 +1,92 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.httpclient.IReactiveHttpClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.api.response.EmployeeResponseData;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import reactor.core.publisher.Mono;
+
+class ReactiveEmployeeServiceTest {
+
+    private static final Employee ALICE =
+            new Employee("1", "Alice Johnson", 75000, 28, "Senior Developer", "alice.johnson@example.com");
+    private static final Employee BOB = new Employee("2", "Bob Williams", 82000, 35, "Team Lead", "bob@example.com");
+
+    private IReactiveHttpClient httpClient;
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = mock(IReactiveHttpClient.class);
+        employeeService = new ReactiveEmployeeService(
+                httpClient, new RosterCache(Duration.ofSeconds(30), Duration.ofSeconds(5)));
+    }
+
+    private void givenRoster(Employee... employees) {
+        EmployeeListResponseData responseData = new EmployeeListResponseData();
+        responseData.setData(List.of(employees));
+        when(httpClient.get(EmployeeService.API_URL, EmployeeListResponseData.class))
+                .thenReturn(Mono.just(ResponseEntity.ok(responseData)));
+    }
+
+    @Test
+    void testReadsShareOneRosterFetch() {
+        givenRoster(ALICE, BOB);
+
+        assertEquals(List.of(ALICE, BOB), employeeService.getAllEmployees().block().getBody());
+        assertEquals(82000, employeeService.getHighestSalaryOfEmployees().block().getBody());
+        assertEquals(List.of(BOB), employeeService.getEmployeesByNameSearch("will").block().getBody());
+        assertEquals(
+                List.of("Bob Williams", "Alice Johnson"),
+                employeeService.getTopTenHighestEarningEmployeeNames().block().getBody());
+        assertEquals(ALICE, employeeService.getEmployeeById("1").block().getBody());
+
+        verify(httpClient, times(1)).get(anyString(), eq(EmployeeListResponseData.class));
+    }
+
+    @Test
+    void testNotFoundIdIsCached() {
+        when(httpClient.get(EmployeeService.API_URL + "/404", EmployeeResponseData.class))
+                .thenReturn(Mono.error(new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("404").block());
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("404").block());
+
+        verify(httpClient, times(1)).get(anyString(), eq(EmployeeResponseData.class));
+    }
+
+    @Test
+    void testRateLimitedFetchMapsToTooManyRequests() {
+        when(httpClient.get(EmployeeService.API_URL, EmployeeListResponseData.class))
+                .thenReturn(Mono.error(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+
+        assertThrows(TooManyRequestsException.class, () -> employeeService.getAllEmployees().block());
+    }
+
+    @Test
+    void testBlankSearchIsRejected() {
+        HttpClientErrorException e = assertThrows(
+                HttpClientErrorException.class,
+                () -> employeeService.getEmployeesByNameSearch(" ").block());
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link NameIndex#search(String)} with the linear {@code toLowerCase().contains(...)} scan that
+ * {@code EmployeeService.getEmployeesByNameSearch} used before the index existed.
+ * <p>
+ * Lives in the {@code cache} package so it can build a {@link NameIndex} directly, without a Spring context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    /** A common fragment, a rarer one, and a two-letter query that falls back to a scan. */
+    @Param({"son", "Vanel", "al"})
+    public String query;
+
+    private List<Employee> roster;
+    private NameIndex nameIndex;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.generate(size, 42);
+        nameIndex = new NameIndex(roster);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return roster.stream()
+                .filter(employee -> employee.getName() != null
+                        && employee.getName().toLowerCase().contains(query.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return nameIndex.search(query);
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.benchmarks.Rosters;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the heap a cached roster retains in each {@link RosterCache.Representation}. Every run parses the same
+ * JSON listing the way the api's HTTP client does, so the employees carry their own strings rather than ones shared
+ * with a generator, builds a snapshot from it, drops the parsed response and reports what stays reachable after a
+ * full collection. The indexed snapshot keeps the parsed list and its indexes; the columnar one keeps only its arrays.
+ * <p>
+ * Lives in the {@code cache} package so it can build snapshots directly, without a Spring context.
+ * <p>
+ * {@code ./gradlew :benchmarks:rosterFootprint -PfootprintArgs="size=1000000"}
+ */
+public final class RosterFootprint {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private RosterFootprint() {}
+
+    public static void main(String[] args) throws Exception {
+        int size = intArg(args, "size", 1_000_000);
+        byte[] json = MAPPER.writeValueAsBytes(Map.of("data", Rosters.generate(size, 42)));
+        System.out.printf(
+                Locale.ROOT,
+                "%d employees, %.1f MB of JSON, max heap %d MB%n",
+                size,
+                json.length / 1048576.0,
+                Runtime.getRuntime().maxMemory() >> 20);
+
+        for (RosterCache.Representation representation : RosterCache.Representation.values()) {
+            measure(json, size, representation);
+        }
+    }
+
+    private static void measure(byte[] json, int size, RosterCache.Representation representation) throws Exception {
+        long baseline = settledHeap();
+        long started = System.nanoTime();
+        RosterSnapshot snapshot = snapshot(json, representation == RosterCache.Representation.COLUMNAR);
+        long buildNanos = System.nanoTime() - started;
+        long retained = settledHeap() - baseline;
+        if (snapshot.employees().size() != size) {
+            throw new IllegalStateException(representation + " holds " + snapshot.employees().size() + " employees");
+        }
+        System.out.printf(
+                Locale.ROOT,
+                "%-9s retained %7.1f MB  %5d bytes/employee  parse+build %6d ms  highest salary %d%n",
+                representation.name().toLowerCase(Locale.ROOT),
+                retained / 1048576.0,
+                retained / size,
+                buildNanos / 1_000_000,
+                snapshot.highestSalary());
+    }
+
+    private static RosterSnapshot snapshot(byte[] json, boolean columnar) throws Exception {
+        List<Employee> employees = MAPPER.readValue(json, EmployeeListResponseData.class).getData();
+        return new RosterSnapshot(1, Instant.now(), null, employees, columnar);
+    }
+
+    private static long settledHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 1));
+            }
+        }
+        return defaultValue;
+    }
+}
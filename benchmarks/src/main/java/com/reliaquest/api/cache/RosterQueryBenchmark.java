@@ -0,0 +1,62 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the roster queries of an indexed and a columnar {@link RosterSnapshot}: the top earners, a name search and
+ * a lookup by id. {@link RosterFootprint} measures what each representation costs in heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RosterQueryBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean columnar;
+
+    private RosterSnapshot snapshot;
+    private String id;
+
+    @Setup
+    public void setUp() {
+        List<Employee> roster = Rosters.generate(size, 42);
+        snapshot = new RosterSnapshot(1, Instant.now(), null, roster, columnar);
+        id = roster.get(size / 2).getId();
+    }
+
+    @Benchmark
+    public List<String> topTenEarners() {
+        return snapshot.topEarnerNames(10);
+    }
+
+    @Benchmark
+    public List<Employee> search() {
+        return snapshot.search("Vanel");
+    }
+
+    @Benchmark
+    public Employee findById() {
+        return snapshot.findById(id).orElseThrow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.httpclient;
+
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.benchmarks.StubUpstream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Roster fetch latency (sample mode, with percentiles) and throughput of {@link RestTemplateHttpClient} over the
+ * previous bare {@code new RestTemplate()} ({@code simple}) versus {@link PooledHttpTransport} without
+ * ({@code pooled}) and with ({@code pooled-gzip}) content compression, against an in-process upstream that gzips like
+ * the mock server.
+ * <p>
+ * Over loopback, bytes are free and gzip only costs CPU; pass {@code -p latencyMillis=...} or run against a remote
+ * upstream to see the bandwidth side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class HttpTransportBenchmark {
+
+    @Param({"simple", "pooled", "pooled-gzip"})
+    public String transport;
+
+    @Param({"50", "10000"})
+    public int size;
+
+    @Param({"0"})
+    public int latencyMillis;
+
+    private StubUpstream upstream;
+    private PooledHttpTransport pooledHttpTransport;
+    private IHttpClient httpClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        upstream = new StubUpstream(Rosters.generate(size, 42), Duration.ofMillis(latencyMillis), 16);
+        RestTemplate restTemplate;
+        if (transport.startsWith("pooled")) {
+            pooledHttpTransport = new PooledHttpTransport(new PooledHttpTransport.Settings(
+                    50,
+                    20,
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(5),
+                    Duration.ofSeconds(1),
+                    Duration.ofSeconds(30),
+                    transport.endsWith("gzip")));
+            restTemplate = new RestTemplate(pooledHttpTransport.requestFactory());
+        } else {
+            restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+        }
+        httpClient = new RestTemplateHttpClient(restTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pooledHttpTransport != null) {
+            System.out.println("Transport stats: " + pooledHttpTransport.getStats());
+            pooledHttpTransport.close();
+        }
+        upstream.close();
+    }
+
+    @Benchmark
+    public EmployeeListResponseData fetchRoster() {
+        return httpClient.get(upstream.url(), EmployeeListResponseData.class).getBody();
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.benchmarks.Rosters;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson (de)serialization of the roster as {@link EmployeeListResponseData}: reading is what the api pays on every
+ * roster fetch, writing what the mock server pays to answer one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class EmployeeListSerializationBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmployeeListResponseData response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        response = new EmployeeListResponseData();
+        response.setData(Rosters.generate(size, 42));
+        response.setMessage("Successfully processed request.");
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public EmployeeListResponseData deserialize() throws IOException {
+        return objectMapper.readValue(json, EmployeeListResponseData.class);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.benchmarks.Rosters;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The highest salary and the top ten computed from a roster body, once by binding {@link EmployeeListResponseData}
+ * and aggregating the list, once with {@link EmployeeListStreamReader}. Compare the {@code gc.alloc.rate.norm} columns
+ * for the garbage each costs per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class EmployeeListStreamingBenchmark {
+
+    private static final Comparator<Employee> BY_SALARY_DESC =
+            Comparator.comparingInt(Employee::getSalary).reversed();
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        EmployeeListResponseData response = new EmployeeListResponseData();
+        response.setData(Rosters.generate(size, 42));
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public int boundHighestSalary() throws IOException {
+        return objectMapper.readValue(json, EmployeeListResponseData.class).getData().stream()
+                .mapToInt(Employee::getSalary)
+                .max()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public int streamedHighestSalary() throws IOException {
+        return EmployeeListStreamReader.highestSalary(new ByteArrayInputStream(json)).value();
+    }
+
+    @Benchmark
+    public List<String> boundTopTen() throws IOException {
+        return objectMapper.readValue(json, EmployeeListResponseData.class).getData().stream()
+                .sorted(BY_SALARY_DESC)
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> streamedTopTen() throws IOException {
+        return EmployeeListStreamReader.topEarnerNames(new ByteArrayInputStream(json), 10).value();
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.httpclient.IHttpClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.benchmarks.Rosters;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * The read operations of {@link EmployeeService} over a stub {@link IHttpClient} that hands back a pre-built roster,
+ * so only the service's own work is measured (no Spring proxies, so no circuit breaker either).
+ * <p>
+ * {@code warm} answers from the cached snapshot as steady-state requests do; {@code cold} invalidates the cache
+ * first, so every operation also pays for taking in a freshly fetched roster and building its indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"warm", "cold"})
+    public String cache;
+
+    private RosterCache rosterCache;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        EmployeeListResponseData response = new EmployeeListResponseData();
+        response.setData(Rosters.generate(size, 42));
+        IHttpClient stub = new IHttpClient() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> ResponseEntity<T> get(String url, Class<T> responseType) {
+                return (ResponseEntity<T>) ResponseEntity.ok(response);
+            }
+
+            @Override
+            public <T> ResponseEntity<T> post(String url, Object request, Class<T> responseType) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> ResponseEntity<T> delete(String url, Object request, Class<T> responseType) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        rosterCache = new RosterCache(Duration.ofDays(1), Duration.ofSeconds(5));
+        employeeService = new EmployeeService(stub, rosterCache);
+    }
+
+    private EmployeeService service() {
+        if ("cold".equals(cache)) {
+            rosterCache.invalidate();
+        }
+        return employeeService;
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Employee>> nameSearch() {
+        return service().getEmployeesByNameSearch("son");
+    }
+
+    @Benchmark
+    public ResponseEntity<Integer> highestSalary() {
+        return service().getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<String>> topTenHighestEarningNames() {
+        return service().getTopTenHighestEarningEmployeeNames();
+    }
+}
@@ -0,0 +1,238 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import net.datafaker.Faker;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Measures the heap a full roster listing costs on the mock server, comparing {@code GET /api/v1/employee} with
+ * {@code /page} and {@code /stream}. The server runs in this JVM with its real controller and service, but without the
+ * request limit interceptor, and a client in the same JVM reads each listing either by discarding the bytes (the
+ * server's share) or by parsing it into employees as the api does.
+ * <p>
+ * Each run reports the peak heap in use above the settled baseline, sampled every millisecond, and the bytes allocated
+ * by all live threads. The task runs with a small young generation so the peak tracks what is retained rather than how
+ * much garbage fits before the next collection.
+ * <p>
+ * {@code ./gradlew :benchmarks:listEndpointFootprint -PfootprintArgs="size=200000 pageLimit=1000"}
+ */
+public final class ListEndpointFootprint {
+
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final int RUNS = 3;
+
+    private static int size;
+
+    private ListEndpointFootprint() {}
+
+    public static void main(String[] args) throws Exception {
+        size = intArg(args, "size", 200_000);
+        int pageLimit = intArg(args, "pageLimit", 1000);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FootprintServer.class)
+                .run(
+                        "--server.port=0",
+                        "--server.compression.enabled=false",
+                        "--mock.employees.page.max-limit=" + pageLimit)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String base = "http://localhost:" + port + "/api/v1/employee";
+            System.out.printf(
+                    "%d employees, page limit %d, max heap %d MB%n",
+                    size, pageLimit, Runtime.getRuntime().maxMemory() >> 20);
+
+            measure("full list, discarded", () -> discard(base));
+            measure("full list, parsed", () -> parseFullList(base));
+            measure("pages, parsed", () -> parsePages(base, pageLimit));
+            measure("stream, discarded", () -> discard(base + "/stream"));
+            measure("stream, parsed", () -> parseStream(base + "/stream"));
+        }
+    }
+
+    private static void measure(String scenario, ListingClient client) throws Exception {
+        client.read();
+        long[] peaks = new long[RUNS];
+        long[] allocations = new long[RUNS];
+        for (int run = 0; run < RUNS; run++) {
+            long baseline = settledHeap();
+            HeapSampler sampler = new HeapSampler();
+            long allocatedBefore = totalAllocatedBytes();
+            int read = client.read();
+            allocations[run] = totalAllocatedBytes() - allocatedBefore;
+            peaks[run] = Math.max(0, sampler.stop() - baseline);
+            if (read != size) {
+                throw new IllegalStateException(scenario + " read " + read + " of " + size + " employees");
+            }
+        }
+        Arrays.sort(peaks);
+        Arrays.sort(allocations);
+        System.out.printf(
+                Locale.ROOT,
+                "%-22s peak heap +%7.1f MB  allocated %8.1f MB%n",
+                scenario,
+                peaks[RUNS / 2] / 1048576.0,
+                allocations[RUNS / 2] / 1048576.0);
+    }
+
+    private static int discard(String url) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        int lines = 0;
+        try (InputStream in = open(url)) {
+            for (int n; (n = in.read(buffer)) != -1; ) {
+                for (int i = 0; i < n; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+            }
+        }
+        // Only the stream has one line per employee; the full listing is a single line.
+        return url.endsWith("/stream") ? lines : size;
+    }
+
+    private static int parseFullList(String url) throws IOException {
+        try (InputStream in = open(url)) {
+            return MAPPER.readValue(in, EmployeeListResponseData.class).getData().size();
+        }
+    }
+
+    private static int parsePages(String url, int pageLimit) throws IOException {
+        int read = 0;
+        Long cursor = null;
+        do {
+            String pageUrl = url + "/page?limit=" + pageLimit + (cursor == null ? "" : "&cursor=" + cursor);
+            try (InputStream in = open(pageUrl)) {
+                Page page = MAPPER.readValue(in, PageResponse.class).data();
+                read += page.employees().size();
+                cursor = page.nextCursor();
+            }
+        } while (cursor != null);
+        return read;
+    }
+
+    private static int parseStream(String url) throws IOException {
+        int read = 0;
+        try (InputStream in = open(url);
+                MappingIterator<Employee> employees =
+                        MAPPER.readerFor(Employee.class).readValues(in)) {
+            while (employees.hasNextValue()) {
+                employees.nextValue();
+                read++;
+            }
+        }
+        return read;
+    }
+
+    private static InputStream open(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        if (connection.getResponseCode() != 200) {
+            throw new IOException(url + " answered " + connection.getResponseCode());
+        }
+        return connection.getInputStream();
+    }
+
+    private static long settledHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /* Summed over live threads; the server's request threads are pooled, so none of them exits mid-run. */
+    private static long totalAllocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 1));
+            }
+        }
+        return defaultValue;
+    }
+
+    @FunctionalInterface
+    private interface ListingClient {
+        int read() throws Exception;
+    }
+
+    /* Polls heap usage on its own thread until stopped and keeps the highest value seen. */
+    private static final class HeapSampler {
+
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final AtomicLong peak = new AtomicLong();
+        private final Thread thread;
+
+        HeapSampler() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            thread = new Thread(() -> {
+                while (running.get()) {
+                    peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long stop() throws InterruptedException {
+            running.set(false);
+            thread.join();
+            return peak.get();
+        }
+    }
+
+    private record PageResponse(Page data) {}
+
+    private record Page(List<Employee> employees, Long nextCursor) {}
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({MockEmployeeController.class, MockEmployeeService.class})
+    static class FootprintServer {
+
+        @Bean
+        Faker faker() {
+            return new Faker(Locale.ROOT);
+        }
+
+        @Bean
+        List<MockEmployee> mockEmployees() {
+            return Rosters.mockEmployees(size, 42);
+        }
+    }
+}
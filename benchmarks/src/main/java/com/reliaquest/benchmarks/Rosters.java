@@ -0,0 +1,67 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/** Deterministic rosters with name and salary distributions loosely resembling the mock server's. */
+public final class Rosters {
+
+    private static final String[] FIRST = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Carlos", "Aiko"
+    };
+    private static final String[] SYLLABLES = {
+        "al", "ber", "cor", "dan", "el", "fen", "gar", "hol", "ing", "jor", "kel", "lan", "mor", "ner", "os", "pel",
+        "quin", "ros", "son", "ter", "ul", "van", "wes", "xan", "yor", "zel"
+    };
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Team Lead", "Product Manager", "Designer", "Analyst", "Director", "Consultant"
+    };
+
+    private Rosters() {}
+
+    public static List<Employee> generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder last = new StringBuilder();
+            for (int s = 0, n = 2 + random.nextInt(2); s < n; s++) {
+                last.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            last.setCharAt(0, Character.toUpperCase(last.charAt(0)));
+            String name = FIRST[random.nextInt(FIRST.length)] + " " + last;
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    name,
+                    30000 + random.nextInt(470000),
+                    16 + random.nextInt(54),
+                    TITLES[random.nextInt(TITLES.length)],
+                    "user" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    /**
+     * The same roster as the mock server's model, in a mutable list as {@code ServerConfiguration} provides it. Names
+     * get the ordinal appended so that deleting by name removes exactly one known employee.
+     */
+    public static List<MockEmployee> mockEmployees(int size, long seed) {
+        List<MockEmployee> mockEmployees = new ArrayList<>(size);
+        List<Employee> employees = generate(size, seed);
+        for (int i = 0; i < size; i++) {
+            Employee employee = employees.get(i);
+            mockEmployees.add(new MockEmployee(
+                    UUID.fromString(employee.getId()),
+                    employee.getName() + " " + i,
+                    employee.getSalary(),
+                    employee.getAge(),
+                    employee.getTitle(),
+                    employee.getEmail()));
+        }
+        return mockEmployees;
+    }
+}
@@ -0,0 +1,88 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-process stand-in for the mock server's {@code GET /api/v1/employee}: serves a pre-serialized roster, gzip
+ * compressed when the client accepts it (as {@code server.compression.enabled} does), after an optional fixed
+ * latency. No rate limiting, so transports and clients can be compared in isolation.
+ */
+public final class StubUpstream implements AutoCloseable {
+
+    public static final String PATH = "/api/v1/employee";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] plain;
+    private final byte[] gzipped;
+    private final Duration latency;
+
+    public StubUpstream(List<Employee> roster, Duration latency, int threads) {
+        try {
+            this.plain = new ObjectMapper()
+                    .writeValueAsBytes(Map.of("data", roster, "status", "Successfully processed request."));
+            this.gzipped = gzip(plain);
+            this.latency = latency;
+            this.executor = Executors.newFixedThreadPool(threads);
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        boolean compress = acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] body = compress ? gzipped : plain;
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (compress) {
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.httpclient.IHttpClient;
+import com.reliaquest.api.httpclient.PooledHttpTransport;
+import com.reliaquest.api.httpclient.RestTemplateHttpClient;
+import com.reliaquest.api.httpclient.ScheduledHttpClient;
+import com.reliaquest.api.httpclient.UpstreamScheduler;
+import com.reliaquest.api.response.EmployeeListResponseData;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares the request-thread models of the api under many concurrent clients: Tomcat's default pool of 200 platform
+ * threads against one virtual thread per request. Every request makes the blocking upstream call
+ * {@code EmployeeService} makes on a cache miss (scheduler, RestTemplate, pooled transport) against a
+ * {@link StubUpstream} with a fixed latency.
+ * <p>
+ * {@code clients} callers each keep one request in flight; a request's latency is measured from submission, so it
+ * includes the time spent queued for a request thread, as it would be behind Tomcat's accept queue. Prints throughput
+ * and p50/p99/p99.9 per model. Virtual threads need a Java 21 runtime ({@code -PjavaVersion=21}); on older runtimes
+ * only the platform model runs.
+ * <p>
+ * {@code ./gradlew :benchmarks:virtualThreadComparison -PcomparisonArgs="clients=2000 requests=20000 latencyMillis=50"}
+ */
+public final class VirtualThreadComparison {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    private VirtualThreadComparison() {}
+
+    public static void main(String[] args) throws Exception {
+        int clients = intArg(args, "clients", 1000);
+        int requests = intArg(args, "requests", 20_000);
+        int latencyMillis = intArg(args, "latencyMillis", 50);
+        int warmup = intArg(args, "warmup", 2_000);
+
+        try (StubUpstream upstream =
+                new StubUpstream(Rosters.generate(50, 42), Duration.ofMillis(latencyMillis), clients)) {
+            PooledHttpTransport transport = new PooledHttpTransport(new PooledHttpTransport.Settings(
+                    clients,
+                    clients,
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(30),
+                    Duration.ofSeconds(30),
+                    Duration.ofSeconds(30),
+                    false));
+            IHttpClient client = new ScheduledHttpClient(
+                    new RestTemplateHttpClient(new RestTemplate(transport.requestFactory())),
+                    new UpstreamScheduler(Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                    Duration.ofSeconds(60),
+                    Duration.ofSeconds(60));
+            Runnable request = () -> client.get(upstream.url(), EmployeeListResponseData.class);
+
+            System.out.printf(
+                    "%d clients, %d requests, upstream latency %d ms, %s%n",
+                    clients, requests, latencyMillis, Runtime.version());
+            run(
+                    "platform-" + TOMCAT_MAX_THREADS,
+                    Executors.newFixedThreadPool(TOMCAT_MAX_THREADS),
+                    request,
+                    clients,
+                    warmup,
+                    requests);
+            ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+            if (virtual == null) {
+                System.out.println("virtual: skipped, needs a Java 21 runtime");
+            } else {
+                run("virtual", virtual, request, clients, warmup, requests);
+            }
+            transport.close();
+        }
+    }
+
+    private static void run(
+            String model, ExecutorService executor, Runnable request, int clients, int warmup, int requests)
+            throws InterruptedException {
+        try {
+            drive(executor, request, clients, warmup);
+            Result result = drive(executor, request, clients, requests);
+            System.out.printf(
+                    Locale.ROOT,
+                    "%-14s %9.0f req/s  p50 %7.1f ms  p99 %7.1f ms  p99.9 %7.1f ms  errors %d%n",
+                    model,
+                    result.throughput(),
+                    result.percentileMillis(0.50),
+                    result.percentileMillis(0.99),
+                    result.percentileMillis(0.999),
+                    result.errors());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static Result drive(ExecutorService executor, Runnable request, int clients, int requests)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(clients);
+        CountDownLatch done = new CountDownLatch(requests);
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong finishedAt = new AtomicLong();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int slot = i;
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    request.run();
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    long now = System.nanoTime();
+                    latencies[slot] = now - submittedAt;
+                    finishedAt.accumulateAndGet(now, Math::max);
+                    inFlight.release();
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        Arrays.sort(latencies);
+        return new Result(latencies, finishedAt.get() - startedAt, errors.get());
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 1));
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, int errors) {
+
+        double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Write throughput of {@link MockEmployeeService} with its journal under each fsync policy, and without one.
+ * <p>
+ * Every operation creates an employee and deletes it again, so the store keeps its size and the journal gets two
+ * records per operation. Run with more threads ({@code -t 8}) to see group commit share fsyncs under {@code ALWAYS}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MockEmployeeJournalBenchmark {
+
+    @Param({"NONE", "ALWAYS", "INTERVAL", "NEVER"})
+    public String fsync;
+
+    private Path directory;
+    private MockEmployeeJournal journal;
+    private MockEmployeeService mockEmployeeService;
+    private CreateMockEmployeeInput createInput;
+    private DeleteMockEmployeeInput deleteInput;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-journal");
+        if (!fsync.equals("NONE")) {
+            journal = new MockEmployeeJournal(
+                    directory,
+                    MockEmployeeJournal.FsyncPolicy.valueOf(fsync),
+                    Duration.ofMillis(100),
+                    Duration.ZERO);
+        }
+        mockEmployeeService = new MockEmployeeService(
+                new Faker(Locale.ROOT), Rosters.mockEmployees(1000, 42), Optional.ofNullable(journal));
+        createInput = new CreateMockEmployeeInput();
+        createInput.setName("Jane Benchmark");
+        createInput.setSalary(120000);
+        createInput.setAge(40);
+        createInput.setTitle("Engineer");
+        deleteInput = new DeleteMockEmployeeInput();
+        deleteInput.setName("Jane Benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean createAndDelete() {
+        mockEmployeeService.create(createInput);
+        return mockEmployeeService.delete(deleteInput);
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.benchmarks.Rosters;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MockEmployeeService} lookups and writes against a roster of {@code size} employees.
+ * <p>
+ * Ids and names are picked round-robin from a shuffled copy of the roster, so lookups are spread over the whole list.
+ * {@code delete} puts the removed employee back at the end of the list so the roster keeps its size, and
+ * {@code create} starts every iteration from a roster of exactly {@code size} employees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<MockEmployee> roster;
+    private MockEmployeeStore store;
+    private MockEmployeeService mockEmployeeService;
+    private MockEmployee[] targets;
+    private CreateMockEmployeeInput createInput;
+    private int next;
+    private long unknown;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = Rosters.mockEmployees(size, 42);
+        targets = roster.toArray(MockEmployee[]::new);
+        Collections.shuffle(Arrays.asList(targets), new Random(7));
+        createInput = new CreateMockEmployeeInput();
+        createInput.setName("Jane Benchmark");
+        createInput.setSalary(120000);
+        createInput.setAge(40);
+        createInput.setTitle("Engineer");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRoster() {
+        store = new MockEmployeeStore(roster);
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ROOT), store);
+    }
+
+    private MockEmployee nextTarget() {
+        MockEmployee target = targets[next];
+        next = next + 1 == targets.length ? 0 : next + 1;
+        return target;
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return mockEmployeeService.findById(nextTarget().getId());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findByUnknownId() {
+        return mockEmployeeService.findById(new UUID(unknown++, 0));
+    }
+
+    @Benchmark
+    public MockEmployee create() {
+        return mockEmployeeService.create(createInput);
+    }
+
+    @Benchmark
+    public boolean delete() {
+        MockEmployee target = nextTarget();
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(target.getName());
+        boolean deleted = mockEmployeeService.delete(input);
+        store.add(target);
+        return deleted;
+    }
+}
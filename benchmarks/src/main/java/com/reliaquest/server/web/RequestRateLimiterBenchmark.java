@@ -0,0 +1,69 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link RequestRateLimiter#acquire} per request, for one shared client and for {@code clients} distinct
+ * ones. {@code admitting} never runs out of tokens; {@code rejecting} has used them all up. Run with {@code -t 8}
+ * for contention on the shared bucket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestRateLimiterBenchmark {
+
+    @Param({"1", "1000"})
+    public int clients;
+
+    private RequestRateLimiter admitting;
+    private RequestRateLimiter rejecting;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        admitting = RequestRateLimiter.create(
+                RequestRateLimiter.Mode.FIXED, 1_000_000, Duration.ofMillis(1), null, 10_000);
+        rejecting = RequestRateLimiter.create(RequestRateLimiter.Mode.FIXED, 1, Duration.ofHours(1), null, 10_000);
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "10.0.0." + i;
+            rejecting.acquire(keys[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    private String nextKey(Cursor cursor) {
+        String key = keys[cursor.next];
+        cursor.next = cursor.next + 1 == keys.length ? 0 : cursor.next + 1;
+        return key;
+    }
+
+    @Benchmark
+    public long admitting(Cursor cursor) {
+        return admitting.acquire(nextKey(cursor));
+    }
+
+    @Benchmark
+    public long rejecting(Cursor cursor) {
+        return rejecting.acquire(nextKey(cursor));
+    }
+}
@@ -0,0 +1,228 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Load test of the api against the mock server, both started locally from their boot jars (see {@link LocalStack}),
+ * or of an api already running at {@code apiUrl}. Requests to {@code /api/v1/employee} follow a {@link TrafficMix}
+ * at a fixed rate (see {@link OpenLoopDriver}): first for {@code warmup}, discarded, then for {@code duration}.
+ * Prints throughput, p50/p99/p99.9 latency and the answers per operation, and writes each operation's HDR histogram
+ * to {@code <operation>.hgrm} (all operations to {@code all.hgrm}) in the working directory, in milliseconds.
+ * <p>
+ * The server's rate limit is {@code disabled} unless {@code rateLimit=fixed}, which admits {@code rateLimitRequests}
+ * per {@code rateLimitWindow}; the server's random mode is not offered, as runs with it are not comparable. The
+ * roster ({@code employees}, {@code seed}) and the sequence of operations ({@code seed}) are the same on every run.
+ * Arguments prefixed {@code server:} or {@code api:} are passed on to that application, such as
+ * {@code api:employee.cache.representation=columnar}.
+ * <p>
+ * {@code ./gradlew :loadtest:loadtest -PloadtestArgs="rate=500 duration=60s mix=read:50,search:30,create:10,delete:10"}
+ */
+public final class LoadTest {
+
+    private static final String DEFAULT_MIX = "read:50,search:20,list:10,top:10,create:5,delete:5";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(arg(args, "rate", "200"));
+        Duration duration = durationArg(args, "duration", "30s");
+        Duration warmup = durationArg(args, "warmup", "10s");
+        TrafficMix mix = TrafficMix.parse(arg(args, "mix", DEFAULT_MIX));
+        long seed = Long.parseLong(arg(args, "seed", "42"));
+        int employees = Integer.parseInt(arg(args, "employees", "1000"));
+        String rateLimit = arg(args, "rateLimit", "disabled").toLowerCase(Locale.ROOT);
+        if (!rateLimit.equals("disabled") && !rateLimit.equals("fixed")) {
+            throw new IllegalArgumentException("rateLimit must be disabled or fixed, got " + rateLimit);
+        }
+        int rateLimitRequests = Integer.parseInt(arg(args, "rateLimitRequests", "1000"));
+        Duration rateLimitWindow = durationArg(args, "rateLimitWindow", "1s");
+        int maxInFlight = Integer.parseInt(arg(args, "maxInFlight", "5000"));
+        String apiUrl = arg(args, "apiUrl", null);
+        int apiPort = Integer.parseInt(arg(args, "apiPort", "8111"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<String> serverArgs = new ArrayList<>(List.of(
+                "--mock.rate-limit.mode=" + rateLimit,
+                "--mock.rate-limit.limit=" + rateLimitRequests,
+                "--mock.rate-limit.window=" + rateLimitWindow.toMillis() + "ms",
+                "--mock.employees.max=" + employees,
+                "--mock.employees.seed=" + seed,
+                "--logging.level.com.reliaquest=INFO"));
+        List<String> apiArgs = new ArrayList<>(List.of("--employee.cache.snapshot-file="));
+        passThrough(args, "server:", serverArgs);
+        passThrough(args, "api:", apiArgs);
+
+        LocalStack stack = apiUrl == null
+                ? LocalStack.start(
+                        client,
+                        Path.of(System.getProperty("loadtest.server-jar")),
+                        serverArgs,
+                        Path.of(System.getProperty("loadtest.api-jar")),
+                        apiPort,
+                        apiArgs)
+                : null;
+        try {
+            URI baseUri = URI.create((apiUrl == null ? "http://localhost:" + apiPort : apiUrl) + "/api/v1/employee");
+            double deletes = rate * (warmup.toNanos() + duration.toNanos()) / 1e9 * mix.share(Operation.DELETE);
+            Workload workload = Workload.prepare(client, baseUri, (int) Math.ceil(deletes * 1.1));
+            System.out.printf(
+                    Locale.ROOT,
+                    "%s: %.0f req/s for %.1f s after %.1f s of warmup, mix %s, seed %d, server rate limit %s%n"
+                            + "roster of %d employees, %d more prepared for deletes%n",
+                    baseUri,
+                    rate,
+                    duration.toMillis() / 1e3,
+                    warmup.toMillis() / 1e3,
+                    mix,
+                    seed,
+                    rateLimit.equals("fixed")
+                            ? rateLimitRequests + " per " + rateLimitWindow.toMillis() + " ms"
+                            : rateLimit,
+                    workload.rosterSize(),
+                    workload.deletable());
+
+            OpenLoopDriver driver = new OpenLoopDriver(client, workload, mix, maxInFlight);
+            driver.run(rate, warmup, new Random(seed - 1));
+            Map<Operation, OperationStats> stats = driver.run(rate, duration, new Random(seed));
+            report(stats, duration);
+            if (stack != null) {
+                printRateLimitStats(client);
+            }
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+
+    private static void report(Map<Operation, OperationStats> stats, Duration duration) throws IOException {
+        System.out.printf(
+                "%-8s %9s %8s %9s %9s %9s %9s  %s%n",
+                "", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "answers");
+        for (Operation operation : Operation.values()) {
+            Files.deleteIfExists(Path.of(operation.label() + ".hgrm"));
+        }
+        Histogram all = new Histogram(OperationStats.HIGHEST_TRACKABLE_NANOS, 3);
+        long ok = 0;
+        long notOk = 0;
+        long dropped = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operation = entry.getValue();
+            Histogram latency = operation.latency();
+            all.add(latency);
+            ok += operation.ok();
+            notOk += operation.requests() - operation.ok();
+            dropped += operation.dropped();
+            printRow(
+                    entry.getKey().label(),
+                    latency,
+                    duration,
+                    String.format(
+                            "2xx %d, 429 %d, 4xx %d, 5xx %d, io errors %d, skipped %d, dropped %d",
+                            operation.ok(),
+                            operation.rateLimited(),
+                            operation.clientErrors(),
+                            operation.serverErrors(),
+                            operation.ioErrors(),
+                            operation.skipped(),
+                            operation.dropped()));
+            writeHistogram(entry.getKey().label(), latency);
+        }
+        printRow("all", all, duration, String.format("2xx %d, other %d", ok, notOk));
+        writeHistogram("all", all);
+        if (dropped > 0) {
+            System.out.printf(
+                    "%d requests were dropped at maxInFlight and count as %d ms in the latencies above; "
+                            + "so these percentiles do not measure the api%n",
+                    dropped, TimeUnit.NANOSECONDS.toMillis(OperationStats.HIGHEST_TRACKABLE_NANOS));
+        }
+    }
+
+    private static void printRow(String name, Histogram latency, Duration duration, String answers) {
+        System.out.printf(
+                Locale.ROOT,
+                "%-8s %9d %8.1f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                name,
+                latency.getTotalCount(),
+                latency.getTotalCount() / (duration.toNanos() / 1e9),
+                latency.getValueAtPercentile(50) / 1e6,
+                latency.getValueAtPercentile(99) / 1e6,
+                latency.getValueAtPercentile(99.9) / 1e6,
+                latency.getMaxValue() / 1e6,
+                answers);
+    }
+
+    private static void writeHistogram(String name, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(Path.of(name + ".hgrm")))) {
+            latency.outputPercentileDistribution(out, 1e6);
+        }
+    }
+
+    /** What the server's rate limiter admitted and rejected, over the warmup and the run. */
+    private static void printRateLimitStats(HttpClient client) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + LocalStack.SERVER_PORT + "/api/v1/rate-limit"))
+                .GET()
+                .build();
+        JsonNode stats = MAPPER.readTree(client.send(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .body())
+                .get("data");
+        System.out.printf(
+                "server rate limit: mode %s, admitted %d, rejected %d%n",
+                stats.get("mode").asText(),
+                stats.get("admitted").asLong(),
+                stats.get("rejected").asLong());
+    }
+
+    private static void passThrough(String[] args, String prefix, List<String> to) {
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                to.add("--" + arg.substring(prefix.length()));
+            }
+        }
+    }
+
+    private static Duration durationArg(String[] args, String name, String defaultValue) {
+        String value = arg(args, name, defaultValue).trim().toLowerCase(Locale.ROOT);
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static String arg(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return arg.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
+}
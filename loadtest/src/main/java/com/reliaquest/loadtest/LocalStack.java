@@ -0,0 +1,108 @@
+package com.reliaquest.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mock server and the api, each started from its boot jar in its own JVM with its log in the working directory,
+ * and stopped on {@link #close()}. The api calls the server at {@code localhost:8112}, so the server always takes that
+ * port; nothing may be listening on either port beforehand.
+ */
+final class LocalStack implements AutoCloseable {
+
+    static final int SERVER_PORT = 8112;
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient client;
+    private final List<Process> processes = new ArrayList<>();
+
+    private LocalStack(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Starts the server with {@code serverArgs}, waits until it is healthy, then does the same for the api with
+     * {@code apiArgs}. Both are Spring Boot command-line arguments, such as {@code --mock.employees.max=1000}.
+     */
+    static LocalStack start(
+            HttpClient client, Path serverJar, List<String> serverArgs, Path apiJar, int apiPort, List<String> apiArgs)
+            throws IOException, InterruptedException {
+        LocalStack stack = new LocalStack(client);
+        try {
+            stack.launch("server", serverJar, SERVER_PORT, serverArgs);
+            stack.launch("api", apiJar, apiPort, apiArgs);
+            return stack;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    private void launch(String name, Path jar, int port, List<String> args) throws IOException, InterruptedException {
+        URI health = URI.create("http://localhost:" + port + "/actuator/health");
+        if (healthStatus(health) != -1) {
+            throw new IllegalStateException("Something is already listening on port " + port + ", stop it first");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+        File log = new File(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        processes.add(process);
+        System.out.printf("Starting the %s on port %d, logging to %s%n", name, port, log.getAbsolutePath());
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (healthStatus(health) != 200) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The " + name + " exited with " + process.exitValue() + ", see " + log);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The " + name + " was not healthy within " + STARTUP_TIMEOUT);
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    /** The status of GET {@code uri}, or -1 if nothing is listening. */
+    private int healthStatus(URI uri) throws IOException, InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (ConnectException e) {
+            return -1;
+        }
+    }
+
+    /** Stops the api, then the server, forcibly if they have not exited within ten seconds. */
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            Process process = processes.get(i);
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+        processes.clear();
+    }
+}
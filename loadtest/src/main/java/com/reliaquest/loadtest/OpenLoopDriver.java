@@ -0,0 +1,67 @@
+package com.reliaquest.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed schedule, {@code rate} per second whatever the api's latency, so a slow api queues work
+ * instead of slowing the load down (open loop). Request {@code i} is due {@code i / rate} seconds after the start and
+ * its latency is measured from then, so time spent waiting behind earlier requests counts (no coordinated omission).
+ * A request due while {@code maxInFlight} are outstanding is dropped, and counts as never answered.
+ * The operation of each request is drawn from the mix with a seeded random, so two runs send the same sequence.
+ */
+final class OpenLoopDriver {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final TrafficMix mix;
+    private final int maxInFlight;
+
+    OpenLoopDriver(HttpClient client, Workload workload, TrafficMix mix, int maxInFlight) {
+        this.client = client;
+        this.workload = workload;
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /** Runs the schedule for {@code duration}, then waits for the requests still in flight. */
+    Map<Operation, OperationStats> run(double rate, Duration duration, Random random) throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        mix.operations().forEach(operation -> stats.put(operation, new OperationStats()));
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = (long) (duration.toNanos() / intervalNanos);
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long due = start + (long) (i * intervalNanos);
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = mix.next(random);
+            OperationStats operationStats = stats.get(operation);
+            HttpRequest request = workload.request(operation, random);
+            if (request == null) {
+                operationStats.skip();
+            } else if (!inFlight.tryAcquire()) {
+                operationStats.drop();
+            } else {
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            operationStats.record(failure == null ? response.statusCode() : 0, System.nanoTime() - due);
+                            inFlight.release();
+                        });
+            }
+        }
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        return stats;
+    }
+}
@@ -0,0 +1,30 @@
+package com.reliaquest.loadtest;
+
+import java.util.Locale;
+
+/** A kind of request the load test sends to {@code /api/v1/employee}. */
+enum Operation {
+    /** GET the whole roster. */
+    LIST,
+    /** GET one employee of the seed roster by id. */
+    READ,
+    /** GET the employees whose name contains a common fragment. */
+    SEARCH,
+    /** GET the highest salary. */
+    HIGHEST,
+    /** GET the names of the ten highest earners. */
+    TOP,
+    /** POST a new employee. */
+    CREATE,
+    /** DELETE one of the employees created for that before the run. */
+    DELETE;
+
+    /** The name used in {@code mix} and in the report. */
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation of(String label) {
+        return valueOf(label.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes of one operation's requests: a latency histogram in nanoseconds, measured from when each request was due
+ * rather than when it was sent, and counts per kind of answer. A dropped request never gets an answer, so it is
+ * recorded at the highest trackable latency rather than left out of the percentiles.
+ */
+final class OperationStats {
+
+    /** Latencies above this are recorded as this. */
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder ioErrors = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /** A request that got an answer with {@code status}, or none at all when {@code status} is 0. */
+    void record(int status, long latencyNanos) {
+        latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (status == 0) {
+            ioErrors.increment();
+        } else if (status == 429) {
+            rateLimited.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            ok.increment();
+        }
+    }
+
+    /** A request the workload had nothing for, such as a delete once every prepared employee is deleted. */
+    void skip() {
+        skipped.increment();
+    }
+
+    /** A request not sent because too many were already in flight. */
+    void drop() {
+        latency.recordValue(HIGHEST_TRACKABLE_NANOS);
+        dropped.increment();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long requests() {
+        return latency.getTotalCount();
+    }
+
+    long ok() {
+        return ok.sum();
+    }
+
+    long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long ioErrors() {
+        return ioErrors.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
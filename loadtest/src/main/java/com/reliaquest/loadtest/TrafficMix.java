@@ -0,0 +1,69 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Relative weights of the operations, such as {@code read:60,search:20,create:10,delete:10}. Each request's operation
+ * is drawn independently with those odds, from a seeded {@link Random}, so runs with the same seed send the same
+ * sequence.
+ */
+record TrafficMix(Map<Operation, Integer> weights) {
+
+    static TrafficMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] labelAndWeight = part.split(":");
+            if (labelAndWeight.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight, got " + part);
+            }
+            int weight = Integer.parseInt(labelAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + labelAndWeight[0]);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.of(labelAndWeight[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operation with a positive weight: " + mix);
+        }
+        return new TrafficMix(weights);
+    }
+
+    Set<Operation> operations() {
+        return weights.keySet();
+    }
+
+    /** The fraction of requests that are {@code operation}. */
+    double share(Operation operation) {
+        return weights.getOrDefault(operation, 0) / (double) total();
+    }
+
+    Operation next(Random random) {
+        int draw = random.nextInt(total());
+        for (Map.Entry<Operation, Integer> weight : weights.entrySet()) {
+            draw -= weight.getValue();
+            if (draw < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        weights.forEach((operation, weight) -> mix.append(mix.isEmpty() ? "" : ",")
+                .append(operation.label())
+                .append(':')
+                .append(weight));
+        return mix.toString();
+    }
+
+    private int total() {
+        return weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,127 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Builds the request for each operation against the api at {@code baseUri}. Reads pick ids of the roster the api
+ * served before the run; deletes take ids of employees bulk-created for them before the run, each id once, so a
+ * delete never races a create and every delete has something to delete.
+ */
+final class Workload {
+
+    private static final String[] SEARCH_FRAGMENTS = {"an", "el", "son", "ri", "mar", "li", "er", "jo"};
+    private static final int BULK_CREATE_LIMIT = 1000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final URI baseUri;
+    private final List<String> ids;
+    private final Queue<String> deletable;
+    private long created;
+
+    private Workload(URI baseUri, List<String> ids, Queue<String> deletable) {
+        this.baseUri = baseUri;
+        this.ids = ids;
+        this.deletable = deletable;
+    }
+
+    /** Reads the roster's ids and bulk-creates {@code deletes} employees for the deletes to remove. */
+    static Workload prepare(HttpClient client, URI baseUri, int deletes) throws IOException, InterruptedException {
+        JsonNode roster = send(client, HttpRequest.newBuilder(baseUri).GET());
+        List<String> ids = new ArrayList<>(roster.size());
+        roster.forEach(employee -> ids.add(employee.get("id").asText()));
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The api served an empty roster");
+        }
+        Workload workload = new Workload(baseUri, ids, new ConcurrentLinkedQueue<>());
+        Random random = new Random(0);
+        for (int from = 0; from < deletes; from += BULK_CREATE_LIMIT) {
+            List<JsonNode> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(deletes, from + BULK_CREATE_LIMIT); i++) {
+                batch.add(workload.newEmployee("Load Test Delete " + i, random));
+            }
+            HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(baseUri.getPath() + "/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(batch)));
+            // 207 when some chunks were rejected (say by a low fixed rate limit): those employees are just not there
+            for (JsonNode result : send(client, request).get("results")) {
+                if ("SUCCEEDED".equals(result.get("status").asText())) {
+                    workload.deletable.add(result.get("data").get("id").asText());
+                }
+            }
+        }
+        return workload;
+    }
+
+    int rosterSize() {
+        return ids.size();
+    }
+
+    int deletable() {
+        return deletable.size();
+    }
+
+    /**
+     * The request for {@code operation}, drawing what it needs from {@code random}; {@code null} for a delete once
+     * there is nothing left to delete. Not thread-safe: called by the driver's scheduling thread only.
+     */
+    HttpRequest request(Operation operation, Random random) {
+        return switch (operation) {
+            case LIST -> get("");
+            case READ -> get("/" + ids.get(random.nextInt(ids.size())));
+            case SEARCH -> get("/search/" + SEARCH_FRAGMENTS[random.nextInt(SEARCH_FRAGMENTS.length)]);
+            case HIGHEST -> get("/highestSalary");
+            case TOP -> get("/topTenHighestEarningEmployeeNames");
+            case CREATE -> builder("")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            newEmployee("Load Test " + created++, random).toString()))
+                    .build();
+            case DELETE -> {
+                String id = deletable.poll();
+                yield id == null ? null : builder("/" + id).DELETE().build();
+            }
+        };
+    }
+
+    private JsonNode newEmployee(String name, Random random) {
+        return MAPPER.createObjectNode()
+                .put("name", name)
+                .put("salary", 30_000 + random.nextInt(200_000))
+                .put("age", 18 + random.nextInt(50))
+                .put("title", "Load Tester");
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private static JsonNode send(HttpClient client, HttpRequest.Builder request)
+            throws IOException, InterruptedException {
+        HttpResponse<byte[]> response =
+                client.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(
+                    "Setting up the load test, " + response.request().method() + " "
+                            + response.uri() + " answered " + response.statusCode() + ": "
+                            + new String(response.body()));
+        }
+        return MAPPER.readTree(response.body());
+    }
+}
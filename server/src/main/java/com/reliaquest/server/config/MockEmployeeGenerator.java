@@ -0,0 +1,93 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates the seed roster in parallel and reproducibly.
+ * <p>
+ * The roster is cut into fixed chunks, and each chunk is generated from its own seed derived from the roster seed, so
+ * the same seed yields the same employees, in the same order, whatever the parallelism. Each worker thread keeps one
+ * {@link Faker} and reseeds its {@link Random} per chunk, since building a Faker costs far more than an employee.
+ * Ids come from the same random source rather than {@link UUID#randomUUID()} so they repeat too.
+ * <p>
+ * Names and titles are assembled from their parts rather than through {@code name().fullName()} and
+ * {@code job().title()}, whose expression resolution made up most of the cost of an employee.
+ */
+public class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 4096;
+
+    private static final String EMAIL_DOMAIN = ServerConfiguration.EMAIL_TEMPLATE.formatted("");
+
+    private final Locale locale;
+    private final int parallelism;
+
+    public MockEmployeeGenerator(Locale locale, int parallelism) {
+        this.locale = locale;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public List<MockEmployee> generate(int count, long seed) {
+        MockEmployee[] employees = new MockEmployee[Math.max(0, count)];
+        int chunks = (employees.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(() -> new Worker(locale));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, chunks)
+                            .parallel()
+                            .forEach(chunk -> workers.get().fill(employees, chunk, seed)))
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+        return new ArrayList<>(Arrays.asList(employees));
+    }
+
+    /* SplitMix64 finalizer: spreads (seed, chunk) pairs into unrelated chunk seeds. */
+    static long chunkSeed(long seed, int chunk) {
+        long z = seed + (chunk + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Worker {
+
+        private final Random random = new Random();
+        private final Faker faker;
+
+        Worker(Locale locale) {
+            faker = new Faker(locale, random);
+        }
+
+        void fill(MockEmployee[] employees, int chunk, long seed) {
+            random.setSeed(chunkSeed(seed, chunk));
+            int end = Math.min(employees.length, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                employees[i] = new MockEmployee(
+                        randomUuid(),
+                        faker.name().firstName() + " " + faker.name().lastName(),
+                        faker.number().numberBetween(30000, 500000),
+                        faker.number().numberBetween(16, 70),
+                        faker.job().seniority() + " " + faker.job().field() + " " + faker.job().position(),
+                        faker.twitter().userName().toLowerCase() + EMAIL_DOMAIN);
+            }
+        }
+
+        /* A version 4 UUID drawn from the seeded source. */
+        private UUID randomUuid() {
+            long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb);
+        }
+    }
+}
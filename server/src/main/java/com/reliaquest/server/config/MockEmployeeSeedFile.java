@@ -0,0 +1,88 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeCodec;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A pre-generated roster in a compact binary file, read through a memory mapping.
+ * <p>
+ * Layout, big-endian: magic, format version, the seed the roster was generated from and the employee count, then the
+ * employees as {@link EmployeeCodec} writes them.
+ */
+public final class MockEmployeeSeedFile {
+
+    private static final int MAGIC = 0x4D454D50;
+    private static final int VERSION = 1;
+
+    private MockEmployeeSeedFile() {}
+
+    /**
+     * The roster in {@code file} if it holds {@code count} employees generated from {@code seed}; empty if the file
+     * is missing or was generated for another roster.
+     *
+     * @param seed the expected seed, or {@code null} to accept any
+     * @throws IOException if the file cannot be read or is not a seed file
+     */
+    public static Optional<List<MockEmployee>> read(Path file, Long seed, int count) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(file + " is not a mock employee seed file");
+            }
+            long fileSeed = buffer.getLong();
+            int fileCount = buffer.getInt();
+            if (fileCount != count || (seed != null && fileSeed != seed)) {
+                return Optional.empty();
+            }
+            List<MockEmployee> employees = new ArrayList<>(count);
+            byte[] scratch = EmployeeCodec.newScratch();
+            for (int i = 0; i < count; i++) {
+                employees.add(EmployeeCodec.read(buffer, scratch));
+            }
+            return Optional.of(employees);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(file + " is truncated", e);
+        }
+    }
+
+    /** Writes the roster next to {@code file} and moves it into place, so readers never see a partial file. */
+    public static void write(Path file, long seed, List<MockEmployee> employees) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(seed);
+                out.writeInt(employees.size());
+                for (MockEmployee employee : employees) {
+                    EmployeeCodec.write(out, employee);
+                }
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package com.reliaquest.server.config;
 
+import com.reliaquest.server.controller.RateLimitController;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.service.MockEmployeeJournal;
+import com.reliaquest.server.web.RateLimitInterceptor;
+import com.reliaquest.server.web.RequestRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +34,127 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Autowired
+    private ObjectProvider<RequestRateLimiter> requestRateLimiter;
+
+    @Value("${mock.rate-limit.client-header:}")
+    private String clientHeader;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The seed roster; MockEmployeeService copies it into its indexed store, which takes the CRUD operations. A fixed
+     * mock.employees.seed makes it the same on every start; mock.employees.seed-file keeps it on disk so later starts
+     * map it in instead of generating it again. With the journal enabled, whatever it recovers takes precedence over
+     * both.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<MockEmployee> mockEmployees(
+            Optional<MockEmployeeJournal> journal,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.parallelism:0}") int parallelism,
+            @Value("${mock.employees.seed-file:}") String seedFile) {
+        if (journal.isPresent()) {
+            try {
+                Optional<List<MockEmployee>> recovered = journal.get().recover();
+                if (recovered.isPresent()) {
+                    return recovered.get();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not recover the employee journal", e);
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        Path file = seedFile.isBlank() ? null : Path.of(seedFile);
+        if (file != null) {
+            try {
+                Optional<List<MockEmployee>> loaded = MockEmployeeSeedFile.read(file, seed, maxEmployees);
+                if (loaded.isPresent()) {
+                    log.info("Loaded {} mock employees from {} in {} ms", maxEmployees, file, elapsedMillis(startedAt));
+                    return loaded.get();
+                }
+            } catch (IOException e) {
+                log.warn("Ignoring seed file {}: {}", file, e.getMessage());
+            }
+        }
+
+        long rosterSeed = seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        List<MockEmployee> employees =
+                new MockEmployeeGenerator(Locale.getDefault(), threads).generate(maxEmployees, rosterSeed);
+        log.info(
+                "Generated {} mock employees from seed {} on {} threads in {} ms",
+                maxEmployees,
+                rosterSeed,
+                threads,
+                elapsedMillis(startedAt));
+        if (file != null) {
+            try {
+                MockEmployeeSeedFile.write(file, rosterSeed, employees);
+            } catch (IOException e) {
+                log.warn("Could not write seed file {}: {}", file, e.getMessage());
+            }
+        }
+        return employees;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.employees.journal.enabled", havingValue = "true")
+    public MockEmployeeJournal mockEmployeeJournal(
+            @Value("${mock.employees.journal.dir:build/journal}") Path directory,
+            @Value("${mock.employees.journal.fsync:interval}") MockEmployeeJournal.FsyncPolicy fsyncPolicy,
+            @Value("${mock.employees.journal.fsync-interval:100ms}") Duration fsyncInterval,
+            @Value("${mock.employees.journal.snapshot-interval:5m}") Duration snapshotInterval) {
+        return new MockEmployeeJournal(directory, fsyncPolicy, fsyncInterval, snapshotInterval);
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    @Bean
+    public RequestRateLimiter requestRateLimiter(
+            @Value("${mock.rate-limit.mode:random}") RequestRateLimiter.Mode mode,
+            @Value("${mock.rate-limit.limit:10}") int limit,
+            @Value("${mock.rate-limit.window:60s}") Duration window,
+            @Value("${mock.rate-limit.seed:#{null}}") Long seed,
+            @Value("${mock.rate-limit.max-clients:10000}") int maxClients) {
+        final var limiter = RequestRateLimiter.create(mode, limit, window, seed, maxClients);
+        if (mode == RequestRateLimiter.Mode.DISABLED) {
+            log.info("Rate limiting disabled");
+        } else {
+            log.info("Rate limiting each client to {} requests per {}", limiter.limit(), limiter.window());
+        }
+        return limiter;
+    }
+
+    /* What the limiter admitted and rejected; the 429s also show up per URI in http.server.requests. */
+    @Bean
+    public MeterBinder requestRateLimiterMetrics(RequestRateLimiter limiter) {
+        return registry -> {
+            FunctionCounter.builder("mock.rate.limit.requests", limiter, RequestRateLimiter::admitted)
+                    .tag("result", "admitted")
+                    .register(registry);
+            FunctionCounter.builder("mock.rate.limit.requests", limiter, RequestRateLimiter::rejected)
+                    .tag("result", "rejected")
+                    .register(registry);
+            Gauge.builder("mock.rate.limit.clients", limiter, RequestRateLimiter::clients)
+                    .description("Clients with a token bucket")
+                    .register(registry);
+        };
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        final var limiter = requestRateLimiter.getObject();
+        if (limiter.mode() != RequestRateLimiter.Mode.DISABLED) {
+            registry.addInterceptor(new RateLimitInterceptor(limiter, clientHeader))
+                    .excludePathPatterns(RateLimitController.PATH, "/actuator/**");
+        }
     }
 }
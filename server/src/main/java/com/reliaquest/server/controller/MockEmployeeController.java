@@ -1,15 +1,27 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +29,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -25,18 +40,85 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
 
+    @Value("${mock.employees.page.default-limit:100}")
+    private int defaultPageLimit;
+
+    @Value("${mock.employees.page.max-limit:1000}")
+    private int maxPageLimit;
+
+    /**
+     * Carries a strong ETag; a request whose {@code If-None-Match} still matches gets 304 without the roster being
+     * copied or serialized.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(WebRequest request) {
+        String etag = '"' + mockEmployeeService.getRosterTag() + '"';
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    /**
+     * The same listing in pages of at most {@code mock.employees.page.max-limit} employees; follow
+     * {@code nextCursor} until it is absent.
+     */
+    @GetMapping("/page")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        int pageLimit = Math.max(1, Math.min(limit == null ? defaultPageLimit : limit, maxPageLimit));
+        return Response.handledWith(mockEmployeeService.getMockEmployeePage(cursor, pageLimit));
+    }
+
+    /**
+     * Creates and deletes after version {@code since}, at most {@code mock.employees.page.max-limit} at a time;
+     * without {@code since}, or once it has aged out of the feed, a resync at the current version.
+     */
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getEmployeeChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestParam(name = "epoch", required = false) String epoch,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        int changeLimit = Math.max(1, Math.min(limit == null ? maxPageLimit : limit, maxPageLimit));
+        return Response.handledWith(mockEmployeeService.getChanges(epoch, since, changeLimit));
+    }
+
+    /**
+     * The same listing as newline-delimited JSON, one employee per line, written while iterating the store so the
+     * response is never held in memory as a whole.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        StreamingResponseBody body = out -> {
+            ObjectWriter writer =
+                    objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                for (MockEmployee employee : mockEmployeeService.streamMockEmployees()) {
+                    writer.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
+    /** Carries a strong ETag too, answering a matching {@code If-None-Match} with 304. */
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
-        return mockEmployeeService
-                .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid, WebRequest request) {
+        Optional<MockEmployeeStore.Entry> entry = mockEmployeeService.findEntryById(uuid);
+        if (entry.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled());
+        }
+        String etag = '"' + mockEmployeeService.getEmployeeTag(entry.get()) + '"';
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(Response.handledWith(entry.get().employee()));
     }
 
     @PostMapping()
@@ -44,6 +126,33 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.create(input));
     }
 
+    /**
+     * Creates up to {@value CreateMockEmployeesInput#MAX_EMPLOYEES} employees in one write; the created employees come
+     * back in input order. An invalid input rejects the whole request and creates nothing.
+     */
+    @PostMapping("/bulk")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
+    /** Deletes by id and answers with the deleted employee; 404 if there is none. */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+    }
+
+    /**
+     * Deletes up to {@value DeleteMockEmployeesInput#MAX_IDS} employees by id in one write and answers with those
+     * deleted, in request order; ids of no employee are skipped.
+     */
+    @DeleteMapping("/bulk")
+    public Response<List<MockEmployee>> deleteEmployees(@Valid @RequestBody DeleteMockEmployeesInput input) {
+        return Response.handledWith(mockEmployeeService.deleteAllById(input.getIds()));
+    }
+
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
@@ -0,0 +1,31 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.RateLimitStats;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.RequestRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** The rate limiter's settings and counters; not rate limited itself. */
+@RestController
+@RequestMapping(RateLimitController.PATH)
+@RequiredArgsConstructor
+public class RateLimitController {
+
+    public static final String PATH = "/api/v1/rate-limit";
+
+    private final RequestRateLimiter requestRateLimiter;
+
+    @GetMapping()
+    public Response<RateLimitStats> getRateLimit() {
+        return Response.handledWith(new RateLimitStats(
+                requestRateLimiter.mode().name().toLowerCase(),
+                requestRateLimiter.limit(),
+                requestRateLimiter.window().toSeconds(),
+                requestRateLimiter.clients(),
+                requestRateLimiter.admitted(),
+                requestRateLimiter.rejected()));
+    }
+}
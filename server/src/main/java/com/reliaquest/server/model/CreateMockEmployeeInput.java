@@ -5,12 +5,16 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
 public class CreateMockEmployeeInput {
 
+    public static final int MAX_TEXT_LENGTH = 255;
+
     @NotBlank
+    @Size(max = MAX_TEXT_LENGTH)
     private String name;
 
     @Positive @NotNull private Integer salary;
@@ -20,5 +24,6 @@ public class CreateMockEmployeeInput {
     @NotNull private Integer age;
 
     @NotBlank
+    @Size(max = MAX_TEXT_LENGTH)
     private String title;
 }
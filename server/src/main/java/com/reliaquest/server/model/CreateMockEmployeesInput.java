@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CreateMockEmployeesInput {
+
+    public static final int MAX_EMPLOYEES = 1000;
+
+    @NotEmpty
+    @Size(max = MAX_EMPLOYEES)
+    @Valid
+    private List<@NotNull CreateMockEmployeeInput> employees;
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete, as recorded in the change feed.
+ *
+ * @param version the roster version this change produced; versions of consecutive changes are consecutive
+ * @param employee the employee created, or the one deleted
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
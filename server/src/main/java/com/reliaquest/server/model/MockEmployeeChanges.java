@@ -0,0 +1,20 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * A slice of the change feed.
+ *
+ * @param epoch identifies the roster the versions belong to; it changes when the server restarts
+ * @param version pass as {@code since} to continue after these changes
+ * @param resync the changes after the requested version are no longer (or were never) in the feed; fetch the full
+ *     roster, then follow the feed from {@code version}, which is at most as new as that roster
+ * @param hasMore more changes follow {@code version} already
+ */
+public record MockEmployeeChanges(
+        String epoch, long version, boolean resync, boolean hasMore, List<MockEmployeeChange> changes) {
+
+    public static MockEmployeeChanges resync(String epoch, long version) {
+        return new MockEmployeeChanges(epoch, version, true, false, List.of());
+    }
+}
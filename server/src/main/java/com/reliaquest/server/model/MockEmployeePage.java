@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * One page of the employee listing.
+ *
+ * @param nextCursor pass as {@code cursor} to get the following page; absent on the last page
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeePage(List<MockEmployee> employees, Long nextCursor) {}
@@ -0,0 +1,4 @@
+package com.reliaquest.server.model;
+
+public record RateLimitStats(
+        String mode, int limit, long windowSeconds, int clients, long admitted, long rejected) {}
@@ -0,0 +1,88 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary form of one employee, shared by the seed file, the store's snapshots and its journal.
+ * <p>
+ * Big-endian: the id as two longs, the name, salary and age as ints, then title and email. Strings are an unsigned
+ * short byte length (0xFFFF for null) followed by UTF-8.
+ */
+public final class EmployeeCodec {
+
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    /** The longest name, title or email the codec holds, in UTF-8 bytes. */
+    public static final int MAX_STRING_BYTES = NULL_LENGTH - 1;
+
+    private EmployeeCodec() {}
+
+    /** A buffer large enough for any string {@link #read} decodes; reuse one per reader. */
+    public static byte[] newScratch() {
+        return new byte[NULL_LENGTH];
+    }
+
+    /** @throws IllegalArgumentException if a string of {@code employee} is longer than {@link #MAX_STRING_BYTES} */
+    public static void validate(MockEmployee employee) {
+        validate(employee.getName());
+        validate(employee.getTitle());
+        validate(employee.getEmail());
+    }
+
+    public static void write(DataOutput out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        writeString(out, employee.getName());
+        out.writeInt(employee.getSalary());
+        out.writeInt(employee.getAge());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    /** @throws java.nio.BufferUnderflowException if the buffer ends inside the employee */
+    public static MockEmployee read(ByteBuffer buffer, byte[] scratch) {
+        return new MockEmployee(
+                new UUID(buffer.getLong(), buffer.getLong()),
+                readString(buffer, scratch),
+                buffer.getInt(),
+                buffer.getInt(),
+                readString(buffer, scratch),
+                readString(buffer, scratch));
+    }
+
+    private static String readString(ByteBuffer buffer, byte[] scratch) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static void validate(String value) {
+        if (value != null
+                && value.length() > MAX_STRING_BYTES / 3
+                && value.getBytes(StandardCharsets.UTF_8).length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException(
+                    "Value longer than " + MAX_STRING_BYTES + " bytes: " + value.substring(0, 32));
+        }
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("Value longer than " + MAX_STRING_BYTES + " bytes: " + value.substring(0, 32));
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,520 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the {@link MockEmployeeStore} across restarts: an append-only journal of its writes, periodic snapshots, and
+ * recovery from both at startup.
+ * <p>
+ * Files come in generations. {@code snapshot-N.bin} holds the roster as it was when {@code journal-N.log} was started,
+ * and that journal holds every write after it, so recovery maps the newest snapshot and replays the journals from its
+ * generation on. Files older than the newest complete snapshot are deleted once it is on disk.
+ * <p>
+ * Writes reach the journal in store order through {@link MockEmployeeStore.WriteListener}, which encodes them and
+ * queues them, so a record the journal cannot hold is rejected before the store applies it. A single writer thread
+ * drains whatever is queued, writes it with one call and, under {@link FsyncPolicy#ALWAYS}, one fsync, so concurrent
+ * writers share the cost of a commit. Writers then wait in {@link #sync()}. Each record is length prefixed and
+ * checksummed; replay stops at the first torn or corrupt record, which can only be the tail of the last journal.
+ */
+@Slf4j
+public class MockEmployeeJournal implements MockEmployeeStore.WriteListener, AutoCloseable {
+
+    public enum FsyncPolicy {
+        /** {@link #sync()} returns once the write is on disk; writers waiting together share one fsync. */
+        ALWAYS,
+        /** {@link #sync()} returns once the write reaches the OS; the journal is forced every fsync interval. */
+        INTERVAL,
+        /** {@link #sync()} returns once the write reaches the OS, which decides when it reaches the disk. */
+        NEVER
+    }
+
+    private static final int SNAPSHOT_MAGIC = 0x4D45534E;
+    private static final int VERSION = 1;
+    private static final byte ADDED = 1;
+    private static final byte REMOVED = 2;
+    private static final int MAX_BATCH = 4096;
+    private static final Pattern FILE_NAME = Pattern.compile("(snapshot|journal)-(\\d+)\\.(bin|log)");
+    private static final Object STOP = new Object();
+
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final Duration fsyncInterval;
+    private final Duration snapshotInterval;
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong appended = new AtomicLong();
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition durableAdvanced = durableLock.newCondition();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private long durable;
+    private IOException failure;
+
+    private MockEmployeeStore store;
+    private long generation = -1;
+    private long appendedAtSnapshot;
+    private Thread writer;
+    private ScheduledExecutorService snapshotter;
+
+    // Owned by the writer thread once it starts.
+    private FileChannel channel;
+    private boolean dirty;
+    private long lastForce;
+
+    public MockEmployeeJournal(
+            Path directory, FsyncPolicy fsyncPolicy, Duration fsyncInterval, Duration snapshotInterval) {
+        this.directory = directory;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncInterval = fsyncInterval;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * The roster as of the last durable write before the previous shutdown or crash, in listing order; empty if the
+     * directory holds no snapshot yet.
+     */
+    public Optional<List<MockEmployee>> recover() throws IOException {
+        long startedAt = System.nanoTime();
+        Files.createDirectories(directory);
+        TreeMap<Long, Path> snapshots = new TreeMap<>();
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        scan(snapshots, journals);
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        long base = snapshots.lastKey();
+        Map<UUID, MockEmployee> employees = readSnapshot(snapshots.get(base));
+        long replayed = 0;
+        for (Path journal : journals.tailMap(base, true).values()) {
+            replayed += replay(journal, employees);
+        }
+        log.info(
+                "Recovered {} employees from snapshot {} and {} journal records in {} ms",
+                employees.size(),
+                base,
+                replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return Optional.of(new ArrayList<>(employees.values()));
+    }
+
+    /**
+     * Snapshots {@code store} as the new base, starts journaling its writes and drops the files recovery no longer
+     * needs. Call before the store takes any writes.
+     */
+    public void open(MockEmployeeStore store) throws IOException {
+        Files.createDirectories(directory);
+        scan(new TreeMap<>(), new TreeMap<>());
+        this.store = store;
+        generation++;
+        writeSnapshot(generation, store.list());
+        channel = openJournal(generation);
+        lastForce = System.nanoTime();
+        deleteBefore(generation);
+
+        writer = new Thread(this::writeLoop, "employee-journal");
+        writer.setDaemon(true);
+        writer.start();
+        store.listen(this);
+        if (!snapshotInterval.isZero() && !snapshotInterval.isNegative()) {
+            snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long millis = snapshotInterval.toMillis();
+            snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** @throws IllegalArgumentException if {@code employee} does not fit a record; nothing is queued then */
+    @Override
+    public void added(MockEmployee employee) {
+        enqueue(encode(ADDED, employee));
+    }
+
+    @Override
+    public void removed(MockEmployee employee) {
+        enqueue(encode(REMOVED, employee));
+    }
+
+    /**
+     * Waits until every write the store has made so far is as durable as the fsync policy makes it.
+     *
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public void sync() {
+        long target = appended.get();
+        durableLock.lock();
+        try {
+            while (durable < target) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Employee journal is not writable", failure);
+                }
+                durableAdvanced.awaitUninterruptibly();
+            }
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    /** Writes a snapshot of the store and deletes the files before it; does nothing if there was no write since. */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long writes = appended.get();
+            if (writes == appendedAtSnapshot) {
+                return;
+            }
+            long[] next = new long[1];
+            List<MockEmployee> employees = store.cut(() -> {
+                next[0] = ++generation;
+                queue.add(new Rotate(next[0]));
+            });
+            appendedAtSnapshot = writes;
+            writeSnapshot(next[0], employees);
+            deleteBefore(next[0]);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /** Stops taking writes and closes the journal once everything queued is written and forced. */
+    @Override
+    public void close() {
+        if (snapshotter != null) {
+            snapshotter.shutdownNow();
+        }
+        if (store != null) {
+            store.listen(null);
+        }
+        if (writer != null) {
+            queue.add(STOP);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Employee snapshot failed; the journal still holds every write", e);
+        }
+    }
+
+    private void enqueue(Write write) {
+        appended.incrementAndGet();
+        queue.add(write);
+    }
+
+    private static Write encode(byte type, MockEmployee employee) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(type == ADDED ? 128 : 17);
+        DataOutputStream out = new DataOutputStream(record);
+        try {
+            out.writeByte(type);
+            if (type == ADDED) {
+                EmployeeCodec.write(out, employee);
+            } else {
+                out.writeLong(employee.getId().getMostSignificantBits());
+                out.writeLong(employee.getId().getLeastSignificantBits());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Employee does not fit a journal record", e);
+        }
+        return new Write(record.toByteArray());
+    }
+
+    /* Any failure, checked or not, is reported through fail(), so writers waiting in sync() never hang. */
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>();
+        RecordBuffer records = new RecordBuffer();
+        CRC32C checksum = new CRC32C();
+        long pollMillis = fsyncPolicy == FsyncPolicy.INTERVAL ? Math.max(1, fsyncInterval.toMillis()) : 1000;
+        boolean running = true;
+        try {
+            while (running) {
+                Object first = queue.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                }
+                int writes = 0;
+                for (Object item : batch) {
+                    if (item instanceof Write write) {
+                        checksum.reset();
+                        checksum.update(write.record());
+                        records.writeInt(write.record().length);
+                        records.writeInt((int) checksum.getValue());
+                        records.writeBytes(write.record());
+                        writes++;
+                    } else if (item instanceof Rotate rotate) {
+                        flush(records);
+                        if (fsyncPolicy != FsyncPolicy.NEVER) {
+                            force();
+                        }
+                        channel.close();
+                        channel = openJournal(rotate.generation());
+                    } else if (item == STOP) {
+                        running = false;
+                    }
+                }
+                batch.clear();
+                flush(records);
+                if (dirty
+                        && (fsyncPolicy == FsyncPolicy.ALWAYS
+                                || !running
+                                || fsyncPolicy == FsyncPolicy.INTERVAL
+                                        && System.nanoTime() - lastForce >= fsyncInterval.toNanos())) {
+                    force();
+                }
+                if (writes > 0) {
+                    publish(writes);
+                }
+            }
+            channel.close();
+        } catch (IOException e) {
+            fail(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(new IOException("Employee journal writer interrupted", e));
+        } catch (RuntimeException e) {
+            fail(new IOException("Employee journal writer failed", e));
+        }
+    }
+
+    private void flush(RecordBuffer records) throws IOException {
+        if (records.size() == 0) {
+            return;
+        }
+        ByteBuffer bytes = records.view();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        records.reset();
+        dirty = true;
+    }
+
+    private void force() throws IOException {
+        channel.force(false);
+        dirty = false;
+        lastForce = System.nanoTime();
+    }
+
+    private void publish(int writes) {
+        durableLock.lock();
+        try {
+            durable += writes;
+            durableAdvanced.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    private void fail(IOException e) {
+        log.error("Employee journal failed; writes are no longer durable", e);
+        durableLock.lock();
+        try {
+            failure = e;
+            durableAdvanced.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    /* Collects the generations on disk and moves the current generation past all of them. */
+    private void scan(Map<Long, Path> snapshots, Map<Long, Path> journals) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    long fileGeneration = Long.parseLong(matcher.group(2));
+                    (matcher.group(1).equals("snapshot") ? snapshots : journals).put(fileGeneration, file);
+                    generation = Math.max(generation, fileGeneration);
+                }
+            }
+        }
+    }
+
+    private Map<UUID, MockEmployee> readSnapshot(Path file) throws IOException {
+        try (FileChannel snapshot = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = snapshot.map(FileChannel.MapMode.READ_ONLY, 0, snapshot.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(file + " is not an employee snapshot");
+            }
+            buffer.getLong();
+            int count = buffer.getInt();
+            Map<UUID, MockEmployee> employees = new LinkedHashMap<>((int) (count / 0.75f) + 1);
+            byte[] scratch = EmployeeCodec.newScratch();
+            for (int i = 0; i < count; i++) {
+                MockEmployee employee = EmployeeCodec.read(buffer, scratch);
+                employees.put(employee.getId(), employee);
+            }
+            return employees;
+        } catch (BufferUnderflowException e) {
+            throw new IOException(file + " is truncated", e);
+        }
+    }
+
+    private long replay(Path file, Map<UUID, MockEmployee> employees) throws IOException {
+        long replayed = 0;
+        try (FileChannel journal = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = journal.map(FileChannel.MapMode.READ_ONLY, 0, journal.size());
+            CRC32C checksum = new CRC32C();
+            byte[] scratch = EmployeeCodec.newScratch();
+            while (buffer.remaining() >= 8) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                int expected = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    buffer.position(start);
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                checksum.reset();
+                checksum.update(payload.duplicate());
+                if ((int) checksum.getValue() != expected) {
+                    buffer.position(start);
+                    break;
+                }
+                buffer.position(buffer.position() + length);
+                if (payload.get() == ADDED) {
+                    MockEmployee employee = EmployeeCodec.read(payload, scratch);
+                    employees.remove(employee.getId());
+                    employees.put(employee.getId(), employee);
+                } else {
+                    employees.remove(new UUID(payload.getLong(), payload.getLong()));
+                }
+                replayed++;
+            }
+            if (buffer.hasRemaining()) {
+                log.warn("Ignoring {} bytes after the last complete record of {}", buffer.remaining(), file);
+            }
+        }
+        return replayed;
+    }
+
+    private void writeSnapshot(long snapshotGeneration, List<MockEmployee> employees) throws IOException {
+        Path file = directory.resolve(fileName("snapshot", snapshotGeneration, "bin"));
+        Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel snapshot = FileChannel.open(
+                    temporary,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(snapshot), 1 << 16));
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(snapshotGeneration);
+                out.writeInt(employees.size());
+                for (MockEmployee employee : employees) {
+                    EmployeeCodec.write(out, employee);
+                }
+                out.flush();
+                snapshot.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory();
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private FileChannel openJournal(long journalGeneration) throws IOException {
+        FileChannel journal = FileChannel.open(
+                directory.resolve(fileName("journal", journalGeneration, "log")),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        forceDirectory();
+        return journal;
+    }
+
+    /* Also removes snapshots left half-written by a crash; only the snapshot lock holder writes one. */
+    private void deleteBefore(long keptGeneration) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Matcher matcher = FILE_NAME.matcher(name);
+                if (matcher.matches() && Long.parseLong(matcher.group(2)) < keptGeneration || name.endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /* Makes created and renamed entries durable; not every platform can open a directory, hence best effort. */
+    private void forceDirectory() {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException e) {
+            log.debug("Could not force directory {}", directory, e);
+        }
+    }
+
+    private static String fileName(String kind, long fileGeneration, String extension) {
+        return "%s-%019d.%s".formatted(kind, fileGeneration, extension);
+    }
+
+    /* One encoded record: the type byte, then the employee or its id. */
+    private record Write(byte[] record) {}
+
+    private record Rotate(long generation) {}
+
+    /* A byte stream whose contents can be read without copying them. */
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+
+        RecordBuffer() {
+            super(1 << 16);
+        }
+
+        ByteBuffer view() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+    }
+}
@@ -4,32 +4,119 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore store;
+
+    private final MockEmployeeJournal journal;
+
+    public MockEmployeeService(Faker faker, List<MockEmployee> mockEmployees) {
+        this(faker, mockEmployees, Optional.empty());
+    }
+
+    public MockEmployeeService(
+            Faker faker, List<MockEmployee> mockEmployees, Optional<MockEmployeeJournal> journal) {
+        this(faker, mockEmployees, journal, MockEmployeeStore.DEFAULT_CHANGE_CAPACITY);
+    }
+
+    /**
+     * With a journal, the seed roster becomes the journal's new base snapshot and every create and delete returns
+     * only once the journal holds it; see {@link MockEmployeeJournal.FsyncPolicy}. The change feed keeps the last
+     * {@code changeCapacity} creates and deletes.
+     */
+    @Autowired
+    public MockEmployeeService(
+            Faker faker,
+            List<MockEmployee> mockEmployees,
+            Optional<MockEmployeeJournal> journal,
+            @Value("${mock.employees.changes.capacity:10000}") int changeCapacity) {
+        this(faker, new MockEmployeeStore(mockEmployees, changeCapacity), journal.orElse(null));
+    }
+
+    MockEmployeeService(Faker faker, MockEmployeeStore store) {
+        this(faker, store, null);
+    }
+
+    private MockEmployeeService(Faker faker, MockEmployeeStore store, MockEmployeeJournal journal) {
+        this.faker = faker;
+        this.store = store;
+        this.journal = journal;
+        if (journal != null) {
+            try {
+                journal.open(store);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open the employee journal", e);
+            }
+        }
+    }
+
+    /** A copy of all employees, in the order they were added. */
+    public List<MockEmployee> getMockEmployees() {
+        return store.list();
+    }
+
+    /** A page of employees in the same order as {@link #getMockEmployees()}; see {@link MockEmployeeStore#page}. */
+    public MockEmployeePage getMockEmployeePage(Long cursor, int limit) {
+        return store.page(cursor, limit);
+    }
+
+    /** All employees in the same order, without copying; for writing them out incrementally. */
+    public Collection<MockEmployee> streamMockEmployees() {
+        return store.view();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.findById(uuid);
+    }
+
+    /** Like {@link #findById} with the employee's sequence number, for validators on the single-employee resource. */
+    public Optional<MockEmployeeStore.Entry> findEntryById(@NonNull UUID uuid) {
+        return store.findEntry(uuid);
+    }
+
+    /**
+     * A strong validator for {@link #getMockEmployees()}: the store's epoch and version. Read it before the listing;
+     * a write in between then only makes the listing newer than its validator, never older.
+     */
+    public String getRosterTag() {
+        return Long.toHexString(store.epoch()) + "-" + store.version();
+    }
+
+    /**
+     * The creates and deletes after version {@code since} of the roster identified by {@code epoch}; see
+     * {@link MockEmployeeChanges}. Without {@code since}, or for another epoch, this is a resync at the current
+     * version.
+     */
+    public MockEmployeeChanges getChanges(String epoch, Long since, int limit) {
+        if (since == null || (epoch != null && !epoch.equals(Long.toHexString(store.epoch())))) {
+            return store.changesSince(-1, limit);
+        }
+        return store.changesSince(since, limit);
+    }
+
+    /** A strong validator for one employee, see {@link #findEntryById}. */
+    public String getEmployeeTag(MockEmployeeStore.Entry entry) {
+        return Long.toHexString(store.epoch()) + "-e" + entry.sequence();
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +124,62 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        store.add(mockEmployee);
+        sync();
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates the employees in one store write, in input order. With a journal they are synced together, so the
+     * batch waits for one fsync rather than one per employee.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        List<MockEmployee> mockEmployees = new ArrayList<>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            mockEmployees.add(MockEmployee.from(
+                    ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()),
+                    input));
+        }
+        store.addAll(mockEmployees);
+        sync();
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var mockEmployee =
+                input.getName() == null ? Optional.<MockEmployee>empty() : store.removeByName(input.getName());
+        mockEmployee.ifPresent(employee -> {
+            sync();
+            log.debug("Removed employee: {}", employee);
+        });
+        return mockEmployee.isPresent();
+    }
+
+    public Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = store.removeById(uuid);
+        mockEmployee.ifPresent(employee -> {
+            sync();
+            log.debug("Removed employee: {}", employee);
+        });
+        return mockEmployee;
+    }
+
+    /** Deletes the employees with these ids in one store write and one sync; returns those that existed. */
+    public List<MockEmployee> deleteAllById(@NonNull List<UUID> uuids) {
+        final var mockEmployees = store.removeAllById(uuids);
+        if (!mockEmployees.isEmpty()) {
+            sync();
+            log.debug("Removed {} employees", mockEmployees.size());
         }
+        return mockEmployees;
+    }
 
-        return false;
+    private void sync() {
+        if (journal != null) {
+            journal.sync();
+        }
     }
 }
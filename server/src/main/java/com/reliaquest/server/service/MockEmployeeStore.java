@@ -0,0 +1,312 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * Thread-safe employee store with a primary index by id and a case-insensitive index by name.
+ * <p>
+ * Every employee gets an increasing sequence number when added, and the listing iterates employees in that order, so
+ * GET keeps returning them in insertion order however they are added and removed. Lookups by id and by name are hash
+ * lookups; several employees may share a name, and removal by name takes the earliest added one, as the previous
+ * list scan did.
+ * <p>
+ * Writers are serialized by a lock so the three structures change together; readers take no lock. A
+ * {@link WriteListener} sees the writes in that same order.
+ * <p>
+ * Each write bumps {@link #version()} once it is visible, so a reader that reads the version before the data never
+ * pairs a version with data older than it. Versions restart with the store; {@link #epoch()} tells two stores apart.
+ * The last {@code changeCapacity} writes are kept in a ring, by version, as the change feed; the seed is not part of
+ * it.
+ */
+public class MockEmployeeStore {
+
+    public static final int DEFAULT_CHANGE_CAPACITY = 10_000;
+
+    private final ConcurrentSkipListMap<Long, MockEmployee> bySequence = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Deque<Entry>> byName = new HashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final long epoch = ThreadLocalRandom.current().nextLong();
+    private volatile long version;
+    private long nextSequence;
+    private WriteListener listener;
+    private final MockEmployeeChange[] changes;
+    private final long seedVersion;
+
+    public MockEmployeeStore(Collection<MockEmployee> seed) {
+        this(seed, DEFAULT_CHANGE_CAPACITY);
+    }
+
+    public MockEmployeeStore(Collection<MockEmployee> seed, int changeCapacity) {
+        changes = new MockEmployeeChange[changeCapacity];
+        seed.forEach(this::add);
+        seedVersion = version;
+    }
+
+    /** All employees in insertion order, as a copy. */
+    public List<MockEmployee> list() {
+        return new ArrayList<>(bySequence.values());
+    }
+
+    /**
+     * All employees in insertion order without copying them. Iteration is weakly consistent: it never fails under
+     * concurrent writes and sees each employee at most once.
+     */
+    public Collection<MockEmployee> view() {
+        return Collections.unmodifiableCollection(bySequence.values());
+    }
+
+    /**
+     * Up to {@code limit} employees added after the one {@code cursor} points at, in insertion order. The page's
+     * cursor resumes right after its last employee, even if employees around it are deleted in between.
+     *
+     * @param cursor a cursor from a previous page, or {@code null} for the first page
+     */
+    public MockEmployeePage page(Long cursor, int limit) {
+        var remaining = cursor == null ? bySequence : bySequence.tailMap(cursor, false);
+        List<MockEmployee> employees = new ArrayList<>(Math.min(limit, 1024));
+        long last = cursor == null ? -1 : cursor;
+        for (var entry : remaining.entrySet()) {
+            if (employees.size() == limit) {
+                break;
+            }
+            employees.add(entry.getValue());
+            last = entry.getKey();
+        }
+        Long next = employees.size() == limit && bySequence.higherKey(last) != null ? last : null;
+        return new MockEmployeePage(employees, next);
+    }
+
+    /**
+     * A copy of the listing taken under the write lock; {@code atCut} runs under the same lock, so whatever it records
+     * falls between the writes the copy includes and the ones it does not.
+     */
+    public List<MockEmployee> cut(Runnable atCut) {
+        writeLock.lock();
+        try {
+            atCut.run();
+            return list();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} changes after version {@code since}, oldest first. Asks for a resync when {@code since} is
+     * older than the ring reaches back, newer than the store, or negative. Copies under the write lock, so the slice
+     * is never torn by a write that overwrites its oldest slot.
+     */
+    public MockEmployeeChanges changesSince(long since, int limit) {
+        writeLock.lock();
+        try {
+            String epochTag = Long.toHexString(epoch);
+            if (since < Math.max(seedVersion, version - changes.length) || since > version) {
+                return MockEmployeeChanges.resync(epochTag, version);
+            }
+            long until = Math.min(version, since + limit);
+            List<MockEmployeeChange> after = new ArrayList<>((int) (until - since));
+            for (long v = since + 1; v <= until; v++) {
+                after.add(changes[(int) (v % changes.length)]);
+            }
+            return new MockEmployeeChanges(epochTag, until, false, until < version, after);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Sets the listener told about every write, in the order the writes apply; {@code null} removes it. */
+    public void listen(WriteListener listener) {
+        writeLock.lock();
+        try {
+            this.listener = listener;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return bySequence.size();
+    }
+
+    /** Number of writes applied so far; unchanged means the listing is unchanged. */
+    public long version() {
+        return version;
+    }
+
+    /** Random per store, so versions from a restarted server are not mistaken for this one's. */
+    public long epoch() {
+        return epoch;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return findEntry(id).map(Entry::employee);
+    }
+
+    /** The employee with its sequence number, which changes whenever an employee is added under that id. */
+    public Optional<Entry> findEntry(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@link EmployeeCodec} cannot hold {@code employee} or the listener rejects
+     *     it; the store is unchanged then
+     */
+    public MockEmployee add(@NonNull MockEmployee employee) {
+        EmployeeCodec.validate(employee);
+        writeLock.lock();
+        try {
+            if (listener != null) {
+                listener.added(employee);
+            }
+            Entry entry = new Entry(nextSequence++, employee);
+            if (employee.getId() != null) {
+                Entry replaced = byId.put(employee.getId(), entry);
+                if (replaced != null) {
+                    unlink(replaced);
+                }
+            }
+            if (employee.getName() != null) {
+                byName.computeIfAbsent(nameKey(employee.getName()), key -> new ArrayDeque<>())
+                        .addLast(entry);
+            }
+            bySequence.put(entry.sequence(), employee);
+            record(MockEmployeeChange.Type.CREATED, employee);
+            return employee;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the employees in order under one hold of the write lock, so no other write falls between them. Checks them
+     * all first, so a batch with an employee the codec cannot hold changes nothing.
+     *
+     * @throws IllegalArgumentException see {@link EmployeeCodec#validate}
+     */
+    public List<MockEmployee> addAll(@NonNull List<MockEmployee> employees) {
+        writeLock.lock();
+        try {
+            employees.forEach(EmployeeCodec::validate);
+            employees.forEach(this::add);
+            return employees;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Removes the earliest added employee whose name equals {@code name} ignoring case. */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        writeLock.lock();
+        try {
+            Deque<Entry> entries = byName.get(nameKey(name));
+            if (entries == null) {
+                return Optional.empty();
+            }
+            Entry entry = entries.peekFirst();
+            if (listener != null) {
+                listener.removed(entry.employee());
+            }
+            unlink(entry);
+            if (entry.employee().getId() != null) {
+                byId.remove(entry.employee().getId(), entry);
+            }
+            record(MockEmployeeChange.Type.DELETED, entry.employee());
+            return Optional.of(entry.employee());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Removes the employee with id {@code id}; a hash lookup, unlike {@link #removeByName}. */
+    public Optional<MockEmployee> removeById(@NonNull UUID id) {
+        writeLock.lock();
+        try {
+            Entry entry = byId.get(id);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (listener != null) {
+                listener.removed(entry.employee());
+            }
+            byId.remove(id);
+            unlink(entry);
+            record(MockEmployeeChange.Type.DELETED, entry.employee());
+            return Optional.of(entry.employee());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Removes the employees with these ids under one hold of the write lock; returns those that were present. */
+    public List<MockEmployee> removeAllById(@NonNull Collection<UUID> ids) {
+        writeLock.lock();
+        try {
+            List<MockEmployee> removed = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                removeById(id).ifPresent(removed::add);
+            }
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /* Logs the write under the next version, then publishes that version. */
+    private void record(MockEmployeeChange.Type type, MockEmployee employee) {
+        long next = version + 1;
+        if (changes.length > 0) {
+            changes[(int) (next % changes.length)] = new MockEmployeeChange(next, type, employee);
+        }
+        version = next;
+    }
+
+    /* Drops the entry from the listing and the name index; the caller handles the id index. */
+    private void unlink(Entry entry) {
+        bySequence.remove(entry.sequence());
+        String name = entry.employee().getName();
+        if (name != null) {
+            String key = nameKey(name);
+            Deque<Entry> entries = byName.get(key);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record Entry(long sequence, MockEmployee employee) {}
+
+    /** Called under the write lock, so it must not block; see {@link MockEmployeeJournal}. */
+    public interface WriteListener {
+
+        /** Called before the employee is added; throwing rejects the write and leaves the store unchanged. */
+        void added(MockEmployee employee);
+
+        /** Called before the employee is removed, like {@link #added}. */
+        void removed(MockEmployee employee);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers 429 with a {@code Retry-After} in whole seconds once a client has used up its {@link RequestRateLimiter}
+ * tokens. Clients are told apart by {@code clientHeader} when the request carries it, by remote address otherwise.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RequestRateLimiter limiter;
+    private final String clientHeader;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String client = clientHeader.isEmpty() ? null : request.getHeader(clientHeader);
+        long waitNanos = limiter.acquire(client == null ? request.getRemoteAddr() : client);
+        if (waitNanos == 0) {
+            return true;
+        }
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        return false;
+    }
+}
@@ -0,0 +1,169 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-client token bucket: each client may make {@code limit} requests at once, and earns one more every
+ * {@code window / limit}.
+ * <p>
+ * The bucket is kept as a single number per client, the time at which it will be full again (the generic cell rate
+ * algorithm), so admitting a request is one compare-and-set with no lock and no allocation. A rejected request learns
+ * exactly how long until the client's next token.
+ * <p>
+ * At most {@code maxClients} clients are tracked. Clients whose bucket has refilled are indistinguishable from new
+ * ones, so a new client arriving at the cap drops them all in one sweep; sweeps run at most once per window, when
+ * every bucket seen by the previous one has refilled, so a full map does not cost each new client a scan. A new
+ * client that still finds no room shares one bucket with every other such client until a later sweep makes room.
+ */
+public final class RequestRateLimiter {
+
+    public enum Mode {
+        /** A limit of 5 to 9 requests per 30 to 89 seconds, drawn at startup (from a seed, if one is set). */
+        RANDOM,
+        /** The configured limit per window. */
+        FIXED,
+        /** Every request is admitted. */
+        DISABLED
+    }
+
+    private final Mode mode;
+    private final int limit;
+    private final Duration window;
+    private final int maxClients;
+    private final long emissionNanos;
+    private final long burstNanos;
+    private final Map<String, AtomicLong> clients = new ConcurrentHashMap<>();
+    /* Buckets in clients plus those being added; reserved before an insert so the map never passes maxClients. */
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final AtomicReference<AtomicLong> untracked = new AtomicReference<>();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    private boolean swept;
+    private long nextSweepAt;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    RequestRateLimiter(Mode mode, int limit, Duration window, int maxClients) {
+        if (limit < 1 || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs a positive limit and window");
+        }
+        this.mode = mode;
+        this.limit = limit;
+        this.window = window;
+        this.maxClients = maxClients;
+        this.emissionNanos = window.toNanos() / limit;
+        this.burstNanos = emissionNanos * (limit - 1);
+    }
+
+    /**
+     * @param limit requests per window, for {@link Mode#FIXED}
+     * @param seed fixes what {@link Mode#RANDOM} draws; {@code null} draws something new on every start
+     */
+    public static RequestRateLimiter create(Mode mode, int limit, Duration window, Long seed, int maxClients) {
+        if (mode == Mode.RANDOM) {
+            Random random = seed == null ? new Random() : new Random(seed);
+            return new RequestRateLimiter(
+                    mode, 5 + random.nextInt(5), Duration.ofSeconds(30 + random.nextInt(60)), maxClients);
+        }
+        return new RequestRateLimiter(mode, limit, window, maxClients);
+    }
+
+    /** {@code 0} if the client's request is admitted, otherwise the nanoseconds until it may try again. */
+    public long acquire(String client) {
+        return mode == Mode.DISABLED ? 0 : acquire(client, System.nanoTime());
+    }
+
+    long acquire(String client, long now) {
+        AtomicLong fullAt = clients.get(client);
+        if (fullAt == null) {
+            fullAt = track(client, now);
+        }
+        while (true) {
+            long current = fullAt.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - burstNanos - now;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + emissionNanos)) {
+                admitted.increment();
+                return 0;
+            }
+        }
+    }
+
+    /* A new bucket for the client, or the shared one while maxClients are tracked and none has refilled. */
+    private AtomicLong track(String client, long now) {
+        if (tracked.get() >= maxClients) {
+            sweep(now);
+        }
+        int count;
+        do {
+            count = tracked.get();
+            if (count >= maxClients) {
+                untracked.compareAndSet(null, new AtomicLong(now));
+                return untracked.get();
+            }
+        } while (!tracked.compareAndSet(count, count + 1));
+        AtomicLong bucket = new AtomicLong(now);
+        AtomicLong existing = clients.putIfAbsent(client, bucket);
+        if (existing != null) {
+            tracked.decrementAndGet();
+            return existing;
+        }
+        return bucket;
+    }
+
+    /* Drops the clients whose bucket has refilled, unless another thread is or a window has not passed since. */
+    private void sweep(long now) {
+        if (!sweepLock.tryLock()) {
+            return;
+        }
+        try {
+            if (swept && nextSweepAt - now > 0) {
+                return;
+            }
+            swept = true;
+            nextSweepAt = now + window.toNanos();
+            for (Map.Entry<String, AtomicLong> entry : clients.entrySet()) {
+                if (entry.getValue().get() - now <= 0 && clients.remove(entry.getKey(), entry.getValue())) {
+                    tracked.decrementAndGet();
+                }
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    public long admitted() {
+        return admitted.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public int clients() {
+        return clients.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int COUNT = MockEmployeeGenerator.CHUNK_SIZE * 2 + 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSameSeedGivesSameRosterAtAnyParallelism() {
+        List<MockEmployee> sequential = new MockEmployeeGenerator(Locale.ROOT, 1).generate(COUNT, 42);
+        List<MockEmployee> parallel = new MockEmployeeGenerator(Locale.ROOT, 3).generate(COUNT, 42);
+
+        assertEquals(COUNT, sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(COUNT, new HashSet<>(sequential.stream().map(MockEmployee::getId).toList()).size());
+        assertNotEquals(sequential, new MockEmployeeGenerator(Locale.ROOT, 3).generate(COUNT, 43));
+        sequential.forEach(employee -> {
+            assertNotNull(employee.getName());
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+        });
+    }
+
+    @Test
+    void testSeedFileRoundTrip() throws IOException {
+        Path file = directory.resolve("roster.bin");
+        List<MockEmployee> roster = new MockEmployeeGenerator(Locale.ROOT, 2).generate(100, 7);
+        roster.set(3, roster.get(3).toBuilder().title(null).name("Zoë Ångström").build());
+
+        MockEmployeeSeedFile.write(file, 7, roster);
+
+        assertEquals(roster, MockEmployeeSeedFile.read(file, 7L, 100).orElseThrow());
+        assertEquals(roster, MockEmployeeSeedFile.read(file, null, 100).orElseThrow());
+        assertTrue(MockEmployeeSeedFile.read(file, 8L, 100).isEmpty());
+        assertTrue(MockEmployeeSeedFile.read(file, 7L, 101).isEmpty());
+        assertTrue(MockEmployeeSeedFile.read(directory.resolve("missing.bin"), 7L, 100).isEmpty());
+    }
+
+    @Test
+    void testTruncatedSeedFileIsRejected() throws IOException {
+        Path file = directory.resolve("roster.bin");
+        MockEmployeeSeedFile.write(file, 7, new MockEmployeeGenerator(Locale.ROOT, 1).generate(10, 7));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertThrows(IOException.class, () -> MockEmployeeSeedFile.read(file, 7L, 10));
+    }
+}
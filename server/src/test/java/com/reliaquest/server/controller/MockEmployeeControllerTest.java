@@ -0,0 +1,184 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private MockMvc mockMvc;
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        List<MockEmployee> roster = IntStream.range(0, 5)
+                .mapToObj(i -> new MockEmployee(
+                        new UUID(0, i), "Employee " + i, 40000 + i, 30, "Engineer", "e" + i + "@company.com"))
+                .collect(ArrayList::new, List::add, List::addAll);
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ROOT), roster);
+        MockEmployeeController controller = new MockEmployeeController(mockEmployeeService, new ObjectMapper());
+        ReflectionTestUtils.setField(controller, "defaultPageLimit", 2);
+        ReflectionTestUtils.setField(controller, "maxPageLimit", 3);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void testPagesAreCappedAndChained() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/page").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees.length()").value(3))
+                .andExpect(jsonPath("$.data.employees[0].employee_name").value("Employee 0"))
+                .andExpect(jsonPath("$.data.nextCursor").value(2));
+
+        mockMvc.perform(get("/api/v1/employee/page").param("cursor", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees[0].employee_name").value("Employee 3"))
+                .andExpect(jsonPath("$.data.employees.length()").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testBulkCreateReturnsEmployeesInInputOrder() throws Exception {
+        String body =
+                """
+                {"employees": [
+                  {"name": "Jill Jenkins", "salary": 139082, "age": 48, "title": "Financial Advisor"},
+                  {"name": "Sam Stone", "salary": 90000, "age": 25, "title": "Engineer"}
+                ]}""";
+
+        mockMvc.perform(post("/api/v1/employee/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Jill Jenkins"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Sam Stone"))
+                .andExpect(jsonPath("$.data[1].id").isNotEmpty());
+        assertEquals(7, mockEmployeeService.getMockEmployees().size());
+
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\": [{\"name\": \"No Salary\", \"age\": 30, \"title\": \"X\"}]}"))
+                .andExpect(status().isBadRequest());
+        assertEquals(7, mockEmployeeService.getMockEmployees().size());
+
+        String longName = "x".repeat(CreateMockEmployeeInput.MAX_TEXT_LENGTH + 1);
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"%s\", \"salary\": 1, \"age\": 30, \"title\": \"X\"}"
+                                .formatted(longName)))
+                .andExpect(status().isBadRequest());
+        assertEquals(7, mockEmployeeService.getMockEmployees().size());
+    }
+
+    @Test
+    void testDeleteByIdAndInBulk() throws Exception {
+        mockMvc.perform(delete("/api/v1/employee/" + new UUID(0, 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employee_name").value("Employee 1"));
+        mockMvc.perform(delete("/api/v1/employee/" + new UUID(0, 1))).andExpect(status().isNotFound());
+
+        String body = "{\"ids\": [\"%s\", \"%s\", \"%s\"]}".formatted(new UUID(0, 4), new UUID(0, 1), new UUID(0, 2));
+        mockMvc.perform(delete("/api/v1/employee/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Employee 4"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Employee 2"));
+
+        assertEquals(List.of("Employee 0", "Employee 3"), mockEmployeeService.getMockEmployees().stream()
+                .map(MockEmployee::getName)
+                .toList());
+    }
+
+    @Test
+    void testStreamWritesOneEmployeePerLine() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/employee/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertTrue(lines[4].contains("\"employee_name\":\"Employee 4\""));
+    }
+
+    @Test
+    void testRosterIsNotModifiedUntilAWrite() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(5))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName("Employee 0");
+        mockEmployeeService.delete(input);
+
+        String changed = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(4))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void testEmployeeIsNotModifiedWhileUnchanged() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employee/" + new UUID(0, 3)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employee_name").value("Employee 3"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName("Employee 0");
+        mockEmployeeService.delete(input);
+
+        mockMvc.perform(get("/api/v1/employee/" + new UUID(0, 3)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/employee/" + new UUID(0, 0)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,165 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeJournalTest {
+
+    private static final List<MockEmployee> SEED = List.of(
+            new MockEmployee(UUID.randomUUID(), "Alice Johnson", 50000, 30, "Engineer", "alice@company.com"),
+            new MockEmployee(UUID.randomUUID(), "Bob Williams", 60000, 40, "Analyst", "bob@company.com"));
+
+    @TempDir
+    Path directory;
+
+    private final List<MockEmployeeJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(MockEmployeeJournal::close);
+    }
+
+    private MockEmployeeJournal journal(MockEmployeeJournal.FsyncPolicy fsyncPolicy) {
+        MockEmployeeJournal journal =
+                new MockEmployeeJournal(directory, fsyncPolicy, Duration.ofMillis(10), Duration.ZERO);
+        journals.add(journal);
+        return journal;
+    }
+
+    /* Starts a server the way ServerConfiguration does: recovered roster if any, the seed otherwise. */
+    private MockEmployeeService start(MockEmployeeJournal journal) throws IOException {
+        List<MockEmployee> roster = journal.recover().orElseGet(() -> new ArrayList<>(SEED));
+        return new MockEmployeeService(new Faker(Locale.ROOT), roster, Optional.of(journal));
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(70000);
+        input.setAge(35);
+        input.setTitle("Manager");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    @Test
+    void testWritesSurviveRestart() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.FsyncPolicy.ALWAYS);
+        MockEmployeeService service = start(journal);
+        service.create(input("Carol Diaz"));
+        service.create(input("Dave Brown"));
+        service.delete(deleteInput("alice johnson"));
+        List<MockEmployee> expected = service.getMockEmployees();
+        journal.close();
+
+        MockEmployeeService restarted = start(journal(MockEmployeeJournal.FsyncPolicy.ALWAYS));
+
+        assertEquals(expected, restarted.getMockEmployees());
+        assertEquals("Bob Williams", restarted.getMockEmployees().get(0).getName());
+    }
+
+    @Test
+    void testSnapshotReplacesOlderFiles() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.FsyncPolicy.INTERVAL);
+        MockEmployeeService service = start(journal);
+        service.create(input("Carol Diaz"));
+        journal.snapshot();
+        service.delete(deleteInput("Carol Diaz"));
+        service.create(input("Erin Moore"));
+        List<MockEmployee> expected = service.getMockEmployees();
+        journal.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "one snapshot and the journal after it");
+        }
+        assertEquals(expected, journal(MockEmployeeJournal.FsyncPolicy.INTERVAL).recover().orElseThrow());
+    }
+
+    @Test
+    void testTornTailIsIgnored() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.FsyncPolicy.NEVER);
+        MockEmployeeService service = start(journal);
+        service.create(input("Carol Diaz"));
+        List<MockEmployee> expected = service.getMockEmployees();
+        journal.close();
+        Path log;
+        try (Stream<Path> files = Files.list(directory)) {
+            log = files.filter(file -> file.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        Files.write(log, new byte[] {0, 0, 0, 90, 1, 2, 3, 4, 1, 9}, StandardOpenOption.APPEND);
+
+        assertEquals(expected, journal(MockEmployeeJournal.FsyncPolicy.NEVER).recover().orElseThrow());
+    }
+
+    @Test
+    void testConcurrentWritersShareCommits() throws Exception {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.FsyncPolicy.ALWAYS);
+        MockEmployeeService service = start(journal);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    service.create(input("Worker " + thread + " #" + i));
+                    if (i % 5 == 0) {
+                        assertTrue(service.delete(deleteInput("Worker " + thread + " #" + i)));
+                    }
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        List<MockEmployee> expected = service.getMockEmployees();
+        journal.close();
+
+        assertEquals(2 + 8 * 40, expected.size());
+        assertEquals(expected, journal(MockEmployeeJournal.FsyncPolicy.ALWAYS).recover().orElseThrow());
+    }
+
+    @Test
+    void testRecordTooLongIsRejectedBeforeTheStoreChanges() throws IOException {
+        MockEmployeeJournal journal = journal(MockEmployeeJournal.FsyncPolicy.ALWAYS);
+        MockEmployeeService service = start(journal);
+
+        assertThrows(IllegalArgumentException.class, () -> service.create(input("x".repeat(70_000))));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.createAll(List.of(input("Carol Diaz"), input("é".repeat(40_000)))));
+        assertEquals(SEED, service.getMockEmployees());
+
+        service.create(input("Dave Brown"));
+        List<MockEmployee> expected = service.getMockEmployees();
+        journal.close();
+
+        assertEquals(expected, journal(MockEmployeeJournal.FsyncPolicy.ALWAYS).recover().orElseThrow());
+    }
+}
@@ -0,0 +1,236 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final MockEmployee ALICE = employee("Alice Johnson");
+    private static final MockEmployee BOB = employee("Bob Williams");
+
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ROOT), new ArrayList<>(List.of(ALICE, BOB)));
+    }
+
+    private static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 50000, 30, "Engineer", "e@company.com");
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(60000);
+        input.setAge(40);
+        input.setTitle("Analyst");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    @Test
+    void testFindById() {
+        assertEquals(BOB, mockEmployeeService.findById(BOB.getId()).orElseThrow());
+        assertTrue(mockEmployeeService.findById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void testListKeepsInsertionOrderAcrossWrites() {
+        MockEmployee carol = mockEmployeeService.create(input("Carol Diaz"));
+        assertTrue(mockEmployeeService.delete(deleteInput("alice JOHNSON")));
+        MockEmployee alice = mockEmployeeService.create(input("Alice Johnson"));
+
+        assertEquals(List.of(BOB, carol, alice), mockEmployeeService.getMockEmployees());
+        assertTrue(mockEmployeeService.findById(ALICE.getId()).isEmpty());
+        assertEquals(alice, mockEmployeeService.findById(alice.getId()).orElseThrow());
+    }
+
+    @Test
+    void testDeleteByNameRemovesEarliestOfSameName() {
+        MockEmployee secondBob = mockEmployeeService.create(input("BOB WILLIAMS"));
+
+        assertTrue(mockEmployeeService.delete(deleteInput("Bob Williams")));
+
+        assertEquals(List.of(ALICE, secondBob), mockEmployeeService.getMockEmployees());
+        assertTrue(mockEmployeeService.delete(deleteInput("bob williams")));
+        assertFalse(mockEmployeeService.delete(deleteInput("bob williams")));
+        assertFalse(mockEmployeeService.delete(deleteInput(null)));
+        assertEquals(List.of(ALICE), mockEmployeeService.getMockEmployees());
+    }
+
+    @Test
+    void testCreateAllAddsInInputOrderAsOneChangeEach() {
+        MockEmployeeChanges start = mockEmployeeService.getChanges(null, null, 10);
+
+        List<MockEmployee> created =
+                mockEmployeeService.createAll(List.of(input("Carol Diaz"), input("Dave Brown"), input("Carol Diaz")));
+
+        assertEquals(List.of("Carol Diaz", "Dave Brown", "Carol Diaz"),
+                created.stream().map(MockEmployee::getName).toList());
+        assertEquals(3, new HashSet<>(created.stream().map(MockEmployee::getId).toList()).size());
+        List<MockEmployee> expected = new ArrayList<>(List.of(ALICE, BOB));
+        expected.addAll(created);
+        assertEquals(expected, mockEmployeeService.getMockEmployees());
+        assertEquals(created.get(1), mockEmployeeService.findById(created.get(1).getId()).orElseThrow());
+        MockEmployeeChanges changes = mockEmployeeService.getChanges(start.epoch(), start.version(), 10);
+        assertEquals(start.version() + 3, changes.version());
+        assertEquals(created, changes.changes().stream().map(MockEmployeeChange::employee).toList());
+    }
+
+    @Test
+    void testDeleteByIdRemovesThatEmployeeOfSameName() {
+        MockEmployee secondBob = mockEmployeeService.create(input("Bob Williams"));
+
+        assertEquals(secondBob, mockEmployeeService.deleteById(secondBob.getId()).orElseThrow());
+        assertTrue(mockEmployeeService.deleteById(secondBob.getId()).isEmpty());
+
+        assertEquals(List.of(ALICE, BOB), mockEmployeeService.getMockEmployees());
+        assertTrue(mockEmployeeService.delete(deleteInput("Bob Williams")));
+        assertEquals(List.of(ALICE), mockEmployeeService.getMockEmployees());
+    }
+
+    @Test
+    void testDeleteAllByIdSkipsUnknownIds() {
+        MockEmployee carol = mockEmployeeService.create(input("Carol Diaz"));
+        MockEmployeeChanges start = mockEmployeeService.getChanges(null, null, 10);
+
+        List<MockEmployee> deleted = mockEmployeeService.deleteAllById(
+                List.of(carol.getId(), UUID.randomUUID(), ALICE.getId(), carol.getId()));
+
+        assertEquals(List.of(carol, ALICE), deleted);
+        assertEquals(List.of(BOB), mockEmployeeService.getMockEmployees());
+        assertEquals(start.version() + 2, mockEmployeeService.getChanges(null, null, 10).version());
+    }
+
+    @Test
+    void testPagesFollowListOrderAcrossDeletes() {
+        mockEmployeeService.create(input("Carol Diaz"));
+        MockEmployee dave = mockEmployeeService.create(input("Dave Brown"));
+
+        MockEmployeePage first = mockEmployeeService.getMockEmployeePage(null, 2);
+        assertEquals(List.of(ALICE, BOB), first.employees());
+        mockEmployeeService.delete(deleteInput("Bob Williams"));
+        mockEmployeeService.delete(deleteInput("Carol Diaz"));
+        MockEmployeePage second = mockEmployeeService.getMockEmployeePage(first.nextCursor(), 2);
+
+        assertEquals(List.of(dave), second.employees());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void testFullLastPageHasNoCursor() {
+        MockEmployeePage page = mockEmployeeService.getMockEmployeePage(null, 2);
+
+        assertEquals(List.of(ALICE, BOB), page.employees());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testChangesFollowWritesInOrder() {
+        MockEmployeeChanges start = mockEmployeeService.getChanges(null, null, 10);
+        assertTrue(start.resync(), "without a version the client has to start from the full roster");
+
+        MockEmployee carol = mockEmployeeService.create(input("Carol Diaz"));
+        mockEmployeeService.delete(deleteInput("Alice Johnson"));
+        MockEmployeeChanges first = mockEmployeeService.getChanges(start.epoch(), start.version(), 1);
+        MockEmployeeChanges rest = mockEmployeeService.getChanges(first.epoch(), first.version(), 10);
+
+        assertEquals(List.of(new MockEmployeeChange(start.version() + 1, MockEmployeeChange.Type.CREATED, carol)),
+                first.changes());
+        assertTrue(first.hasMore());
+        assertEquals(List.of(new MockEmployeeChange(start.version() + 2, MockEmployeeChange.Type.DELETED, ALICE)),
+                rest.changes());
+        assertFalse(rest.hasMore());
+        assertTrue(mockEmployeeService.getChanges(rest.epoch(), rest.version(), 10).changes().isEmpty());
+        assertTrue(mockEmployeeService.getChanges("0", rest.version(), 10).resync(), "another server's versions");
+    }
+
+    @Test
+    void testChangesAgedOutOfTheFeedAskForResync() {
+        MockEmployeeService service = new MockEmployeeService(
+                new Faker(Locale.ROOT), new ArrayList<>(List.of(ALICE, BOB)), Optional.empty(), 2);
+        MockEmployeeChanges start = service.getChanges(null, null, 10);
+        service.create(input("Carol Diaz"));
+        service.create(input("Dave Brown"));
+        assertEquals(2, service.getChanges(start.epoch(), start.version(), 10).changes().size());
+
+        service.create(input("Erin Moore"));
+
+        MockEmployeeChanges aged = service.getChanges(start.epoch(), start.version(), 10);
+        assertTrue(aged.resync());
+        assertEquals(start.version() + 3, aged.version());
+        assertEquals(2, service.getChanges(start.epoch(), start.version() + 1, 10).changes().size());
+    }
+
+    @Test
+    void testConcurrentCreatesAndDeletesLoseNoUpdates() throws Exception {
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<MockEmployee>>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            results.add(executor.submit(() -> {
+                start.await();
+                List<MockEmployee> kept = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) {
+                    MockEmployee created = mockEmployeeService.create(input("Worker " + thread + " #" + i));
+                    if (i % 2 == 0) {
+                        assertTrue(mockEmployeeService.delete(deleteInput(created.getName())));
+                    } else {
+                        kept.add(created);
+                    }
+                    mockEmployeeService.getMockEmployees();
+                }
+                return kept;
+            }));
+        }
+        start.countDown();
+        List<List<MockEmployee>> keptPerThread = new ArrayList<>();
+        for (Future<List<MockEmployee>> result : results) {
+            keptPerThread.add(result.get());
+        }
+        executor.shutdown();
+
+        List<MockEmployee> all = mockEmployeeService.getMockEmployees();
+        assertEquals(2 + threads * perThread / 2, all.size());
+        assertEquals(all.size(), new HashSet<>(all).size(), "no employee listed twice");
+        Set<MockEmployee> listed = new HashSet<>(all);
+        for (List<MockEmployee> kept : keptPerThread) {
+            for (MockEmployee employee : kept) {
+                assertTrue(listed.contains(employee));
+                assertEquals(employee, mockEmployeeService.findById(employee.getId()).orElseThrow());
+            }
+            List<MockEmployee> listedOrder = new ArrayList<>(all);
+            listedOrder.retainAll(kept);
+            assertEquals(kept, listedOrder, "each thread's employees are listed in creation order");
+        }
+    }
+}
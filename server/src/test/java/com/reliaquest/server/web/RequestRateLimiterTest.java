@@ -0,0 +1,129 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static RequestRateLimiter fixed(int limit, Duration window) {
+        return RequestRateLimiter.create(RequestRateLimiter.Mode.FIXED, limit, window, null, 100);
+    }
+
+    @Test
+    void testBurstThenOneTokenPerInterval() {
+        RequestRateLimiter limiter = fixed(3, Duration.ofSeconds(30));
+        long now = 1_000 * SECOND;
+
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(0, limiter.acquire("a", now));
+        assertEquals(10 * SECOND, limiter.acquire("a", now));
+        assertEquals(SECOND, limiter.acquire("a", now + 9 * SECOND));
+        assertEquals(0, limiter.acquire("a", now + 10 * SECOND));
+        assertEquals(10 * SECOND, limiter.acquire("a", now + 10 * SECOND));
+        assertEquals(0, limiter.acquire("b", now), "clients have their own buckets");
+        assertEquals(5, limiter.admitted());
+        assertEquals(3, limiter.rejected());
+    }
+
+    @Test
+    void testRandomModeIsRepeatableWithSeed() {
+        RequestRateLimiter first = RequestRateLimiter.create(RequestRateLimiter.Mode.RANDOM, 0, Duration.ZERO, 7L, 10);
+        RequestRateLimiter second = RequestRateLimiter.create(RequestRateLimiter.Mode.RANDOM, 0, Duration.ZERO, 7L, 10);
+
+        assertEquals(first.limit(), second.limit());
+        assertEquals(first.window(), second.window());
+        assertTrue(first.limit() >= 5 && first.limit() < 10);
+        assertTrue(first.window().toSeconds() >= 30 && first.window().toSeconds() < 90);
+    }
+
+    @Test
+    void testConcurrentRequestsNeverOverAdmit() throws Exception {
+        RequestRateLimiter limiter = fixed(100, Duration.ofHours(1));
+        long now = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int admitted = 0;
+                for (int i = 0; i < 1000; i++) {
+                    admitted += limiter.acquire("shared", now) == 0 ? 1 : 0;
+                }
+                return admitted;
+            }));
+        }
+        start.countDown();
+        int admitted = 0;
+        for (Future<Integer> result : results) {
+            admitted += result.get();
+        }
+        executor.shutdown();
+
+        assertEquals(100, admitted);
+        assertEquals(100, limiter.admitted());
+        assertEquals(7900, limiter.rejected());
+    }
+
+    @Test
+    void testRefilledClientsAreDroppedPastMaxClients() {
+        RequestRateLimiter limiter =
+                RequestRateLimiter.create(RequestRateLimiter.Mode.FIXED, 2, Duration.ofSeconds(2), null, 2);
+        long now = 1_000 * SECOND;
+        limiter.acquire("a", now);
+        limiter.acquire("b", now);
+
+        limiter.acquire("c", now + 5 * SECOND);
+
+        assertEquals(1, limiter.clients());
+    }
+
+    @Test
+    void testClientsPastTheCapShareOneBucketUntilASweepMakesRoom() {
+        RequestRateLimiter limiter =
+                RequestRateLimiter.create(RequestRateLimiter.Mode.FIXED, 1, Duration.ofSeconds(10), null, 2);
+        long now = 1_000 * SECOND;
+        limiter.acquire("a", now);
+        limiter.acquire("b", now);
+
+        assertEquals(0, limiter.acquire("c", now + SECOND), "no bucket has refilled, c gets the shared one");
+        assertEquals(10 * SECOND, limiter.acquire("d", now + SECOND), "d shares c's bucket");
+        assertEquals(6 * SECOND, limiter.acquire("e", now + 5 * SECOND), "no second sweep within the window");
+        assertEquals(2, limiter.clients());
+
+        assertEquals(0, limiter.acquire("f", now + 12 * SECOND));
+        assertEquals(1, limiter.clients());
+    }
+
+    @Test
+    void testInterceptorKeysByHeaderAndSetsRetryAfter() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(fixed(1, Duration.ofSeconds(90)), "X-Client-Id");
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        first.addHeader("X-Client-Id", "load-test-1");
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        second.addHeader("X-Client-Id", "load-test-2");
+
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), new Object()));
+        assertTrue(interceptor.preHandle(second, new MockHttpServletResponse(), new Object()));
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(first, rejected, new Object()));
+
+        assertEquals(429, rejected.getStatus());
+        long retryAfter = Long.parseLong(rejected.getHeader("Retry-After"));
+        assertTrue(retryAfter > 85 && retryAfter <= 90, "Retry-After " + retryAfter);
+    }
+}